@@ -0,0 +1,10 @@
+-- Adds aggregate_key to notification. Aggregated notifications keep one row per (recipient, record, type, time bucket)
+-- under this key. Existing rows keep a NULL key, and MariaDB allows any number of NULLs in a unique index,
+-- so the index can be built without backfilling.
+-- Run this before notification-args-columns-migration.sql.
+
+ALTER TABLE notification
+    ADD COLUMN IF NOT EXISTS aggregate_key varchar(255) null comment '집계 알림 키' AFTER args,
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_notification_aggregate_key ON notification(aggregate_key);
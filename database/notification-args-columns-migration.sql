@@ -0,0 +1,27 @@
+-- Adds record_id, feed_id and comment_id columns to notification and backfills them from args.
+-- The backfill runs in chunks of 10000 rows so that it does not hold long row locks on a live table.
+-- Run it repeatedly until it reports 0 updated rows.
+-- The new columns are placed after aggregate_key, so run notification-aggregate-key-migration.sql first.
+
+ALTER TABLE notification
+    ADD COLUMN IF NOT EXISTS record_id  int null comment '알림 대상 기록 아이디' AFTER aggregate_key,
+    ADD COLUMN IF NOT EXISTS feed_id    int null comment '알림 대상 피드 아이디' AFTER record_id,
+    ADD COLUMN IF NOT EXISTS comment_id int null comment '알림 대상 댓글 아이디' AFTER feed_id;
+
+-- backfill
+UPDATE notification
+SET record_id  = JSON_VALUE(args, '$.record.id'),
+    feed_id    = JSON_VALUE(args, '$.feed.id'),
+    comment_id = JSON_VALUE(args, '$.comment.id')
+WHERE args IS NOT NULL
+  AND record_id IS NULL
+  AND feed_id IS NULL
+  AND comment_id IS NULL
+  AND (JSON_VALUE(args, '$.record.id') IS NOT NULL
+    OR JSON_VALUE(args, '$.feed.id') IS NOT NULL
+    OR JSON_VALUE(args, '$.comment.id') IS NOT NULL)
+LIMIT 10000;
+
+CREATE INDEX IF NOT EXISTS idx_notification_record ON notification(record_id);
+CREATE INDEX IF NOT EXISTS idx_notification_feed ON notification(feed_id);
+CREATE INDEX IF NOT EXISTS idx_notification_comment ON notification(comment_id);
@@ -0,0 +1,4 @@
+-- Adds the index that serves the keyset-paginated notification inbox, which reads a user's notifications
+-- ordered by (created_date_time, id_notification) descending.
+
+CREATE INDEX IF NOT EXISTS idx_notification_users_created ON notification(id_users_to, created_date_time, id_notification);
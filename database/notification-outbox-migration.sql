@@ -0,0 +1,17 @@
+-- Adds the notification_outbox table polled by the notification outbox relay.
+-- Apply before deploying the relay, otherwise it polls a table that does not exist.
+
+create table if not exists notification_outbox
+(
+    id_notification_outbox int auto_increment comment '알림 아웃박스 PK' primary key,
+    id_users_to            int                                     not null comment '알림 받는 사용자 아이디',
+    id_users_from          int                                     null comment '알림 보낸 사용자 아이디',
+    type                   varchar(50)                             not null comment '알림 타입',
+    args                   longtext collate utf8mb4_bin            null comment '인수' check (json_valid(`args`)),
+    coalesce_key           varchar(255)                            not null comment '중복 알림 병합 키',
+    created_date_time      datetime    default current_timestamp() not null comment '아웃박스 생성 시간',
+    modified_date_time     datetime    default current_timestamp() not null comment '아웃박스 수정 시간',
+    deleted_date_time      datetime                                null comment '아웃박스 삭제 시간'
+) comment '알림 아웃박스';
+
+CREATE INDEX IF NOT EXISTS idx_notification_outbox_coalesce_key ON notification_outbox(coalesce_key);
@@ -0,0 +1,22 @@
+-- Adds the notification_archive table and the indexes read by the notification retention job.
+-- idx_notification_status_created serves the READ archive chunks, idx_notification_deleted the purge chunks.
+
+create table if not exists notification_archive
+(
+    id_notification    int                          not null comment '알림 아이디' primary key,
+    id_users_to        int                          null comment '알림 받는 사용자 아이디',
+    type               varchar(50)                  not null comment '알림 타입',
+    status             varchar(20)                  not null comment '알림 상태(읽음/읽지 않음)',
+    args               longtext collate utf8mb4_bin null comment '인수' check (json_valid(`args`)),
+    record_id          int                          null comment '알림 대상 기록 아이디',
+    feed_id            int                          null comment '알림 대상 피드 아이디',
+    comment_id         int                          null comment '알림 대상 댓글 아이디',
+    created_date_time  datetime                     null comment '알림 생성 시간',
+    modified_date_time datetime                     null comment '알림 수정 시간',
+    archived_date_time datetime                     not null comment '알림 보관 시간'
+) comment '보관된 알림';
+
+CREATE INDEX IF NOT EXISTS idx_notification_archive_users ON notification_archive(id_users_to);
+
+CREATE INDEX IF NOT EXISTS idx_notification_status_created ON notification(status, created_date_time);
+CREATE INDEX IF NOT EXISTS idx_notification_deleted ON notification(deleted_date_time);
@@ -0,0 +1,9 @@
+-- Adds the purge_checkpoint table where the soft delete purge job records the last primary key it purged per table.
+-- Apply before enabling the purge job.
+
+create table if not exists purge_checkpoint
+(
+    target             varchar(50) not null comment '정리 대상 테이블' primary key,
+    last_id            bigint      not null comment '마지막으로 정리한 PK',
+    modified_date_time datetime    null comment '체크포인트 수정 시간'
+) comment '소프트 삭제 정리 체크포인트';
@@ -54,12 +54,51 @@ create table notification
     type               varchar(50)                             not null comment '알림 타입',
     status             varchar(20) default 'UNREAD'            not null comment '알림 상태(읽음/읽지 않음)',
     args               longtext collate utf8mb4_bin            null comment '인수' check (json_valid(`args`)),
+    aggregate_key      varchar(255)                            null comment '집계 알림 키',
+    record_id          int                                     null comment '알림 대상 기록 아이디',
+    feed_id            int                                     null comment '알림 대상 피드 아이디',
+    comment_id         int                                     null comment '알림 대상 댓글 아이디',
     created_date_time  datetime    default current_timestamp() not null comment '알림 생성 시간',
     modified_date_time datetime    default current_timestamp() not null comment '알림 수정 시간',
     deleted_date_time  datetime                                null comment '알림 삭제 시간',
     constraint fk_notification_users_to foreign key (id_users_to) references users (id_users) on delete cascade
 ) comment '알림';
 
+create table notification_archive
+(
+    id_notification    int                          not null comment '알림 아이디' primary key,
+    id_users_to        int                          null comment '알림 받는 사용자 아이디',
+    type               varchar(50)                  not null comment '알림 타입',
+    status             varchar(20)                  not null comment '알림 상태(읽음/읽지 않음)',
+    args               longtext collate utf8mb4_bin null comment '인수' check (json_valid(`args`)),
+    record_id          int                          null comment '알림 대상 기록 아이디',
+    feed_id            int                          null comment '알림 대상 피드 아이디',
+    comment_id         int                          null comment '알림 대상 댓글 아이디',
+    created_date_time  datetime                     null comment '알림 생성 시간',
+    modified_date_time datetime                     null comment '알림 수정 시간',
+    archived_date_time datetime                     not null comment '알림 보관 시간'
+) comment '보관된 알림';
+
+create table notification_outbox
+(
+    id_notification_outbox int auto_increment comment '알림 아웃박스 PK' primary key,
+    id_users_to            int                                     not null comment '알림 받는 사용자 아이디',
+    id_users_from          int                                     null comment '알림 보낸 사용자 아이디',
+    type                   varchar(50)                             not null comment '알림 타입',
+    args                   longtext collate utf8mb4_bin            null comment '인수' check (json_valid(`args`)),
+    coalesce_key           varchar(255)                            not null comment '중복 알림 병합 키',
+    created_date_time      datetime    default current_timestamp() not null comment '아웃박스 생성 시간',
+    modified_date_time     datetime    default current_timestamp() not null comment '아웃박스 수정 시간',
+    deleted_date_time      datetime                                null comment '아웃박스 삭제 시간'
+) comment '알림 아웃박스';
+
+create table purge_checkpoint
+(
+    target             varchar(50) not null comment '정리 대상 테이블' primary key,
+    last_id            bigint      not null comment '마지막으로 정리한 PK',
+    modified_date_time datetime    null comment '체크포인트 수정 시간'
+) comment '소프트 삭제 정리 체크포인트';
+
 create table record
 (
     id_record          int auto_increment comment '기록 PK' primary key,
@@ -130,28 +169,41 @@ create index idx_user_id on user_record_like (id_users) comment '유저 PK 인
 CREATE INDEX idx_users_nickname ON users(nickname);
 
 -- user_record_like table
-CREATE INDEX idx_user_record_like_user ON user_record_like(id_users);
-CREATE INDEX idx_user_record_like_record ON user_record_like(id_record);
+CREATE INDEX idx_user_record_like_user ON user_record_like(id_users, deleted_date_time, created_date_time);
+CREATE INDEX idx_user_record_like_record ON user_record_like(id_record, deleted_date_time);
 CREATE INDEX idx_user_record_like_user_record ON user_record_like(id_users, id_record);
 
 -- record table
-CREATE INDEX idx_record_feed ON record(id_feed);
 CREATE INDEX idx_record_user ON record(id_author);
-CREATE INDEX idx_record_feed_date ON record(id_feed, date);
-CREATE INDEX idx_record_feed_user ON record(id_feed, id_author);
+CREATE INDEX idx_record_feed_date ON record(id_feed, deleted_date_time, date, sequence);
+CREATE INDEX idx_record_feed_user ON record(id_feed, id_author, deleted_date_time);
 
 -- notification table
-CREATE INDEX idx_notification_users ON notification(id_users_to);
 CREATE INDEX idx_notification_status ON notification(status);
-CREATE INDEX idx_notification_users_type ON notification(id_users_to, type);
+CREATE INDEX idx_notification_users_type ON notification(id_users_to, type, deleted_date_time, created_date_time);
+CREATE INDEX idx_notification_users_created ON notification(id_users_to, deleted_date_time, created_date_time, id_notification);
+CREATE UNIQUE INDEX uk_notification_aggregate_key ON notification(aggregate_key);
+CREATE INDEX idx_notification_record ON notification(record_id);
+CREATE INDEX idx_notification_feed ON notification(feed_id);
+CREATE INDEX idx_notification_comment ON notification(comment_id);
+
+CREATE INDEX idx_notification_status_created ON notification(status, deleted_date_time, created_date_time);
+CREATE INDEX idx_notification_deleted ON notification(deleted_date_time);
+
+-- notification_archive table
+CREATE INDEX idx_notification_archive_users ON notification_archive(id_users_to);
+
+-- notification_outbox table
+CREATE INDEX idx_notification_outbox_coalesce_key ON notification_outbox(coalesce_key);
 
 -- feed_contributor table
 CREATE INDEX idx_contributor_users_feed ON feed_contributor(id_users, id_feed);
+CREATE INDEX idx_contributor_users_created ON feed_contributor(id_users, deleted_date_time, created_date_time);
 
 -- feed table
-CREATE INDEX idx_feed_users ON feed(id_owner);
+CREATE INDEX idx_feed_users ON feed(id_owner, deleted_date_time, start_at);
 
 -- comment table
-CREATE INDEX idx_comment_users ON comment(id_users);
-CREATE INDEX idx_comment_record ON comment(id_record);
-CREATE INDEX idx_comment_parent ON comment(id_parent);
+CREATE INDEX idx_comment_users ON comment(id_users, deleted_date_time, created_date_time);
+CREATE INDEX idx_comment_record ON comment(id_record, id_parent, deleted_date_time, created_date_time);
+CREATE INDEX idx_comment_parent ON comment(id_parent, deleted_date_time, created_date_time);
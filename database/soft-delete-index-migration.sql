@@ -0,0 +1,49 @@
+-- MariaDB has no partial indexes, so the soft-delete predicate (deleted_date_time IS NULL) is covered by putting
+-- deleted_date_time right after the equality columns of each index, followed by the default sort key of the
+-- endpoint that reads it. IS NULL is an equality lookup, so the index still returns rows in sort order.
+-- Each table is rebuilt with a single online ALTER so the foreign keys always keep a usable index.
+-- Run after notification-inbox-index-migration.sql and notification-retention-migration.sql; the notification indexes
+-- they add are dropped with IF EXISTS so the script also works on databases that skipped them.
+
+ALTER TABLE record
+    DROP INDEX idx_record_feed,
+    DROP INDEX idx_record_feed_date,
+    DROP INDEX idx_record_feed_user,
+    ADD INDEX idx_record_feed_date (id_feed, deleted_date_time, date, sequence),
+    ADD INDEX idx_record_feed_user (id_feed, id_author, deleted_date_time),
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+ALTER TABLE feed
+    DROP INDEX idx_feed_users,
+    ADD INDEX idx_feed_users (id_owner, deleted_date_time, start_at),
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+ALTER TABLE comment
+    DROP INDEX idx_comment_users,
+    DROP INDEX idx_comment_record,
+    DROP INDEX idx_comment_parent,
+    ADD INDEX idx_comment_users (id_users, deleted_date_time, created_date_time),
+    ADD INDEX idx_comment_record (id_record, id_parent, deleted_date_time, created_date_time),
+    ADD INDEX idx_comment_parent (id_parent, deleted_date_time, created_date_time),
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+ALTER TABLE user_record_like
+    DROP INDEX idx_user_record_like_user,
+    DROP INDEX idx_user_record_like_record,
+    ADD INDEX idx_user_record_like_user (id_users, deleted_date_time, created_date_time),
+    ADD INDEX idx_user_record_like_record (id_record, deleted_date_time),
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+ALTER TABLE feed_contributor
+    ADD INDEX idx_contributor_users_created (id_users, deleted_date_time, created_date_time),
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+ALTER TABLE notification
+    DROP INDEX idx_notification_users,
+    DROP INDEX idx_notification_users_type,
+    DROP INDEX IF EXISTS idx_notification_users_created,
+    DROP INDEX IF EXISTS idx_notification_status_created,
+    ADD INDEX idx_notification_users_type (id_users_to, type, deleted_date_time, created_date_time),
+    ADD INDEX idx_notification_users_created (id_users_to, deleted_date_time, created_date_time, id_notification),
+    ADD INDEX idx_notification_status_created (status, deleted_date_time, created_date_time),
+    ALGORITHM = INPLACE, LOCK = NONE;
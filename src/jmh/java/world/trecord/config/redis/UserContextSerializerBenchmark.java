@@ -0,0 +1,56 @@
+package world.trecord.config.redis;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import world.trecord.config.security.account.UserContext;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the binary UserContext codec with the Jackson serializer it replaces.
+ * Run with {@code ./gradlew jmh}; the encoded sizes are printed once per fork.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UserContextSerializerBenchmark {
+
+    private final RedisSerializer<UserContext> jsonSerializer = new Jackson2JsonRedisSerializer<>(UserContext.class);
+    private final RedisSerializer<UserContext> binarySerializer = new UserContextBinaryRedisSerializer();
+
+    private UserContext userContext;
+    private byte[] jsonBytes;
+    private byte[] binaryBytes;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        userContext = new UserContext(1234L, "nickname", "여행을 좋아하는 개발자입니다", "https://cdn.trecord.world/profile/1234.png", "ROLE_USER", now, now, null);
+        jsonBytes = jsonSerializer.serialize(userContext);
+        binaryBytes = binarySerializer.serialize(userContext);
+        System.out.printf("%nencoded size - json: %d bytes, binary: %d bytes%n", jsonBytes.length, binaryBytes.length);
+    }
+
+    @Benchmark
+    public byte[] serializeJson() {
+        return jsonSerializer.serialize(userContext);
+    }
+
+    @Benchmark
+    public byte[] serializeBinary() {
+        return binarySerializer.serialize(userContext);
+    }
+
+    @Benchmark
+    public void deserializeJson(Blackhole blackhole) {
+        blackhole.consume(jsonSerializer.deserialize(jsonBytes));
+    }
+
+    @Benchmark
+    public void deserializeBinary(Blackhole blackhole) {
+        blackhole.consume(binarySerializer.deserialize(binaryBytes));
+    }
+}
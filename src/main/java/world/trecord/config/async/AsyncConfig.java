@@ -1,37 +1,78 @@
 package world.trecord.config.async;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import world.trecord.config.properties.AsyncProperties;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 @Slf4j
 @EnableAsync
 @Configuration
-public class AsyncConfig implements AsyncConfigurer {
+@RequiredArgsConstructor
+public class AsyncConfig implements AsyncConfigurer, MeterBinder, DisposableBean {
+
+    private final AsyncProperties asyncProperties;
+    private BoundedAsyncExecutor asyncExecutor;
 
     @Override
-    public Executor getAsyncExecutor() {
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        int processors = Runtime.getRuntime().availableProcessors();
+    public synchronized Executor getAsyncExecutor() {
+        if (asyncExecutor == null) {
+            log.info("Initializing async executor in [{}] mode", asyncProperties.getMode());
+            ExecutorService delegate = asyncProperties.getMode() == AsyncExecutorMode.VIRTUAL ? createVirtualThreadExecutor() : createPlatformThreadExecutor();
+            asyncExecutor = new BoundedAsyncExecutor(delegate, asyncProperties.getMaxConcurrentTasks(), asyncProperties.getQueueCapacity());
+            log.info("Setting max concurrent tasks: {}", asyncProperties.getMaxConcurrentTasks());
+        }
+        return asyncExecutor;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        ((BoundedAsyncExecutor) getAsyncExecutor()).bindTo(registry);
+    }
 
-        log.info("Initializing async executor");
-        log.info("Available processors count: {}", processors);
+    @Override
+    public synchronized void destroy() {
+        if (asyncExecutor != null) {
+            asyncExecutor.shutdown();
+        }
+    }
+
+    private ExecutorService createVirtualThreadExecutor() {
+        // Executors.newVirtualThreadPerTaskExecutor only exists from Java 21, so it is looked up at runtime
+        try {
+            ExecutorService executor = (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            log.info("Async executor initialized with virtual threads");
+            return executor;
+        } catch (ReflectiveOperationException ex) {
+            log.warn("Virtual threads are not available on Java {}. Falling back to platform threads.", Runtime.version().feature());
+            return createPlatformThreadExecutor();
+        }
+    }
+
+    private ExecutorService createPlatformThreadExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
 
-        executor.setCorePoolSize(processors);
-        log.info("Setting core pool size: {}", processors);
+        executor.setCorePoolSize(asyncProperties.getCorePoolSize());
+        log.info("Setting core pool size: {}", asyncProperties.getCorePoolSize());
 
-        executor.setMaxPoolSize(processors * 2);
-        log.info("Setting max pool size: {}", processors * 2);
+        executor.setMaxPoolSize(asyncProperties.getMaxPoolSize());
+        log.info("Setting max pool size: {}", asyncProperties.getMaxPoolSize());
 
-        executor.setQueueCapacity(50);
-        log.info("Setting queue capacity: 50");
+        executor.setQueueCapacity(asyncProperties.getQueueCapacity());
+        log.info("Setting queue capacity: {}", asyncProperties.getQueueCapacity());
 
-        executor.setKeepAliveSeconds(60);
-        log.info("Setting keep alive seconds: 60");
+        executor.setKeepAliveSeconds(asyncProperties.getKeepAliveSeconds());
+        log.info("Setting keep alive seconds: {}", asyncProperties.getKeepAliveSeconds());
 
         executor.setThreadNamePrefix("AsyncExecutor-");
         log.info("Setting thread name prefix: AsyncExecutor-");
@@ -39,6 +80,6 @@ public class AsyncConfig implements AsyncConfigurer {
         executor.initialize();
         log.info("Async executor initialized");
 
-        return executor;
+        return executor.getThreadPoolExecutor();
     }
 }
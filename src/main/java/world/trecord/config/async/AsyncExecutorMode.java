@@ -0,0 +1,5 @@
+package world.trecord.config.async;
+
+public enum AsyncExecutorMode {
+    PLATFORM, VIRTUAL
+}
@@ -0,0 +1,146 @@
+package world.trecord.config.async;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Executor for {@code @Async} work that bounds how many tasks run at the same time with a semaphore.
+ * A permit is taken before a task is handed to the underlying executor, so pool threads never block waiting for one.
+ * Tasks that find no free permit wait in a bounded pending queue and are submitted as permits are released.
+ * When the pending queue is full or the underlying executor rejects a task, the task runs on the caller thread instead of failing.
+ */
+@Slf4j
+public class BoundedAsyncExecutor implements Executor, MeterBinder {
+
+    private final ExecutorService delegate;
+    private final Semaphore permits;
+    private final int maxConcurrentTasks;
+    private final BlockingQueue<Runnable> pendingTasks;
+    private final AtomicInteger queuedTasks = new AtomicInteger(0);
+    private final AtomicInteger activeTasks = new AtomicInteger(0);
+    private final LongAdder rejectedTasks = new LongAdder();
+    private volatile Timer taskLatency;
+
+    public BoundedAsyncExecutor(ExecutorService delegate, int maxConcurrentTasks, int maxPendingTasks) {
+        this.delegate = delegate;
+        this.maxConcurrentTasks = maxConcurrentTasks;
+        this.permits = new Semaphore(maxConcurrentTasks);
+        this.pendingTasks = new LinkedBlockingQueue<>(Math.max(maxPendingTasks, 1));
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        long submittedAt = System.nanoTime();
+        Runnable boundedTask = () -> runBounded(task, submittedAt);
+
+        if (permits.tryAcquire()) {
+            submit(boundedTask);
+            return;
+        }
+
+        queuedTasks.incrementAndGet();
+        if (!pendingTasks.offer(boundedTask)) {
+            queuedTasks.decrementAndGet();
+            rejectedTasks.increment();
+            log.warn("Async executor saturated. Running task on caller thread [{}].", Thread.currentThread().getName());
+            // The caller thread does not take a permit, so a saturated executor slows callers down instead of failing them
+            boundedTask.run();
+            return;
+        }
+
+        // A running task may have released its permit between the failed tryAcquire and the offer
+        drainPendingTasks();
+    }
+
+    public int getQueuedTasks() {
+        return queuedTasks.get();
+    }
+
+    public int getActiveTasks() {
+        return activeTasks.get();
+    }
+
+    public long getRejectedTasks() {
+        return rejectedTasks.sum();
+    }
+
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("async.executor.queued", this, BoundedAsyncExecutor::getQueuedTasks)
+                .description("Number of async tasks waiting to run")
+                .register(registry);
+        Gauge.builder("async.executor.active", this, BoundedAsyncExecutor::getActiveTasks)
+                .description("Number of async tasks currently running")
+                .register(registry);
+        Gauge.builder("async.executor.limit", () -> maxConcurrentTasks)
+                .description("Maximum number of async tasks running at the same time")
+                .register(registry);
+        FunctionCounter.builder("async.executor.rejected", rejectedTasks, LongAdder::sum)
+                .description("Number of async tasks rejected by the executor and run on the caller thread")
+                .register(registry);
+        taskLatency = Timer.builder("async.executor.task.latency")
+                .description("Time from submitting an async task until it completes")
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    // Caller must hold a permit. The permit is released when the task completes.
+    private void submit(Runnable boundedTask) {
+        try {
+            delegate.execute(() -> {
+                try {
+                    boundedTask.run();
+                } finally {
+                    permits.release();
+                    drainPendingTasks();
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            rejectedTasks.increment();
+            log.warn("Async executor rejected task. Running task on caller thread [{}].", Thread.currentThread().getName());
+            try {
+                boundedTask.run();
+            } finally {
+                permits.release();
+                drainPendingTasks();
+            }
+        }
+    }
+
+    private void drainPendingTasks() {
+        while (!pendingTasks.isEmpty() && permits.tryAcquire()) {
+            Runnable next = pendingTasks.poll();
+            if (next == null) {
+                permits.release();
+                return;
+            }
+            queuedTasks.decrementAndGet();
+            submit(next);
+        }
+    }
+
+    private void runBounded(Runnable task, long submittedAt) {
+        activeTasks.incrementAndGet();
+        try {
+            task.run();
+        } finally {
+            activeTasks.decrementAndGet();
+            Timer timer = taskLatency;
+            if (timer != null) {
+                timer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+}
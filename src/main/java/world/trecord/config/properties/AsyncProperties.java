@@ -0,0 +1,38 @@
+package world.trecord.config.properties;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+import world.trecord.config.async.AsyncExecutorMode;
+
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "async")
+@Validated
+public class AsyncProperties {
+
+    @NotNull(message = "Async executor mode must not be null")
+    private AsyncExecutorMode mode = AsyncExecutorMode.PLATFORM;
+
+    @Positive(message = "Async core pool size must be positive")
+    private int corePoolSize = Runtime.getRuntime().availableProcessors();
+
+    @Positive(message = "Async max pool size must be positive")
+    private int maxPoolSize = Runtime.getRuntime().availableProcessors() * 2;
+
+    @PositiveOrZero(message = "Async queue capacity must not be negative")
+    private int queueCapacity = 500;
+
+    @PositiveOrZero(message = "Async keep alive seconds must not be negative")
+    private int keepAliveSeconds = 60;
+
+    // Async listeners hold a JDBC connection while they run, so this should not exceed the connection pool size
+    @Positive(message = "Async max concurrent tasks must be positive")
+    private int maxConcurrentTasks = 10;
+}
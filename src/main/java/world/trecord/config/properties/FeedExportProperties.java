@@ -0,0 +1,30 @@
+package world.trecord.config.properties;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "feed.export")
+@Validated
+public class FeedExportProperties {
+
+    @Positive(message = "Feed export fetch size must be positive")
+    private int fetchSize = 500;
+
+    // Every running export holds a pooled connection until the last row is written
+    @Positive(message = "Feed export max concurrent exports must be positive")
+    private int maxConcurrentExports = 2;
+
+    // Async request timeout of a single export, so that only exports get a long timeout
+    @NotNull(message = "Feed export timeout must not be null")
+    private Duration timeout = Duration.ofMinutes(30);
+}
@@ -2,6 +2,7 @@ package world.trecord.config.properties;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -20,4 +21,7 @@ public class JwtProperties {
 
     @NotNull(message = "JWT Token Expired Time must not be null")
     private Long tokenExpiredTimeMs;
+
+    @PositiveOrZero(message = "JWT Token Cache Max Size must not be negative")
+    private int tokenCacheMaxSize = 10_000;
 }
@@ -0,0 +1,96 @@
+package world.trecord.config.properties;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+import world.trecord.domain.notification.enumeration.NotificationType;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Set;
+
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "notification")
+@Validated
+public class NotificationProperties {
+
+    @Valid
+    private final Outbox outbox = new Outbox();
+
+    @Valid
+    private final Coalesce coalesce = new Coalesce();
+
+    @Valid
+    private final Aggregate aggregate = new Aggregate();
+
+    @Valid
+    private final UnreadCount unreadCount = new UnreadCount();
+
+    @Valid
+    private final Retention retention = new Retention();
+
+    @Setter
+    @Getter
+    public static class Outbox {
+        @Positive(message = "Notification outbox batch size must be positive")
+        private int batchSize = 100;
+
+        @Positive(message = "Notification outbox max batches per poll must be positive")
+        private int maxBatchesPerPoll = 10;
+    }
+
+    @Setter
+    @Getter
+    public static class Coalesce {
+        @NotNull(message = "Notification coalesce window must not be null")
+        private Duration window = Duration.ofMinutes(10);
+
+        @NotNull(message = "Notification coalesce types must not be null")
+        private Set<NotificationType> types = EnumSet.of(NotificationType.RECORD_LIKE);
+    }
+
+    @Setter
+    @Getter
+    public static class Aggregate {
+        @NotNull(message = "Notification aggregate bucket must not be null")
+        private Duration bucket = Duration.ofDays(1);
+
+        @Positive(message = "Notification aggregate max actors must be positive")
+        private int maxActors = 3;
+    }
+
+    @Setter
+    @Getter
+    public static class UnreadCount {
+        @NotNull(message = "Unread notification count TTL must not be null")
+        private Duration ttl = Duration.ofMinutes(10);
+    }
+
+    @Setter
+    @Getter
+    public static class Retention {
+        private boolean enabled = true;
+
+        @NotNull(message = "Notification retention for deleted rows must not be null")
+        private Duration deletedRetention = Duration.ofDays(30);
+
+        @NotNull(message = "Notification archive age for read rows must not be null")
+        private Duration readArchiveAfter = Duration.ofDays(90);
+
+        @Positive(message = "Notification retention chunk size must be positive")
+        private int chunkSize = 1000;
+
+        @NotNull(message = "Notification retention pause must not be null")
+        private Duration pause = Duration.ofMillis(200);
+
+        @NotNull(message = "Notification retention max run time must not be null")
+        private Duration maxRunTime = Duration.ofMinutes(10);
+    }
+}
@@ -0,0 +1,74 @@
+package world.trecord.config.properties;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+import world.trecord.domain.purge.PurgeTarget;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "purge")
+@Validated
+public class PurgeProperties {
+
+    private boolean enabled = true;
+
+    @NotNull(message = "Purge retention must not be null")
+    private Duration retention = Duration.ofDays(30);
+
+    @Positive(message = "Purge chunk size must be positive")
+    private int chunkSize = 1000;
+
+    @NotNull(message = "Purge pause must not be null")
+    private Duration pause = Duration.ofMillis(100);
+
+    @NotNull(message = "Purge max backoff must not be null")
+    private Duration maxBackoff = Duration.ofSeconds(30);
+
+    @PositiveOrZero(message = "Purge max retries must not be negative")
+    private int maxRetries = 5;
+
+    @NotNull(message = "Purge max run time must not be null")
+    private Duration maxRunTime = Duration.ofMinutes(30);
+
+    // Per-table overrides; a target missing from this map uses the defaults above
+    private Map<PurgeTarget, @Valid Policy> policies = new EnumMap<>(PurgeTarget.class);
+
+    public boolean isEnabled(PurgeTarget target) {
+        Policy policy = policies.get(target);
+        return Objects.isNull(policy) || policy.isEnabled();
+    }
+
+    public Duration getRetention(PurgeTarget target) {
+        Policy policy = policies.get(target);
+        return Objects.isNull(policy) || Objects.isNull(policy.getRetention()) ? retention : policy.getRetention();
+    }
+
+    public int getChunkSize(PurgeTarget target) {
+        Policy policy = policies.get(target);
+        return Objects.isNull(policy) || Objects.isNull(policy.getChunkSize()) ? chunkSize : policy.getChunkSize();
+    }
+
+    @Setter
+    @Getter
+    public static class Policy {
+        private boolean enabled = true;
+
+        private Duration retention;
+
+        @Positive(message = "Purge policy chunk size must be positive")
+        private Integer chunkSize;
+    }
+}
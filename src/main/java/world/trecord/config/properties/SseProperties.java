@@ -0,0 +1,101 @@
+package world.trecord.config.properties;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+import world.trecord.event.sse.SseOverflowPolicy;
+
+import java.time.Duration;
+
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "sse")
+@Validated
+public class SseProperties {
+
+    @Valid
+    private final Broker broker = new Broker();
+
+    @Valid
+    private final Replay replay = new Replay();
+
+    @Valid
+    private final Outbound outbound = new Outbound();
+
+    @Valid
+    private final Admission admission = new Admission();
+
+    @Setter
+    @Getter
+    public static class Broker {
+        @NotBlank(message = "SSE broker channel prefix must not be blank")
+        private String channelPrefix = "sse:notification:";
+
+        @Positive(message = "SSE broker shard count must be positive")
+        private int shardCount = 16;
+    }
+
+    @Setter
+    @Getter
+    public static class Replay {
+        @PositiveOrZero(message = "SSE replay buffer size must not be negative")
+        private int bufferSize = 50;
+
+        @NotNull(message = "SSE replay retention must not be null")
+        private Duration retention = Duration.ofMinutes(30);
+
+        // Every instance buffers the events of all users, so the total number of buffered events is capped
+        @Positive(message = "SSE replay max events must be positive")
+        private long maxEvents = 100_000;
+    }
+
+    @Setter
+    @Getter
+    public static class Outbound {
+        @Positive(message = "SSE outbound queue capacity must be positive")
+        private int queueCapacity = 100;
+
+        @NotNull(message = "SSE outbound overflow policy must not be null")
+        private SseOverflowPolicy overflowPolicy = SseOverflowPolicy.DROP_OLDEST;
+
+        @Positive(message = "SSE outbound writer threads must be positive")
+        private int writerThreads = Runtime.getRuntime().availableProcessors() * 2;
+
+        @NotNull(message = "SSE outbound write timeout must not be null")
+        private Duration writeTimeout = Duration.ofSeconds(10);
+
+        @Positive(message = "SSE outbound max events per drain must be positive")
+        private int maxEventsPerDrain = 16;
+    }
+
+    @Setter
+    @Getter
+    public static class Admission {
+        @Positive(message = "SSE max connections must be positive")
+        private int maxConnections = 1000;
+
+        @DecimalMin(value = "0.0", message = "SSE min free heap ratio must be between 0 and 1")
+        @DecimalMax(value = "1.0", message = "SSE min free heap ratio must be between 0 and 1")
+        private double minFreeHeapRatio = 0.1;
+
+        @DecimalMin(value = "0.0", message = "SSE max file descriptor usage ratio must be between 0 and 1")
+        @DecimalMax(value = "1.0", message = "SSE max file descriptor usage ratio must be between 0 and 1")
+        private double maxFileDescriptorUsageRatio = 0.9;
+
+        @PositiveOrZero(message = "SSE retry after seconds must not be negative")
+        private int retryAfterSeconds = 5;
+
+        @PositiveOrZero(message = "SSE retry after jitter seconds must not be negative")
+        private int retryAfterJitterSeconds = 10;
+    }
+}
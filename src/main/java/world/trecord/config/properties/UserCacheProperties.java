@@ -0,0 +1,36 @@
+package world.trecord.config.properties;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+import world.trecord.config.redis.UserContextCodec;
+
+import java.time.Duration;
+
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "cache.user")
+@Validated
+public class UserCacheProperties {
+
+    @NotNull(message = "User cache TTL must not be null")
+    private Duration ttl = Duration.ofDays(1);
+
+    @NotNull(message = "User local cache TTL must not be null")
+    private Duration localTtl = Duration.ofSeconds(30);
+
+    @PositiveOrZero(message = "User local cache max size must not be negative")
+    private long localMaxSize = 10_000;
+
+    @NotNull(message = "User cache codec must not be null")
+    private UserContextCodec codec = UserContextCodec.BINARY;
+
+    @NotBlank(message = "User cache invalidation channel must not be blank")
+    private String invalidationChannel = "user-context:invalidation";
+}
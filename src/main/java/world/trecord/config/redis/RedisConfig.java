@@ -9,9 +9,13 @@ import org.springframework.data.redis.connection.RedisConfiguration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import world.trecord.config.properties.UserCacheProperties;
 import world.trecord.config.security.account.UserContext;
 
 @Configuration
@@ -20,6 +24,7 @@ import world.trecord.config.security.account.UserContext;
 public class RedisConfig {
 
     private final RedisProperties redisProperties;
+    private final UserCacheProperties userCacheProperties;
 
     @Bean
     public RedisConnectionFactory redisConnectionFactory() {
@@ -35,7 +40,22 @@ public class RedisConfig {
         RedisTemplate<String, UserContext> redisTemplate = new RedisTemplate<>();
         redisTemplate.setConnectionFactory(redisConnectionFactory());
         redisTemplate.setKeySerializer(new StringRedisSerializer());
-        redisTemplate.setValueSerializer(new Jackson2JsonRedisSerializer<>(UserContext.class));
+        redisTemplate.setValueSerializer(userContextRedisSerializer());
         return redisTemplate;
     }
+
+    private RedisSerializer<UserContext> userContextRedisSerializer() {
+        return switch (userCacheProperties.getCodec()) {
+            case BINARY -> new UserContextBinaryRedisSerializer();
+            case JSON -> new Jackson2JsonRedisSerializer<>(UserContext.class);
+        };
+    }
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(UserCacheInvalidationListener userCacheInvalidationListener) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory());
+        container.addMessageListener(userCacheInvalidationListener, new ChannelTopic(userCacheProperties.getInvalidationChannel()));
+        return container;
+    }
 }
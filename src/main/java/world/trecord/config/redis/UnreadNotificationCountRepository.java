@@ -0,0 +1,66 @@
+package world.trecord.config.redis;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+import world.trecord.config.properties.NotificationProperties;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Per-user unread notification counter in Redis. Increments only apply to counters that already exist,
+ * so a missing counter is always reloaded from the database instead of starting from a partial value.
+ */
+@Slf4j
+@Repository
+public class UnreadNotificationCountRepository {
+
+    private static final RedisScript<Long> INCREMENT_IF_EXISTS_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return redis.call('INCRBY', KEYS[1], ARGV[1]) end return nil",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final NotificationProperties notificationProperties;
+
+    public UnreadNotificationCountRepository(StringRedisTemplate stringRedisTemplate, NotificationProperties notificationProperties) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.notificationProperties = notificationProperties;
+    }
+
+    public Optional<Long> getCount(Long userId) {
+        String value = stringRedisTemplate.opsForValue().get(getKey(userId));
+        if (value == null) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(Long.parseLong(value));
+        } catch (NumberFormatException ex) {
+            log.warn("Invalid unread notification count in Redis {}: {}", getKey(userId), value);
+            return Optional.empty();
+        }
+    }
+
+    public void setCountIfAbsent(Long userId, long count) {
+        stringRedisTemplate.opsForValue().setIfAbsent(getKey(userId), String.valueOf(count), notificationProperties.getUnreadCount().getTtl());
+    }
+
+    public void setCount(Long userId, long count) {
+        stringRedisTemplate.opsForValue().set(getKey(userId), String.valueOf(count), notificationProperties.getUnreadCount().getTtl());
+    }
+
+    public void increment(Long userId, long delta) {
+        stringRedisTemplate.execute(INCREMENT_IF_EXISTS_SCRIPT, List.of(getKey(userId)), String.valueOf(delta));
+    }
+
+    public void evict(Long userId) {
+        stringRedisTemplate.delete(getKey(userId));
+    }
+
+    private String getKey(Long userId) {
+        return "notification:unread:UID:" + userId;
+    }
+}
@@ -0,0 +1,28 @@
+package world.trecord.config.redis;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class UserCacheInvalidationListener implements MessageListener {
+
+    private final UserCacheRepository userCacheRepository;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), UTF_8);
+        try {
+            userCacheRepository.evictLocalUserContext(Long.valueOf(body));
+            log.info("Local UserContext evicted by invalidation message for user [{}]", body);
+        } catch (NumberFormatException ex) {
+            log.warn("Ignoring malformed user cache invalidation message [{}]", body);
+        }
+    }
+}
@@ -1,36 +1,87 @@
 package world.trecord.config.redis;
 
-import lombok.RequiredArgsConstructor;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.SerializationException;
 import org.springframework.stereotype.Repository;
+import world.trecord.config.properties.UserCacheProperties;
 import world.trecord.config.security.account.UserContext;
 
-import java.time.Duration;
 import java.util.Optional;
 
+/**
+ * Two-tier UserContext cache. A short-lived local cache (L1) sits in front of Redis (L2),
+ * and evictions are broadcast over a Redis channel so that every instance drops its L1 entry.
+ */
 @Slf4j
-@RequiredArgsConstructor
 @Repository
 public class UserCacheRepository {
 
     private final RedisTemplate<String, UserContext> userContextRedisTemplate;
-    private static final Duration USER_CACHE_TTL = Duration.ofDays(1);
+    private final StringRedisTemplate stringRedisTemplate;
+    private final UserCacheProperties userCacheProperties;
+    private final Cache<Long, UserContext> localCache;
+
+    public UserCacheRepository(RedisTemplate<String, UserContext> userContextRedisTemplate,
+                               StringRedisTemplate stringRedisTemplate,
+                               UserCacheProperties userCacheProperties) {
+        this.userContextRedisTemplate = userContextRedisTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.userCacheProperties = userCacheProperties;
+        this.localCache = Caffeine.newBuilder()
+                .expireAfterWrite(userCacheProperties.getLocalTtl())
+                .maximumSize(userCacheProperties.getLocalMaxSize())
+                .build();
+    }
 
     public UserContext setUserContext(UserContext userContext) {
         String key = getKey(userContext.getId());
         log.info("Set UserContext to Redis {}({})", key, userContext);
-        userContextRedisTemplate.opsForValue().set(key, userContext, USER_CACHE_TTL);
+        userContextRedisTemplate.opsForValue().set(key, userContext, userCacheProperties.getTtl());
+        localCache.put(userContext.getId(), userContext);
         return userContext;
     }
 
     public Optional<UserContext> getUserContext(Long userId) {
+        UserContext localUserContext = localCache.getIfPresent(userId);
+        if (localUserContext != null) {
+            return Optional.of(localUserContext);
+        }
+
         String key = getKey(userId);
-        UserContext userContext = userContextRedisTemplate.opsForValue().get(key);
+        UserContext userContext = readUserContext(key);
         log.info("Get UserContext from Redis {}", userContext);
+        if (userContext != null) {
+            localCache.put(userId, userContext);
+        }
         return Optional.ofNullable(userContext);
     }
 
+    public void evictUserContext(Long userId) {
+        String key = getKey(userId);
+        log.info("Evict UserContext from Redis {}", key);
+        userContextRedisTemplate.delete(key);
+        localCache.invalidate(userId);
+        stringRedisTemplate.convertAndSend(userCacheProperties.getInvalidationChannel(), String.valueOf(userId));
+    }
+
+    public void evictLocalUserContext(Long userId) {
+        localCache.invalidate(userId);
+    }
+
+    private UserContext readUserContext(String key) {
+        try {
+            return userContextRedisTemplate.opsForValue().get(key);
+        } catch (SerializationException ex) {
+            // a value written with another codec is treated as a miss and overwritten from the database
+            log.warn("Could not deserialize UserContext from Redis {}: {}", key, ex.getMessage());
+            return null;
+        }
+    }
+
     private String getKey(Long userId) {
         return "UID:" + userId;
     }
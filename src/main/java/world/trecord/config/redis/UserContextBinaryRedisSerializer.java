@@ -0,0 +1,102 @@
+package world.trecord.config.redis;
+
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import world.trecord.config.security.account.UserContext;
+
+import java.io.*;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Compact binary codec for cached UserContext values.
+ * <p>
+ * Layout: a schema version byte followed by the id and the nullable string fields, in declaration order.
+ * Values written as JSON by the previous serializer are still readable so the codec can be switched on a live Redis.
+ */
+public class UserContextBinaryRedisSerializer implements RedisSerializer<UserContext> {
+
+    static final byte SCHEMA_VERSION = 1;
+    private static final byte JSON_OBJECT_START = '{';
+
+    private final Jackson2JsonRedisSerializer<UserContext> legacySerializer = new Jackson2JsonRedisSerializer<>(UserContext.class);
+
+    @Override
+    public byte[] serialize(UserContext userContext) throws SerializationException {
+        if (userContext == null) {
+            return new byte[0];
+        }
+
+        try (ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+             DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(SCHEMA_VERSION);
+            writeNullableLong(out, userContext.getId());
+            writeNullableString(out, userContext.getNickname());
+            writeNullableString(out, userContext.getIntroduction());
+            writeNullableString(out, userContext.getImageUrl());
+            writeNullableString(out, userContext.getRole());
+            out.flush();
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new SerializationException("Could not write UserContext", e);
+        }
+    }
+
+    @Override
+    public UserContext deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+
+        if (bytes[0] == JSON_OBJECT_START) {
+            return legacySerializer.deserialize(bytes);
+        }
+
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            byte version = in.readByte();
+            if (version != SCHEMA_VERSION) {
+                throw new SerializationException("Unsupported UserContext schema version: " + version);
+            }
+            Long id = readNullableLong(in);
+            String nickname = readNullableString(in);
+            String introduction = readNullableString(in);
+            String imageUrl = readNullableString(in);
+            String role = readNullableString(in);
+            return new UserContext(id, nickname, introduction, imageUrl, role, null, null, null);
+        } catch (IOException e) {
+            throw new SerializationException("Could not read UserContext", e);
+        }
+    }
+
+    private void writeNullableLong(DataOutputStream out, Long value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value);
+        }
+    }
+
+    private Long readNullableLong(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readLong() : null;
+    }
+
+    private void writeNullableString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] encoded = value.getBytes(UTF_8);
+        out.writeInt(encoded.length);
+        out.write(encoded);
+    }
+
+    private String readNullableString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] encoded = new byte[length];
+        in.readFully(encoded);
+        return new String(encoded, UTF_8);
+    }
+}
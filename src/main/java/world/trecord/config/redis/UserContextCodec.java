@@ -0,0 +1,5 @@
+package world.trecord.config.redis;
+
+public enum UserContextCodec {
+    BINARY, JSON
+}
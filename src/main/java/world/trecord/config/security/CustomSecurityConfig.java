@@ -66,11 +66,17 @@ public class CustomSecurityConfig {
 
         return new JwtTokenFilter(jwtProperties.getSecretKey(),
                 jwtTokenHandler,
+                jwtTokenCache(),
                 userService,
                 whitelistMap,
                 tokenInParamUrls);
     }
 
+    @Bean
+    public JwtTokenCache jwtTokenCache() {
+        return new JwtTokenCache(jwtProperties.getTokenCacheMaxSize());
+    }
+
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration configuration = new CorsConfiguration();
 
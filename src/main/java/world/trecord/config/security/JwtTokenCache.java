@@ -0,0 +1,153 @@
+package world.trecord.config.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache of tokens which already passed signature verification.
+ * Entries are keyed by the SHA-256 hash of the token, so raw tokens are never kept in memory,
+ * and each entry expires together with its token.
+ */
+@Slf4j
+public class JwtTokenCache implements MeterBinder {
+
+    private static final String HASH_ALGORITHM = "SHA-256";
+
+    private final int maxSize;
+    private final Clock clock;
+    private final Cache<String, VerifiedToken> tokenCache;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    public JwtTokenCache(int maxSize) {
+        this(maxSize, Clock.systemUTC(), ForkJoinPool.commonPool());
+    }
+
+    JwtTokenCache(int maxSize, Clock clock) {
+        this(maxSize, clock, ForkJoinPool.commonPool());
+    }
+
+    JwtTokenCache(int maxSize, Clock clock, Executor maintenanceExecutor) {
+        this.maxSize = maxSize;
+        this.clock = clock;
+        this.tokenCache = Caffeine.newBuilder()
+                .maximumSize(Math.max(maxSize, 0))
+                .expireAfter(new TokenExpiry())
+                .executor(maintenanceExecutor)
+                .build();
+    }
+
+    public Optional<Long> getUserId(String token) {
+        if (Objects.isNull(token) || maxSize <= 0) {
+            missCount.increment();
+            return Optional.empty();
+        }
+
+        String key = hash(token);
+        VerifiedToken verifiedToken = tokenCache.getIfPresent(key);
+        // Caffeine only expires entries on its own ticker, so the token expiry is checked against the clock as well
+        if (Objects.nonNull(verifiedToken) && isExpired(verifiedToken)) {
+            tokenCache.invalidate(key);
+            verifiedToken = null;
+        }
+
+        if (Objects.isNull(verifiedToken)) {
+            missCount.increment();
+            return Optional.empty();
+        }
+
+        hitCount.increment();
+        return Optional.of(verifiedToken.userId());
+    }
+
+    public void put(String token, VerifiedToken verifiedToken) {
+        if (maxSize <= 0 || isExpired(verifiedToken)) {
+            return;
+        }
+
+        tokenCache.put(hash(token), verifiedToken);
+    }
+
+    public int size() {
+        tokenCache.cleanUp();
+        return (int) tokenCache.estimatedSize();
+    }
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("jwt.token.cache.size", this, JwtTokenCache::size)
+                .description("Number of verified tokens in the cache")
+                .register(registry);
+        FunctionCounter.builder("jwt.token.cache.hits", this, JwtTokenCache::getHitCount)
+                .description("Number of requests served from the verified token cache")
+                .register(registry);
+        FunctionCounter.builder("jwt.token.cache.misses", this, JwtTokenCache::getMissCount)
+                .description("Number of requests which needed signature verification")
+                .register(registry);
+    }
+
+    private boolean isExpired(VerifiedToken verifiedToken) {
+        return Objects.isNull(verifiedToken.expiredAt()) || !verifiedToken.expiredAt().isAfter(Instant.now(clock));
+    }
+
+    private Duration timeToLive(VerifiedToken verifiedToken) {
+        if (Objects.isNull(verifiedToken.expiredAt())) {
+            return Duration.ZERO;
+        }
+        Duration remaining = Duration.between(Instant.now(clock), verifiedToken.expiredAt());
+        return remaining.isNegative() ? Duration.ZERO : remaining;
+    }
+
+    private String hash(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance(HASH_ALGORITHM);
+            return Base64.getEncoder().encodeToString(messageDigest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(HASH_ALGORITHM + " is not supported", e);
+        }
+    }
+
+    private class TokenExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            return timeToLive(value).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return timeToLive(value).toNanos();
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
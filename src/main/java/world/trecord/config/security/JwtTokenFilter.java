@@ -28,17 +28,20 @@ public class JwtTokenFilter extends OncePerRequestFilter {
 
     private final String secretKey;
     private final JwtTokenHandler jwtTokenHandler;
+    private final JwtTokenCache jwtTokenCache;
     private final UserService userService;
     private final Map<RegexRequestMatcher, List<HttpMethod>> whitelistMap = new HashMap<>();
     private final Set<RequestMatcher> tokenInParamSet = new HashSet<>();
 
     public JwtTokenFilter(String secretKey,
                           JwtTokenHandler jwtTokenHandler,
+                          JwtTokenCache jwtTokenCache,
                           UserService userService,
                           Map<String, List<HttpMethod>> whitelistMap,
                           List<String> tokenInParamUrls) {
         this.secretKey = secretKey;
         this.jwtTokenHandler = jwtTokenHandler;
+        this.jwtTokenCache = jwtTokenCache;
         this.userService = userService;
         whitelistMap.forEach((url, methods) -> this.whitelistMap.put(new RegexRequestMatcher(url, null), methods));
         tokenInParamUrls.forEach(url -> this.tokenInParamSet.add(new AntPathRequestMatcher(url)));
@@ -64,8 +67,7 @@ public class JwtTokenFilter extends OncePerRequestFilter {
                 return;
             }
 
-            jwtTokenHandler.verifyToken(secretKey, token);
-            Long userId = jwtTokenHandler.getUserIdFromToken(secretKey, token);
+            Long userId = verifyTokenAndGetUserId(token);
             UserContext userContext = userService.getUserContextOrException(userId);
             setAuthentication(userContext);
         } catch (Exception e) {
@@ -75,6 +77,15 @@ public class JwtTokenFilter extends OncePerRequestFilter {
         chain.doFilter(req, res);
     }
 
+    private Long verifyTokenAndGetUserId(String token) {
+        return jwtTokenCache.getUserId(token)
+                .orElseGet(() -> {
+                    VerifiedToken verifiedToken = jwtTokenHandler.verifyTokenAndGetVerifiedToken(secretKey, token);
+                    jwtTokenCache.put(token, verifiedToken);
+                    return verifiedToken.userId();
+                });
+    }
+
     private boolean isWhitelistRequest(HttpServletRequest req) {
         return whitelistMap.entrySet().stream().anyMatch(it -> {
             RequestMatcher matcher = it.getKey();
@@ -2,13 +2,16 @@ package world.trecord.config.security;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.util.Date;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static io.jsonwebtoken.security.Keys.hmacShaKeyFor;
 
@@ -18,12 +21,25 @@ public class JwtTokenHandler {
     private static final String USER_ID = "user_id";
     private static final String SUBJECT = "authentication";
 
+    // JwtParser and SecretKey are immutable and thread-safe, so they are built once per secret key and reused
+    private final Map<String, SecretKey> signKeyMap = new ConcurrentHashMap<>();
+    private final Map<String, JwtParser> parserMap = new ConcurrentHashMap<>();
+
     public void verifyToken(String secretKey, String token) {
+        verifyTokenAndGetUserId(secretKey, token);
+    }
+
+    public Long verifyTokenAndGetUserId(String secretKey, String token) {
+        return verifyTokenAndGetVerifiedToken(secretKey, token).userId();
+    }
+
+    public VerifiedToken verifyTokenAndGetVerifiedToken(String secretKey, String token) {
         try {
             Claims claims = doVerifyTokenAndGetClaims(secretKey, token);
             if (!Objects.equals(claims.getSubject(), SUBJECT)) {
                 throw new JwtException("Invalid subject in the token");
             }
+            return new VerifiedToken(claims.get(USER_ID, Long.class), claims.getExpiration().toInstant());
         } catch (Exception e) {
             throw new JwtException(e.getMessage(), e);
         }
@@ -54,14 +70,18 @@ public class JwtTokenHandler {
     }
 
     private Claims doVerifyTokenAndGetClaims(String secretKey, String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(doGetSignKey(secretKey))
-                .build()
+        return doGetParser(secretKey)
                 .parseClaimsJws(token)
                 .getBody();
     }
 
+    private JwtParser doGetParser(String secretKey) {
+        return parserMap.computeIfAbsent(secretKey, key -> Jwts.parserBuilder()
+                .setSigningKey(doGetSignKey(key))
+                .build());
+    }
+
     private SecretKey doGetSignKey(String secretKey) {
-        return hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        return signKeyMap.computeIfAbsent(secretKey, key -> hmacShaKeyFor(Decoders.BASE64.decode(key)));
     }
 }
@@ -0,0 +1,6 @@
+package world.trecord.config.security;
+
+import java.time.Instant;
+
+public record VerifiedToken(Long userId, Instant expiredAt) {
+}
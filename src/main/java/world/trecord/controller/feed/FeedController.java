@@ -1,13 +1,18 @@
 package world.trecord.controller.feed;
 
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.validation.BindException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
 import world.trecord.config.security.account.AccountContext;
 import world.trecord.config.security.account.CurrentContext;
 import world.trecord.config.security.account.UserContext;
@@ -20,6 +25,9 @@ import world.trecord.dto.feed.response.FeedListResponse;
 import world.trecord.dto.feed.response.FeedRecordsResponse;
 import world.trecord.dto.feedcontributor.request.FeedInviteRequest;
 import world.trecord.dto.feedcontributor.response.FeedInvitationHistoryResponse;
+import world.trecord.service.feed.FeedExport;
+import world.trecord.service.feed.FeedExportFormat;
+import world.trecord.service.feed.FeedExportService;
 import world.trecord.service.feed.FeedService;
 import world.trecord.service.feedcontributor.FeedContributorService;
 
@@ -29,6 +37,7 @@ import world.trecord.service.feedcontributor.FeedContributorService;
 public class FeedController {
 
     private final FeedService feedService;
+    private final FeedExportService feedExportService;
     private final FeedContributorService feedContributorService;
     private final FeedValidator feedValidator;
 
@@ -50,6 +59,19 @@ public class FeedController {
         return ApiResponse.ok(feedService.getFeedRecords(feedId, pageable));
     }
 
+    // The export is written straight to the response, so the empty async result only has to complete the request
+    @ResponseStatus(HttpStatus.OK)
+    @GetMapping("/{feedId}/export")
+    public WebAsyncTask<Void> exportFeed(@PathVariable Long feedId,
+                                         @RequestParam(defaultValue = "NDJSON") FeedExportFormat format,
+                                         @CurrentContext AccountContext accountContext,
+                                         HttpServletResponse response) {
+        FeedExport feedExport = feedExportService.exportFeed(accountContext.getId(), feedId, format);
+        response.setContentType(format.getMediaType().toString());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(format.fileName(feedId)).build().toString());
+        return feedExport.toAsyncTask(response::getOutputStream);
+    }
+
     @PostMapping
     public ApiResponse<FeedCreateResponse> createFeed(@RequestBody @Valid FeedCreateRequest request,
                                                       @CurrentContext AccountContext accountContext) throws BindException {
@@ -1,6 +1,7 @@
 package world.trecord.controller.notification;
 
 
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -13,8 +14,10 @@ import world.trecord.config.security.account.CurrentContext;
 import world.trecord.config.security.account.UserContext;
 import world.trecord.controller.ApiResponse;
 import world.trecord.domain.notification.enumeration.NotificationType;
+import world.trecord.dto.notification.request.NotificationCursorRequest;
 import world.trecord.dto.notification.response.CheckNewNotificationResponse;
 import world.trecord.dto.notification.response.NotificationResponse;
+import world.trecord.dto.notification.response.NotificationSliceResponse;
 import world.trecord.event.sse.SseEmitterService;
 import world.trecord.service.notification.NotificationService;
 
@@ -27,6 +30,8 @@ import static org.springframework.http.MediaType.TEXT_EVENT_STREAM_VALUE;
 @RequestMapping("/api/v1/notifications")
 public class NotificationController {
 
+    private static final String LAST_EVENT_ID_HEADER = "Last-Event-ID";
+
     private final NotificationService notificationService;
     private final SseEmitterService sseEmitterService;
 
@@ -36,14 +41,21 @@ public class NotificationController {
         return ApiResponse.ok(notificationService.getNotifications(accountContext.getId(), pageable));
     }
 
+    @GetMapping("/inbox")
+    public ApiResponse<NotificationSliceResponse> getNotificationSlice(@Valid NotificationCursorRequest request,
+                                                                       @CurrentContext AccountContext accountContext) {
+        return ApiResponse.ok(notificationService.getNotificationSlice(accountContext.getId(), request));
+    }
+
     @GetMapping("/check")
     public ApiResponse<CheckNewNotificationResponse> checkNewNotification(@CurrentContext AccountContext accountContext) {
         return ApiResponse.ok(notificationService.checkUnreadNotifications(accountContext.getId()));
     }
 
     @GetMapping(value = "/subscribe", produces = TEXT_EVENT_STREAM_VALUE)
-    public SseEmitter connectNotification(@CurrentContext UserContext userContext) {
-        return sseEmitterService.connect(userContext.getId(), new SseEmitter(Duration.ofHours(1).toMillis()));
+    public SseEmitter connectNotification(@RequestHeader(value = LAST_EVENT_ID_HEADER, required = false) String lastEventId,
+                                          @CurrentContext UserContext userContext) {
+        return sseEmitterService.connect(userContext.getId(), lastEventId, new SseEmitter(Duration.ofHours(1).toMillis()));
     }
 
     @GetMapping("/type/{type}")
@@ -11,9 +11,13 @@ import org.springframework.web.bind.annotation.*;
 import world.trecord.config.security.account.AccountContext;
 import world.trecord.config.security.account.CurrentContext;
 import world.trecord.controller.ApiResponse;
+import world.trecord.dto.record.request.RecordBatchCreateRequest;
 import world.trecord.dto.record.request.RecordCreateRequest;
+import world.trecord.dto.record.request.RecordSequenceMoveRequest;
+import world.trecord.dto.record.request.RecordSequenceReorderRequest;
 import world.trecord.dto.record.request.RecordSequenceSwapRequest;
 import world.trecord.dto.record.request.RecordUpdateRequest;
+import world.trecord.dto.record.response.RecordBatchCreateResponse;
 import world.trecord.dto.record.response.RecordCommentResponse;
 import world.trecord.dto.record.response.RecordCreateResponse;
 import world.trecord.dto.record.response.RecordInfoResponse;
@@ -50,6 +54,12 @@ public class RecordController {
         return ApiResponse.ok(recordService.createRecord(accountContext.getId(), request));
     }
 
+    @PostMapping("/batch")
+    public ApiResponse<RecordBatchCreateResponse> createRecords(@RequestBody @Valid RecordBatchCreateRequest request,
+                                                                @CurrentContext AccountContext accountContext) {
+        return ApiResponse.ok(recordService.createRecords(accountContext.getId(), request));
+    }
+
     @PostMapping("/sequence/swap")
     public ApiResponse<Void> swapRecordSequence(@RequestBody @Valid RecordSequenceSwapRequest request,
                                                 @CurrentContext AccountContext accountContext) {
@@ -57,6 +67,20 @@ public class RecordController {
         return ApiResponse.ok();
     }
 
+    @PostMapping("/sequence/move")
+    public ApiResponse<Void> moveRecordSequence(@RequestBody @Valid RecordSequenceMoveRequest request,
+                                                @CurrentContext AccountContext accountContext) {
+        recordService.moveRecordSequence(accountContext.getId(), request);
+        return ApiResponse.ok();
+    }
+
+    @PostMapping("/sequence/reorder")
+    public ApiResponse<Void> reorderRecordSequences(@RequestBody @Valid RecordSequenceReorderRequest request,
+                                                    @CurrentContext AccountContext accountContext) {
+        recordService.reorderRecordSequences(accountContext.getId(), request);
+        return ApiResponse.ok();
+    }
+
     @PutMapping("/{recordId}")
     public ApiResponse<Void> updateRecord(@PathVariable Long recordId,
                                           @RequestBody @Valid RecordUpdateRequest request,
@@ -13,8 +13,6 @@ import world.trecord.dto.record.request.RecordCreateRequest;
 import world.trecord.dto.record.request.RecordUpdateRequest;
 import world.trecord.exception.CustomException;
 
-import java.util.Objects;
-
 import static world.trecord.exception.CustomExceptionError.FEED_NOT_FOUND;
 import static world.trecord.exception.CustomExceptionError.RECORD_NOT_FOUND;
 
@@ -31,13 +29,13 @@ public class RecordValidator {
         String recordCreateRequest = "recordCreateRequest";
         String fieldDate = "date";
 
-        if (Objects.nonNull(feedEntity.getStartAt()) && request.getDate().isBefore(feedEntity.getStartAt())) {
+        if (feedEntity.isBeforeStart(request.getDate())) {
             BindException bindException = new BindException(request, recordCreateRequest);
             bindException.addError(new FieldError(recordCreateRequest, fieldDate, "Date should be after feed start time."));
             throw bindException;
         }
 
-        if (Objects.nonNull(feedEntity.getEndAt()) && request.getDate().isAfter(feedEntity.getEndAt())) {
+        if (feedEntity.isAfterEnd(request.getDate())) {
             BindException bindException = new BindException(request, recordCreateRequest);
             bindException.addError(new FieldError(recordCreateRequest, fieldDate, "Date should be before feed end time."));
             throw bindException;
@@ -51,13 +49,13 @@ public class RecordValidator {
         String recordUpdateRequest = "recordUpdateRequest";
         String fieldDate = "date";
 
-        if (Objects.nonNull(feedEntity.getStartAt()) && request.getDate().isBefore(feedEntity.getStartAt())) {
+        if (feedEntity.isBeforeStart(request.getDate())) {
             BindException bindException = new BindException(request, recordUpdateRequest);
             bindException.addError(new FieldError(recordUpdateRequest, fieldDate, "Date should be after start end time."));
             throw bindException;
         }
 
-        if (Objects.nonNull(feedEntity.getEndAt()) && request.getDate().isAfter(feedEntity.getEndAt())) {
+        if (feedEntity.isAfterEnd(request.getDate())) {
             BindException bindException = new BindException(request, recordUpdateRequest);
             bindException.addError(new FieldError(recordUpdateRequest, fieldDate, "Date should be before feed end time."));
             throw bindException;
@@ -19,9 +19,9 @@ import java.util.Objects;
 @Getter
 @Table(name = "comment",
         indexes = {
-                @Index(name = "idx_comment_users", columnList = "id_users"),
-                @Index(name = "idx_comment_record", columnList = "id_record"),
-                @Index(name = "idx_comment_parent", columnList = "id_parent")
+                @Index(name = "idx_comment_users", columnList = "id_users, deleted_date_time, created_date_time"),
+                @Index(name = "idx_comment_record", columnList = "id_record, id_parent, deleted_date_time, created_date_time"),
+                @Index(name = "idx_comment_parent", columnList = "id_parent, deleted_date_time, created_date_time")
         }
 )
 @SQLDelete(sql = "UPDATE comment SET deleted_date_time = NOW() WHERE id_comment = ?")
@@ -22,7 +22,7 @@ import java.util.Set;
 @Getter
 @Table(name = "feed",
         indexes = {
-                @Index(name = "idx_feed_users", columnList = "id_owner")
+                @Index(name = "idx_feed_users", columnList = "id_owner, deleted_date_time, start_at")
         }
 )
 @SQLDelete(sql = "UPDATE feed SET deleted_date_time = NOW() WHERE id_feed = ?")
@@ -130,6 +130,18 @@ public class FeedEntity extends BaseEntity {
                 .anyMatch(contributorUserId -> Objects.equals(contributorUserId, userId));
     }
 
+    public boolean isBeforeStart(LocalDateTime date) {
+        return Objects.nonNull(this.startAt) && date.isBefore(this.startAt);
+    }
+
+    public boolean isAfterEnd(LocalDateTime date) {
+        return Objects.nonNull(this.endAt) && date.isAfter(this.endAt);
+    }
+
+    public boolean isWithinPeriod(LocalDateTime date) {
+        return !isBeforeStart(date) && !isAfterEnd(date);
+    }
+
     public void addFeedContributor(FeedContributorEntity feedContributorEntity) {
         this.feedContributors.add(feedContributorEntity);
     }
@@ -0,0 +1,91 @@
+package world.trecord.domain.feed;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import world.trecord.domain.feed.projection.FeedExportRow;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+@Repository
+public class FeedExportRepository {
+
+    // Each record comes back as one row followed by one row per comment, so its content is read once. Like counts are
+    // grouped once per record in a derived table instead of a correlated subquery on every row.
+    private static final String EXPORT_SQL = "SELECT r.id_record, r.date, r.sequence, 0 AS row_type, r.title, r.place, r.latitude, r.longitude, " +
+            "r.feeling, r.weather, r.transportation, r.content, r.image_url, r.id_author, author.nickname AS author_nickname, " +
+            "COALESCE(likes.like_count, 0) AS like_count, " +
+            "NULL AS id_comment, NULL AS id_parent, NULL AS id_commenter, NULL AS commenter_nickname, " +
+            "NULL AS comment_content, NULL AS comment_created_date_time " +
+            "FROM record r " +
+            "JOIN users author ON author.id_users = r.id_author " +
+            "LEFT JOIN (SELECT l.id_record, COUNT(*) AS like_count " +
+            "FROM user_record_like l " +
+            "JOIN record lr ON lr.id_record = l.id_record " +
+            "WHERE lr.id_feed = ? AND l.deleted_date_time IS NULL " +
+            "GROUP BY l.id_record) likes ON likes.id_record = r.id_record " +
+            "WHERE r.id_feed = ? AND r.deleted_date_time IS NULL " +
+            "UNION ALL " +
+            "SELECT r.id_record, r.date, r.sequence, 1, NULL, NULL, NULL, NULL, " +
+            "NULL, NULL, NULL, NULL, NULL, NULL, NULL, " +
+            "NULL, " +
+            "c.id_comment, c.id_parent, c.id_users, commenter.nickname, " +
+            "c.content, c.created_date_time " +
+            "FROM comment c " +
+            "JOIN record r ON r.id_record = c.id_record " +
+            "JOIN users author ON author.id_users = r.id_author " +
+            "LEFT JOIN users commenter ON commenter.id_users = c.id_users " +
+            "WHERE r.id_feed = ? AND r.deleted_date_time IS NULL AND c.deleted_date_time IS NULL " +
+            "ORDER BY date, sequence, id_record, row_type, id_comment";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Streams every record of the feed as a record row followed by its comment rows, ordered so that the rows of a
+     * record are adjacent.
+     * The statement is forward-only with a positive fetch size, which makes MariaDB Connector/J read the result
+     * {@code fetchSize} rows at a time instead of buffering it whole. The returned stream holds a connection and
+     * must be closed, and no other statement may run on that connection until it is.
+     */
+    public Stream<FeedExportRow> streamRecordsWithComments(Long feedId, int fetchSize) {
+        return jdbcTemplate.queryForStream(connection -> {
+            PreparedStatement statement = connection.prepareStatement(EXPORT_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            statement.setLong(1, feedId);
+            statement.setLong(2, feedId);
+            statement.setLong(3, feedId);
+            return statement;
+        }, (rs, rowNum) -> mapRow(rs));
+    }
+
+    private FeedExportRow mapRow(ResultSet rs) throws SQLException {
+        return new FeedExportRow(
+                rs.getLong("id_record"),
+                rs.getString("title"),
+                rs.getObject("date", LocalDateTime.class),
+                rs.getInt("sequence"),
+                rs.getString("place"),
+                rs.getString("latitude"),
+                rs.getString("longitude"),
+                rs.getString("feeling"),
+                rs.getString("weather"),
+                rs.getString("transportation"),
+                rs.getString("content"),
+                rs.getString("image_url"),
+                rs.getLong("id_author"),
+                rs.getString("author_nickname"),
+                rs.getLong("like_count"),
+                rs.getObject("id_comment", Long.class),
+                rs.getObject("id_parent", Long.class),
+                rs.getObject("id_commenter", Long.class),
+                rs.getString("commenter_nickname"),
+                rs.getString("comment_content"),
+                rs.getObject("comment_created_date_time", LocalDateTime.class)
+        );
+    }
+}
@@ -0,0 +1,34 @@
+package world.trecord.domain.feed.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * One row of the feed export cursor: either a record with null comment columns, or one of its comments with null
+ * record columns. A record's row always comes before its comment rows.
+ */
+public record FeedExportRow(Long recordId,
+                            String title,
+                            LocalDateTime date,
+                            int sequence,
+                            String place,
+                            String latitude,
+                            String longitude,
+                            String feeling,
+                            String weather,
+                            String transportation,
+                            String content,
+                            String imageUrl,
+                            Long authorId,
+                            String authorNickname,
+                            long likeCount,
+                            Long commentId,
+                            Long commentParentId,
+                            Long commenterId,
+                            String commenterNickname,
+                            String commentContent,
+                            LocalDateTime commentCreatedDateTime) {
+
+    public boolean hasComment() {
+        return commentId != null;
+    }
+}
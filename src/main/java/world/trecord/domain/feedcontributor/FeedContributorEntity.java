@@ -19,7 +19,10 @@ import java.util.Objects;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 @Table(name = "feed_contributor",
-        indexes = @Index(name = "idx_contributor_users_feed", columnList = "id_users, id_feed")
+        indexes = {
+                @Index(name = "idx_contributor_users_feed", columnList = "id_users, id_feed"),
+                @Index(name = "idx_contributor_users_created", columnList = "id_users, deleted_date_time, created_date_time")
+        }
 )
 @SQLDelete(sql = "UPDATE feed_contributor SET deleted_date_time = NOW() WHERE id_contributor = ?")
 @Where(clause = "deleted_date_time is NULL")
@@ -15,18 +15,25 @@ import world.trecord.domain.notification.enumeration.NotificationStatus;
 import world.trecord.domain.notification.enumeration.NotificationType;
 import world.trecord.domain.users.UserEntity;
 
+import java.util.List;
 import java.util.Objects;
 
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 @Table(name = "notification",
         indexes = {
-                @Index(name = "idx_notification_users", columnList = "id_users_to"),
                 @Index(name = "idx_notification_status", columnList = "status"),
-                @Index(name = "idx_notification_users_type", columnList = "id_users_to, type")
+                @Index(name = "idx_notification_users_type", columnList = "id_users_to, type, deleted_date_time, created_date_time"),
+                @Index(name = "idx_notification_users_created", columnList = "id_users_to, deleted_date_time, created_date_time, id_notification"),
+                @Index(name = "uk_notification_aggregate_key", columnList = "aggregate_key", unique = true),
+                @Index(name = "idx_notification_record", columnList = "record_id"),
+                @Index(name = "idx_notification_feed", columnList = "feed_id"),
+                @Index(name = "idx_notification_comment", columnList = "comment_id"),
+                @Index(name = "idx_notification_status_created", columnList = "status, deleted_date_time, created_date_time"),
+                @Index(name = "idx_notification_deleted", columnList = "deleted_date_time")
         }
 )
-@SQLDelete(sql = "UPDATE notification SET deleted_date_time = NOW() WHERE id_notification = ?")
+@SQLDelete(sql = "UPDATE notification SET deleted_date_time = NOW(), aggregate_key = NULL WHERE id_notification = ?")
 @Where(clause = "deleted_date_time is NULL")
 @Entity
 public class NotificationEntity extends BaseEntity {
@@ -48,16 +55,67 @@ public class NotificationEntity extends BaseEntity {
     @Column(name = "args", columnDefinition = "json")
     private NotificationArgs args;
 
+    @Column(name = "aggregate_key", updatable = false)
+    private String aggregateKey;
+
+    // Copied from args on write so that cascade deletes can use an index instead of JSON_EXTRACT
+    @Column(name = "record_id", updatable = false)
+    private Long recordId;
+
+    @Column(name = "feed_id", updatable = false)
+    private Long feedId;
+
+    @Column(name = "comment_id", updatable = false)
+    private Long commentId;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "id_users_to", foreignKey = @ForeignKey(name = "fk_notification_users_to"))
     private UserEntity usersToEntity;
 
     @Builder
-    private NotificationEntity(NotificationType type, NotificationStatus status, UserEntity usersToEntity, NotificationArgs args) {
+    private NotificationEntity(NotificationType type, NotificationStatus status, UserEntity usersToEntity, NotificationArgs args, String aggregateKey) {
+        this.aggregateKey = aggregateKey;
         this.type = type;
         this.status = status;
         this.usersToEntity = usersToEntity;
         this.args = args;
+        if (Objects.nonNull(args)) {
+            this.recordId = Objects.nonNull(args.getRecord()) ? args.getRecord().getId() : null;
+            this.feedId = Objects.nonNull(args.getFeed()) ? args.getFeed().getId() : null;
+            this.commentId = Objects.nonNull(args.getComment()) ? args.getComment().getId() : null;
+        }
+    }
+
+    public void aggregate(NotificationArgs newerArgs, int maxActors) {
+        this.args = Objects.nonNull(this.args) ? this.args.merge(newerArgs, maxActors) : newerArgs;
+        this.status = NotificationStatus.UNREAD;
+    }
+
+    /**
+     * Returns the unread state this aggregate rolls up to. It is written over this row by its aggregate key,
+     * so the aggregate keeps its id and only its args, status and creation time change.
+     */
+    public NotificationEntity rollUp(NotificationArgs newerArgs, int maxActors) {
+        return NotificationEntity.builder()
+                .type(this.type)
+                .status(NotificationStatus.UNREAD)
+                .usersToEntity(this.usersToEntity)
+                .args(Objects.nonNull(this.args) ? this.args.merge(newerArgs, maxActors) : newerArgs)
+                .aggregateKey(this.aggregateKey)
+                .build();
+    }
+
+    /**
+     * Removes an undone action's sender from this notification. Returns false when no sender is left to show,
+     * in which case the notification should be deleted instead.
+     */
+    public boolean retract(Long actorId) {
+        NotificationArgs retracted = Objects.nonNull(this.args) ? this.args.withoutActor(actorId) : null;
+        if (Objects.isNull(retracted)) {
+            return false;
+        }
+        this.args = retracted;
+        return true;
     }
 
     public String getNotificationContent() {
@@ -79,4 +137,12 @@ public class NotificationEntity extends BaseEntity {
     public CommentArgs getCommentArgs() {
         return Objects.nonNull(this.args) ? args.getComment() : null;
     }
+
+    public Integer getAggregateCount() {
+        return Objects.nonNull(this.args) ? args.getCount() : null;
+    }
+
+    public List<UserFromArgs> getAggregateActors() {
+        return Objects.nonNull(this.args) ? args.getActors() : null;
+    }
 }
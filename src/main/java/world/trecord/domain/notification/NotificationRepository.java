@@ -2,7 +2,9 @@ package world.trecord.domain.notification;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -11,12 +13,20 @@ import org.springframework.transaction.annotation.Transactional;
 import world.trecord.domain.notification.enumeration.NotificationStatus;
 import world.trecord.domain.notification.enumeration.NotificationType;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface NotificationRepository extends JpaRepository<NotificationEntity, Long> {
+public interface NotificationRepository extends JpaRepository<NotificationEntity, Long>, NotificationRepositoryExtension {
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<NotificationEntity> findAllByAggregateKeyIn(Collection<String> aggregateKeys);
+
     boolean existsByUsersToEntityIdAndStatus(Long userId, NotificationStatus status);
 
+    long countByUsersToEntityIdAndStatus(Long userId, NotificationStatus status);
+
     Optional<NotificationEntity> findByIdAndUsersToEntityId(Long notificationId, Long userToEntityId);
 
     Page<NotificationEntity> findByUsersToEntityId(Long userToEntityId, Pageable pageable);
@@ -32,17 +42,84 @@ public interface NotificationRepository extends JpaRepository<NotificationEntity
                                          @Param("oldStatus") NotificationStatus oldStatus,
                                          @Param("newStatus") NotificationStatus newStatus);
 
+    // An aggregated notification only keeps its latest sender in userFrom, so its full sender set in actorIds is matched as well
+    @Query(value = "SELECT COUNT(*) FROM notification " +
+            "WHERE id_users_to = :userToId AND type = :type " +
+            "AND record_id = :recordId " +
+            "AND (JSON_EXTRACT(args, '$.userFrom.id') = :userFromId " +
+            "OR JSON_CONTAINS(args, CAST(:userFromId AS CHAR), '$.actorIds')) " +
+            "AND created_date_time >= :since AND deleted_date_time IS NULL", nativeQuery = true)
+    long countRecentByRecordAndUserFrom(@Param("userToId") Long userToId,
+                                        @Param("type") String type,
+                                        @Param("recordId") Long recordId,
+                                        @Param("userFromId") Long userFromId,
+                                        @Param("since") LocalDateTime since);
+
+    // Same match as countRecentByRecordAndUserFrom, locked so that a concurrent rollup of the aggregate waits for the retraction
+    @Query(value = "SELECT * FROM notification " +
+            "WHERE id_users_to = :userToId AND type = :type " +
+            "AND record_id = :recordId " +
+            "AND (JSON_EXTRACT(args, '$.userFrom.id') = :userFromId " +
+            "OR JSON_CONTAINS(args, CAST(:userFromId AS CHAR), '$.actorIds')) " +
+            "AND created_date_time >= :since AND deleted_date_time IS NULL " +
+            "FOR UPDATE", nativeQuery = true)
+    List<NotificationEntity> findRecentByRecordAndUserFromForUpdate(@Param("userToId") Long userToId,
+                                                                    @Param("type") String type,
+                                                                    @Param("recordId") Long recordId,
+                                                                    @Param("userFromId") Long userFromId,
+                                                                    @Param("since") LocalDateTime since);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE NotificationEntity ne " +
+            "SET ne.status = :newStatus " +
+            "WHERE ne.usersToEntity.id = :userId AND ne.status = :oldStatus AND ne.id IN :notificationIds")
+    int updateNotificationStatusByIds(@Param("userId") Long userId,
+                                      @Param("notificationIds") Collection<Long> notificationIds,
+                                      @Param("oldStatus") NotificationStatus oldStatus,
+                                      @Param("newStatus") NotificationStatus newStatus);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE NotificationEntity ne " +
+            "SET ne.status = :newStatus " +
+            "WHERE ne.usersToEntity.id = :userId AND ne.status = :oldStatus AND ne.id <= :watermarkId")
+    int updateNotificationStatusUpToId(@Param("userId") Long userId,
+                                       @Param("watermarkId") Long watermarkId,
+                                       @Param("oldStatus") NotificationStatus oldStatus,
+                                       @Param("newStatus") NotificationStatus newStatus);
+
     @Transactional
     @Modifying
     @Query(value = "UPDATE notification " +
-            "SET deleted_date_time = NOW() " +
-            "WHERE JSON_EXTRACT(args, '$.record.id') = :recordId", nativeQuery = true)
+            "SET deleted_date_time = NOW(), aggregate_key = NULL " +
+            "WHERE record_id = :recordId AND deleted_date_time IS NULL", nativeQuery = true)
     void deleteAllByRecordEntityId(@Param("recordId") Long recordId);
 
     @Transactional
     @Modifying
     @Query(value = "UPDATE notification " +
-            "SET deleted_date_time = NOW() " +
-            "WHERE JSON_EXTRACT(args, '$.feed.id') = :feedId", nativeQuery = true)
+            "SET deleted_date_time = NOW(), aggregate_key = NULL " +
+            "WHERE feed_id = :feedId AND deleted_date_time IS NULL", nativeQuery = true)
     void deleteAllByFeedEntityId(@Param("feedId") Long feedId);
+
+    // Ordered along idx_notification_status_created so the chunk is read from the index without a filesort.
+    // Rows locked by a concurrent retention run are skipped, so two instances never archive the same notification.
+    @Query(value = "SELECT id_notification FROM notification " +
+            "WHERE status = 'READ' AND deleted_date_time IS NULL AND created_date_time < :threshold " +
+            "ORDER BY created_date_time " +
+            "LIMIT :limit " +
+            "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Long> findReadIdsCreatedBefore(@Param("threshold") LocalDateTime threshold, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "DELETE FROM notification WHERE id_notification IN :notificationIds", nativeQuery = true)
+    int hardDeleteAllByIds(@Param("notificationIds") Collection<Long> notificationIds);
+
+    @Modifying
+    @Query(value = "DELETE FROM notification " +
+            "WHERE deleted_date_time < :threshold " +
+            "ORDER BY deleted_date_time " +
+            "LIMIT :limit", nativeQuery = true)
+    int hardDeleteSoftDeletedBefore(@Param("threshold") LocalDateTime threshold, @Param("limit") int limit);
 }
@@ -0,0 +1,23 @@
+package world.trecord.domain.notification;
+
+import org.springframework.data.domain.Slice;
+import org.springframework.transaction.annotation.Transactional;
+import world.trecord.domain.notification.enumeration.NotificationType;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Transactional(readOnly = true)
+public interface NotificationRepositoryExtension {
+
+    /**
+     * Returns up to {@code size} notifications older than the cursor, newest first. A null cursor starts from the newest.
+     */
+    Slice<NotificationEntity> findSliceByUserId(Long userId, NotificationType type, LocalDateTime cursorCreatedDateTime, Long cursorId, int size);
+
+    @Transactional
+    List<Long> insertAll(List<NotificationEntity> notificationEntities);
+
+    @Transactional
+    int upsertAggregates(List<NotificationEntity> notificationEntities);
+}
@@ -0,0 +1,164 @@
+package world.trecord.domain.notification;
+
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import io.hypersistence.utils.hibernate.type.util.JsonConfiguration;
+import jakarta.persistence.EntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import world.trecord.domain.notification.enumeration.NotificationType;
+import world.trecord.domain.users.UserEntity;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+public class NotificationRepositoryExtensionImpl implements NotificationRepositoryExtension {
+
+    private static final String INSERT_PREFIX = "INSERT INTO notification " +
+            "(id_users_to, type, status, args, aggregate_key, record_id, feed_id, comment_id, created_date_time, modified_date_time) VALUES ";
+    private static final String VALUES_ROW = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String RETURNING_ID = " RETURNING id_notification";
+    private static final String UPDATE_AGGREGATE = " ON DUPLICATE KEY UPDATE args = VALUES(args), status = VALUES(status), " +
+            "created_date_time = VALUES(created_date_time), modified_date_time = VALUES(modified_date_time)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private final JPAQueryFactory queryFactory;
+
+    public NotificationRepositoryExtensionImpl(JdbcTemplate jdbcTemplate, EntityManager entityManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+        this.queryFactory = new JPAQueryFactory(entityManager);
+    }
+
+    @Override
+    public Slice<NotificationEntity> findSliceByUserId(Long userId, NotificationType type, LocalDateTime cursorCreatedDateTime, Long cursorId, int size) {
+        QNotificationEntity notificationEntity = QNotificationEntity.notificationEntity;
+
+        BooleanBuilder where = new BooleanBuilder(notificationEntity.usersToEntity.id.eq(userId));
+        if (Objects.nonNull(type)) {
+            where.and(notificationEntity.type.eq(type));
+        }
+        if (Objects.nonNull(cursorCreatedDateTime) && Objects.nonNull(cursorId)) {
+            where.and(notificationEntity.createdDateTime.lt(cursorCreatedDateTime)
+                    .or(notificationEntity.createdDateTime.eq(cursorCreatedDateTime).and(notificationEntity.id.lt(cursorId))));
+        }
+
+        List<NotificationEntity> content = new ArrayList<>(queryFactory.selectFrom(notificationEntity)
+                .where(where)
+                .orderBy(notificationEntity.createdDateTime.desc(), notificationEntity.id.desc())
+                .limit(size + 1L)
+                .fetch());
+
+        boolean hasNext = content.size() > size;
+        if (hasNext) {
+            content.remove(size);
+        }
+
+        return new SliceImpl<>(content, PageRequest.ofSize(size), hasNext);
+    }
+
+    /**
+     * Inserts all notifications with a single multi-row INSERT and returns their ids in insertion order.
+     * The ids are read back with RETURNING because MariaDB Connector/J only reports the first generated key
+     * of a multi-row INSERT, and the remaining ids are not guaranteed to be consecutive.
+     * The creation time is taken from the JVM clock, like JPA auditing does, so that it compares correctly
+     * against windows and cutoffs computed in the application.
+     */
+    @Override
+    public List<Long> insertAll(List<NotificationEntity> notificationEntities) {
+        if (notificationEntities.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        String sql = INSERT_PREFIX + String.join(", ", Collections.nCopies(notificationEntities.size(), VALUES_ROW)) + RETURNING_ID;
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Long> ids = jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                bindRows(statement, notificationEntities, now);
+
+                List<Long> generatedIds = new ArrayList<>(notificationEntities.size());
+                try (ResultSet generatedKeys = statement.executeQuery()) {
+                    while (generatedKeys.next()) {
+                        generatedIds.add(generatedKeys.getLong(1));
+                    }
+                }
+                return generatedIds;
+            }
+        });
+
+        if (Objects.isNull(ids) || ids.size() != notificationEntities.size()) {
+            throw new IllegalStateException("Expected " + notificationEntities.size() + " generated notification ids but got " + (Objects.isNull(ids) ? 0 : ids.size()));
+        }
+
+        return ids;
+    }
+
+    /**
+     * Inserts aggregated notifications, or updates the args, status and creation time of the row that already holds
+     * the same aggregate key, so an aggregate keeps its id while it rolls up. The given args replace the stored ones,
+     * so callers merge them while holding the row lock. Managed notifications are detached afterwards,
+     * like {@code @Modifying(clearAutomatically = true)}, so that later reads see the updated rows.
+     */
+    @Override
+    public int upsertAggregates(List<NotificationEntity> notificationEntities) {
+        if (notificationEntities.isEmpty()) {
+            return 0;
+        }
+
+        String sql = INSERT_PREFIX + String.join(", ", Collections.nCopies(notificationEntities.size(), VALUES_ROW)) + UPDATE_AGGREGATE;
+        LocalDateTime now = LocalDateTime.now();
+
+        entityManager.flush();
+        Integer affectedRows = jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                bindRows(statement, notificationEntities, now);
+                return statement.executeUpdate();
+            }
+        });
+        entityManager.clear();
+
+        return Objects.nonNull(affectedRows) ? affectedRows : 0;
+    }
+
+    private void bindRows(PreparedStatement statement, List<NotificationEntity> notificationEntities, LocalDateTime now) throws SQLException {
+        int index = 1;
+        for (NotificationEntity notificationEntity : notificationEntities) {
+            UserEntity usersToEntity = notificationEntity.getUsersToEntity();
+            if (Objects.nonNull(usersToEntity)) {
+                statement.setLong(index++, usersToEntity.getId());
+            } else {
+                statement.setNull(index++, Types.BIGINT);
+            }
+            statement.setString(index++, notificationEntity.getType().name());
+            statement.setString(index++, notificationEntity.getStatus().name());
+            statement.setString(index++, writeArgs(notificationEntity));
+            statement.setString(index++, notificationEntity.getAggregateKey());
+            statement.setObject(index++, notificationEntity.getRecordId(), Types.BIGINT);
+            statement.setObject(index++, notificationEntity.getFeedId(), Types.BIGINT);
+            statement.setObject(index++, notificationEntity.getCommentId(), Types.BIGINT);
+            statement.setObject(index++, now);
+            statement.setObject(index++, now);
+        }
+    }
+
+    // Uses the same mapper as the JsonType mapping of NotificationEntity.args so that both write paths store identical JSON
+    private String writeArgs(NotificationEntity notificationEntity) {
+        if (Objects.isNull(notificationEntity.getArgs())) {
+            return null;
+        }
+
+        return JsonConfiguration.INSTANCE.getObjectMapperWrapper().toString(notificationEntity.getArgs());
+    }
+}
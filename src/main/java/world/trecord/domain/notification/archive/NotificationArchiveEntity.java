@@ -0,0 +1,61 @@
+package world.trecord.domain.notification.archive;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import world.trecord.domain.notification.enumeration.NotificationStatus;
+import world.trecord.domain.notification.enumeration.NotificationType;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read-only copy of a notification moved out of the hot notification table by the retention job.
+ * Rows are only written with INSERT ... SELECT, so the id is the original notification id.
+ */
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Table(name = "notification_archive",
+        indexes = {
+                @Index(name = "idx_notification_archive_users", columnList = "id_users_to")
+        }
+)
+@Entity
+public class NotificationArchiveEntity {
+
+    @Id
+    @Column(name = "id_notification", nullable = false, updatable = false)
+    private Long id;
+
+    @Column(name = "id_users_to", updatable = false)
+    private Long userToId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false, updatable = false)
+    private NotificationType type;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, updatable = false)
+    private NotificationStatus status;
+
+    @Column(name = "args", columnDefinition = "json", updatable = false)
+    private String args;
+
+    @Column(name = "record_id", updatable = false)
+    private Long recordId;
+
+    @Column(name = "feed_id", updatable = false)
+    private Long feedId;
+
+    @Column(name = "comment_id", updatable = false)
+    private Long commentId;
+
+    @Column(name = "created_date_time", updatable = false)
+    private LocalDateTime createdDateTime;
+
+    @Column(name = "modified_date_time", updatable = false)
+    private LocalDateTime modifiedDateTime;
+
+    @Column(name = "archived_date_time", nullable = false, updatable = false)
+    private LocalDateTime archivedDateTime;
+}
@@ -0,0 +1,20 @@
+package world.trecord.domain.notification.archive;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+
+@Repository
+public interface NotificationArchiveRepository extends JpaRepository<NotificationArchiveEntity, Long> {
+
+    @Modifying
+    @Query(value = "INSERT INTO notification_archive " +
+            "(id_notification, id_users_to, type, status, args, record_id, feed_id, comment_id, created_date_time, modified_date_time, archived_date_time) " +
+            "SELECT id_notification, id_users_to, type, status, args, record_id, feed_id, comment_id, created_date_time, modified_date_time, NOW() " +
+            "FROM notification WHERE id_notification IN :notificationIds", nativeQuery = true)
+    int archiveAllByIds(@Param("notificationIds") Collection<Long> notificationIds);
+}
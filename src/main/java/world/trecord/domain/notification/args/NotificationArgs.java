@@ -9,6 +9,9 @@ import world.trecord.domain.feed.FeedEntity;
 import world.trecord.domain.record.RecordEntity;
 import world.trecord.domain.users.UserEntity;
 
+import java.util.*;
+import java.util.stream.Stream;
+
 @NoArgsConstructor
 @Getter
 @Setter
@@ -18,6 +21,10 @@ public class NotificationArgs {
     private FeedArgs feed;
     private RecordArgs record;
     private CommentArgs comment;
+    private Integer count;
+    private List<UserFromArgs> actors;
+    // Every distinct sender folded into an aggregated notification, so that repeated actions by one user are counted once
+    private List<Long> actorIds;
 
     @Builder
     private NotificationArgs(UserEntity userFromEntity,
@@ -40,4 +47,81 @@ public class NotificationArgs {
             this.comment = new CommentArgs(commentEntity.getId(), commentEntity.getParentCommentId(), commentEntity.getContent());
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Returns new args for an aggregated notification: the newer event's targets and sender,
+     * the number of distinct senders and the most recent distinct actors, newest first.
+     */
+    public NotificationArgs merge(NotificationArgs newer, int maxActors) {
+        NotificationArgs merged = new NotificationArgs();
+        merged.userFrom = newer.userFrom;
+        merged.feed = newer.feed;
+        merged.record = newer.record;
+        merged.comment = newer.comment;
+
+        Set<Long> knownActorIds = new LinkedHashSet<>(actorIdsOf(this));
+        List<Long> newActorIds = actorIdsOf(newer).stream()
+                .filter(actorId -> !knownActorIds.contains(actorId))
+                .distinct()
+                .toList();
+        merged.count = countOf(this) + newActorIds.size();
+        merged.actorIds = Stream.concat(knownActorIds.stream(), newActorIds.stream()).toList();
+
+        Map<Long, UserFromArgs> actorsById = new LinkedHashMap<>();
+        Stream.concat(actorsOf(newer).stream(), actorsOf(this).stream())
+                .forEach(actor -> actorsById.putIfAbsent(actor.getId(), actor));
+        merged.actors = actorsById.values().stream()
+                .limit(maxActors)
+                .toList();
+
+        return merged;
+    }
+
+    /**
+     * Returns these args without the given sender, for a like that was undone after its notification was written.
+     * The latest remaining actor becomes the sender. Returns null when no named actor is left to show.
+     */
+    public NotificationArgs withoutActor(Long actorId) {
+        List<UserFromArgs> remainingActors = actorsOf(this).stream()
+                .filter(actor -> !Objects.equals(actor.getId(), actorId))
+                .toList();
+        if (remainingActors.isEmpty()) {
+            return null;
+        }
+
+        List<Long> knownActorIds = actorIdsOf(this);
+        NotificationArgs retracted = new NotificationArgs();
+        retracted.userFrom = Objects.nonNull(userFrom) && !Objects.equals(userFrom.getId(), actorId) ? userFrom : remainingActors.get(0);
+        retracted.feed = feed;
+        retracted.record = record;
+        retracted.comment = comment;
+        retracted.count = knownActorIds.contains(actorId) ? countOf(this) - 1 : countOf(this);
+        retracted.actorIds = knownActorIds.stream()
+                .filter(knownActorId -> !Objects.equals(knownActorId, actorId))
+                .toList();
+        retracted.actors = remainingActors;
+
+        return retracted;
+    }
+
+    private static int countOf(NotificationArgs args) {
+        return Objects.nonNull(args.count) ? args.count : 1;
+    }
+
+    private static List<Long> actorIdsOf(NotificationArgs args) {
+        if (Objects.nonNull(args.actorIds)) {
+            return args.actorIds;
+        }
+        return actorsOf(args).stream()
+                .map(UserFromArgs::getId)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private static List<UserFromArgs> actorsOf(NotificationArgs args) {
+        if (Objects.nonNull(args.actors)) {
+            return args.actors;
+        }
+        return Objects.nonNull(args.userFrom) ? List.of(args.userFrom) : List.of();
+    }
+}
@@ -10,10 +10,15 @@ public enum NotificationType {
             return notificationEntity.getArgs().getComment().getContent();
         }
     },
-    RECORD_LIKE {
+    RECORD_LIKE(true) {
         @Override
         public String getContent(NotificationEntity notificationEntity) {
-            return notificationEntity.getArgs().getUserFrom().getNickname() + "님이 회원님의 기록을 좋아합니다.";
+            String nickname = notificationEntity.getArgs().getUserFrom().getNickname();
+            Integer count = notificationEntity.getArgs().getCount();
+            if (count != null && count > 1) {
+                return nickname + "님 외 " + (count - 1) + "명이 회원님의 기록을 좋아합니다.";
+            }
+            return nickname + "님이 회원님의 기록을 좋아합니다.";
         }
     },
     FEED_INVITATION {
@@ -23,6 +28,20 @@ public enum NotificationType {
         }
     };
 
+    // Aggregated types keep one row per recipient, record and time bucket instead of one row per action
+    private final boolean aggregated;
+
+    NotificationType() {
+        this(false);
+    }
+
+    NotificationType(boolean aggregated) {
+        this.aggregated = aggregated;
+    }
+
+    public boolean isAggregated() {
+        return aggregated;
+    }
 
     public String getContent(NotificationEntity notificationEntity) {
         return "";
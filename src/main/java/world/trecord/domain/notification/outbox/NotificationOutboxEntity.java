@@ -0,0 +1,54 @@
+package world.trecord.domain.notification.outbox;
+
+import io.hypersistence.utils.hibernate.type.json.JsonType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Type;
+import world.trecord.domain.BaseEntity;
+import world.trecord.domain.notification.args.NotificationArgs;
+import world.trecord.domain.notification.enumeration.NotificationType;
+
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Table(name = "notification_outbox",
+        indexes = {
+                @Index(name = "idx_notification_outbox_coalesce_key", columnList = "coalesce_key")
+        }
+)
+@Entity
+public class NotificationOutboxEntity extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id_notification_outbox", nullable = false, updatable = false)
+    private Long id;
+
+    @Column(name = "id_users_to", nullable = false, updatable = false)
+    private Long userToId;
+
+    @Column(name = "id_users_from", updatable = false)
+    private Long userFromId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false, updatable = false)
+    private NotificationType type;
+
+    @Type(JsonType.class)
+    @Column(name = "args", columnDefinition = "json", updatable = false)
+    private NotificationArgs args;
+
+    @Column(name = "coalesce_key", nullable = false, updatable = false)
+    private String coalesceKey;
+
+    @Builder
+    private NotificationOutboxEntity(Long userToId, Long userFromId, NotificationType type, NotificationArgs args, String coalesceKey) {
+        this.coalesceKey = coalesceKey;
+        this.userToId = userToId;
+        this.userFromId = userFromId;
+        this.type = type;
+        this.args = args;
+    }
+}
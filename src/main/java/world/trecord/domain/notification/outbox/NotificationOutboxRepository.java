@@ -0,0 +1,25 @@
+package world.trecord.domain.notification.outbox;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutboxEntity, Long> {
+
+    @Query(value = "SELECT * FROM notification_outbox " +
+            "ORDER BY id_notification_outbox " +
+            "LIMIT :limit " +
+            "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<NotificationOutboxEntity> findPendingForUpdate(@Param("limit") int limit);
+
+    boolean existsByCoalesceKey(String coalesceKey);
+
+    @Modifying
+    @Query("DELETE FROM NotificationOutboxEntity noe WHERE noe.coalesceKey = :coalesceKey")
+    int deleteByCoalesceKey(@Param("coalesceKey") String coalesceKey);
+}
@@ -0,0 +1,26 @@
+package world.trecord.domain.purge;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Table(name = "purge_checkpoint")
+@Entity
+public class PurgeCheckpointEntity {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "target", nullable = false, length = 50)
+    private PurgeTarget target;
+
+    @Column(name = "last_id", nullable = false)
+    private long lastId;
+
+    @Column(name = "modified_date_time")
+    private LocalDateTime modifiedDateTime;
+}
@@ -0,0 +1,29 @@
+package world.trecord.domain.purge;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PurgeCheckpointRepository extends JpaRepository<PurgeCheckpointEntity, PurgeTarget> {
+
+    @Query(value = "SELECT last_id FROM purge_checkpoint WHERE target = :target", nativeQuery = true)
+    Long findLastIdByTarget(@Param("target") String target);
+
+    // Locks the checkpoint row until the chunk commits, so instances running the job at the same time purge one chunk after another
+    @Query(value = "SELECT last_id FROM purge_checkpoint WHERE target = :target FOR UPDATE", nativeQuery = true)
+    Long findLastIdByTargetForUpdate(@Param("target") String target);
+
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO purge_checkpoint (target, last_id, modified_date_time) " +
+            "VALUES (:target, 0, NOW())", nativeQuery = true)
+    void insertIfAbsent(@Param("target") String target);
+
+    @Modifying
+    @Query(value = "INSERT INTO purge_checkpoint (target, last_id, modified_date_time) " +
+            "VALUES (:target, :lastId, NOW()) " +
+            "ON DUPLICATE KEY UPDATE last_id = :lastId, modified_date_time = NOW()", nativeQuery = true)
+    void upsert(@Param("target") String target, @Param("lastId") long lastId);
+}
@@ -0,0 +1,40 @@
+package world.trecord.domain.purge;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Soft-deleted tables the purge job is allowed to hard-delete from, declared children first so that a parent row is
+ * never removed before the rows that reference it. A row is only purged once no child row references it any more,
+ * which keeps ON DELETE CASCADE from taking live children with it.
+ */
+@Getter
+public enum PurgeTarget {
+
+    USER_RECORD_LIKE("user_record_like", "id_like", List.of()),
+    COMMENT("comment", "id_comment", List.of(
+            new Reference("comment", "id_parent"))),
+    RECORD("record", "id_record", List.of(
+            new Reference("comment", "id_record"),
+            new Reference("user_record_like", "id_record"))),
+    RECORD_SEQUENCE("record_sequence", "id_sequence", List.of()),
+    FEED_CONTRIBUTOR("feed_contributor", "id_contributor", List.of()),
+    FEED("feed", "id_feed", List.of(
+            new Reference("record", "id_feed"),
+            new Reference("record_sequence", "id_feed"),
+            new Reference("feed_contributor", "id_feed")));
+
+    private final String tableName;
+    private final String idColumn;
+    private final List<Reference> references;
+
+    PurgeTarget(String tableName, String idColumn, List<Reference> references) {
+        this.tableName = tableName;
+        this.idColumn = idColumn;
+        this.references = references;
+    }
+
+    public record Reference(String tableName, String foreignKeyColumn) {
+    }
+}
@@ -0,0 +1,54 @@
+package world.trecord.domain.purge;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Builds the purge statements from {@link PurgeTarget}. Table and column names only ever come from the enum, so the
+ * string concatenation below never sees user input.
+ */
+@RequiredArgsConstructor
+@Repository
+public class SoftDeletePurgeRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<Long> findPurgeableIds(PurgeTarget target, LocalDateTime threshold, long afterId, int limit) {
+        String sql = "SELECT t." + target.getIdColumn() + " FROM " + target.getTableName() + " t " +
+                "WHERE t." + target.getIdColumn() + " > ? AND t.deleted_date_time < ?" + notReferenced(target) +
+                " ORDER BY t." + target.getIdColumn() +
+                " LIMIT ?";
+        return jdbcTemplate.queryForList(sql, Long.class, afterId, threshold, limit);
+    }
+
+    public int deleteAllByIds(PurgeTarget target, LocalDateTime threshold, List<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        // The predicates are re-checked so a row restored or referenced since the SELECT is left alone
+        String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        String sql = "DELETE t FROM " + target.getTableName() + " t " +
+                "WHERE t." + target.getIdColumn() + " IN (" + placeholders + ") AND t.deleted_date_time < ?" + notReferenced(target);
+
+        Object[] args = new Object[ids.size() + 1];
+        for (int i = 0; i < ids.size(); i++) {
+            args[i] = ids.get(i);
+        }
+        args[ids.size()] = threshold;
+        return jdbcTemplate.update(sql, args);
+    }
+
+    private String notReferenced(PurgeTarget target) {
+        return target.getReferences().stream()
+                .map(reference -> " AND NOT EXISTS (SELECT 1 FROM " + reference.tableName() + " r " +
+                        "WHERE r." + reference.foreignKeyColumn() + " = t." + target.getIdColumn() + ")")
+                .collect(Collectors.joining());
+    }
+}
@@ -19,10 +19,9 @@ import java.util.Objects;
 @Getter
 @Table(name = "record",
         indexes = {
-                @Index(name = "idx_record_feed", columnList = "id_feed"),
                 @Index(name = "idx_record_user", columnList = "id_author"),
-                @Index(name = "idx_record_feed_date", columnList = "id_feed, date"),
-                @Index(name = "idx_record_feed_user", columnList = "id_feed, id_author")
+                @Index(name = "idx_record_feed_date", columnList = "id_feed, deleted_date_time, date, sequence"),
+                @Index(name = "idx_record_feed_user", columnList = "id_feed, id_author, deleted_date_time")
         }
 )
 @SQLDelete(sql = "UPDATE record SET deleted_date_time = NOW() WHERE id_record = ?")
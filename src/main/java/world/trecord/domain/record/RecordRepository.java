@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.*;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
+import world.trecord.domain.record.projection.RecordSequenceProjection;
 import world.trecord.domain.record.projection.RecordWithFeedProjection;
 
 import java.time.LocalDateTime;
@@ -14,7 +15,7 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface RecordRepository extends JpaRepository<RecordEntity, Long> {
+public interface RecordRepository extends JpaRepository<RecordEntity, Long>, RecordRepositoryExtension {
 
     @EntityGraph(attributePaths = {"feedEntity"})
     Optional<RecordEntity> findWithFeedEntityById(Long recordId);
@@ -31,6 +32,14 @@ public interface RecordRepository extends JpaRepository<RecordEntity, Long> {
             "WHERE re.id IN :recordIds")
     List<RecordEntity> findByIdsForUpdate(@Param("recordIds") List<Long> recordIds);
 
+    // Rows are locked in primary key order so that two overlapping reorders cannot deadlock each other
+    @Query(value = "SELECT id_record " +
+            "FROM record " +
+            "WHERE id_feed = :feedId AND date = :date AND deleted_date_time IS NULL " +
+            "ORDER BY id_record " +
+            "FOR UPDATE", nativeQuery = true)
+    List<Long> findIdsForUpdateByFeedEntityIdAndDate(@Param("feedId") Long feedId, @Param("date") LocalDateTime date);
+
     @Query("SELECT re.id as id, re.title as title, re.place as place, re.latitude as latitude, re.longitude as longitude, re.imageUrl as imageUrl , re.date as date " +
             "FROM RecordEntity re " +
             "WHERE re.feedEntity.id = :feedId")
@@ -41,6 +50,20 @@ public interface RecordRepository extends JpaRepository<RecordEntity, Long> {
             "WHERE re.feedEntity.id = :feedId AND re.date = :date")
     Optional<Integer> findMaxSequenceByFeedEntityIdAndDate(@Param("feedId") Long feedId, @Param("date") LocalDateTime date);
 
+    // A locking read, so that the caller sees the latest committed order even if its snapshot is older
+    @Query(value = "SELECT id_record AS id, sequence AS sequence " +
+            "FROM record " +
+            "WHERE id_feed = :feedId AND date = :date AND deleted_date_time IS NULL " +
+            "ORDER BY sequence, id_record " +
+            "LOCK IN SHARE MODE", nativeQuery = true)
+    List<RecordSequenceProjection> findSequencesForShareByFeedEntityIdAndDate(@Param("feedId") Long feedId, @Param("date") LocalDateTime date);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE RecordEntity re " +
+            "SET re.sequence = :sequence " +
+            "WHERE re.id = :recordId")
+    void updateSequence(@Param("recordId") Long recordId, @Param("sequence") int sequence);
+
     @Transactional
     @Modifying
     @Query("UPDATE RecordEntity re " +
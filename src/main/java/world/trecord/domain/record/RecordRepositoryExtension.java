@@ -0,0 +1,20 @@
+package world.trecord.domain.record;
+
+import java.util.List;
+import java.util.Map;
+
+public interface RecordRepositoryExtension {
+
+    /**
+     * Rewrites the sequence of every given record with a single UPDATE ... CASE statement. The persistence context is
+     * flushed before and cleared after the update.
+     *
+     * @return the number of updated rows
+     */
+    int updateSequences(Map<Long, Integer> sequenceByRecordId);
+
+    /**
+     * Inserts the records with multi-row INSERT statements and returns their ids in insertion order.
+     */
+    List<Long> insertAll(List<RecordEntity> recordEntities);
+}
@@ -0,0 +1,115 @@
+package world.trecord.domain.record;
+
+import jakarta.persistence.EntityManager;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+public class RecordRepositoryExtensionImpl implements RecordRepositoryExtension {
+
+    private static final String INSERT_PREFIX = "INSERT INTO record " +
+            "(id_feed, id_author, title, date, place, longitude, latitude, feeling, weather, transportation, content, image_url, sequence, created_date_time, modified_date_time) VALUES ";
+    private static final String VALUES_ROW = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String RETURNING_ID = " RETURNING id_record";
+
+    // content is a LONGTEXT, so statements are kept small enough to stay well below max_allowed_packet
+    private static final int INSERT_CHUNK_SIZE = 100;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    public RecordRepositoryExtensionImpl(JdbcTemplate jdbcTemplate, EntityManager entityManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public int updateSequences(Map<Long, Integer> sequenceByRecordId) {
+        if (sequenceByRecordId.isEmpty()) {
+            return 0;
+        }
+
+        StringBuilder sql = new StringBuilder("UPDATE record SET sequence = CASE id_record");
+        List<Object> args = new ArrayList<>(sequenceByRecordId.size() * 3);
+        sequenceByRecordId.forEach((recordId, sequence) -> {
+            sql.append(" WHEN ? THEN ?");
+            args.add(recordId);
+            args.add(sequence);
+        });
+        sql.append(" END, modified_date_time = NOW() WHERE id_record IN (")
+                .append(String.join(", ", Collections.nCopies(sequenceByRecordId.size(), "?")))
+                .append(")");
+        args.addAll(sequenceByRecordId.keySet());
+
+        // Same contract as @Modifying(flushAutomatically = true, clearAutomatically = true): pending changes are written
+        // first and managed records are detached afterwards so that later reads see the new sequences
+        entityManager.flush();
+        int updated = jdbcTemplate.update(sql.toString(), args.toArray());
+        entityManager.clear();
+        return updated;
+    }
+
+    /**
+     * Returns the ids of the inserted records in insertion order. Each chunk reads its ids back with RETURNING because
+     * MariaDB Connector/J only reports the first generated key of a multi-row INSERT.
+     * The creation time is taken from the JVM clock, like JPA auditing does for records saved one at a time.
+     */
+    @Override
+    public List<Long> insertAll(List<RecordEntity> recordEntities) {
+        List<Long> ids = new ArrayList<>(recordEntities.size());
+        LocalDateTime now = LocalDateTime.now();
+        for (int from = 0; from < recordEntities.size(); from += INSERT_CHUNK_SIZE) {
+            ids.addAll(insertChunk(recordEntities.subList(from, Math.min(from + INSERT_CHUNK_SIZE, recordEntities.size())), now));
+        }
+        return ids;
+    }
+
+    private List<Long> insertChunk(List<RecordEntity> recordEntities, LocalDateTime now) {
+        String sql = INSERT_PREFIX + String.join(", ", Collections.nCopies(recordEntities.size(), VALUES_ROW)) + RETURNING_ID;
+
+        List<Long> ids = jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                int index = 1;
+                for (RecordEntity recordEntity : recordEntities) {
+                    statement.setLong(index++, recordEntity.getFeedId());
+                    statement.setLong(index++, recordEntity.getUserId());
+                    statement.setString(index++, recordEntity.getTitle());
+                    statement.setObject(index++, recordEntity.getDate());
+                    statement.setString(index++, recordEntity.getPlace());
+                    statement.setString(index++, recordEntity.getLongitude());
+                    statement.setString(index++, recordEntity.getLatitude());
+                    statement.setString(index++, recordEntity.getFeeling());
+                    statement.setString(index++, recordEntity.getWeather());
+                    statement.setString(index++, recordEntity.getTransportation());
+                    statement.setString(index++, recordEntity.getContent());
+                    statement.setString(index++, recordEntity.getImageUrl());
+                    statement.setInt(index++, recordEntity.getSequence());
+                    statement.setObject(index++, now);
+                    statement.setObject(index++, now);
+                }
+
+                List<Long> generatedIds = new ArrayList<>(recordEntities.size());
+                try (ResultSet generatedKeys = statement.executeQuery()) {
+                    while (generatedKeys.next()) {
+                        generatedIds.add(generatedKeys.getLong(1));
+                    }
+                }
+                return generatedIds;
+            }
+        });
+
+        if (Objects.isNull(ids) || ids.size() != recordEntities.size()) {
+            throw new IllegalStateException("Expected " + recordEntities.size() + " generated record ids but got " + (Objects.isNull(ids) ? 0 : ids.size()));
+        }
+
+        return ids;
+    }
+}
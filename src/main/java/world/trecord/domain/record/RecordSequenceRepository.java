@@ -11,7 +11,7 @@ import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Repository
-public interface RecordSequenceRepository extends JpaRepository<RecordSequenceEntity, Long> {
+public interface RecordSequenceRepository extends JpaRepository<RecordSequenceEntity, Long>, RecordSequenceRepositoryExtension {
 
     Optional<RecordSequenceEntity> findByFeedEntityIdAndDate(Long feedId, LocalDateTime date);
 
@@ -22,6 +22,21 @@ public interface RecordSequenceRepository extends JpaRepository<RecordSequenceEn
             "ON DUPLICATE KEY UPDATE sequence = sequence + 1", nativeQuery = true)
     void insertOrIncrement(@Param("feedId") Long feedId, @Param("date") LocalDateTime date);
 
+    // Takes the row lock that serializes reordering within a feed and date, creating the row from the current
+    // maximum sequence if records were written before the counter existed
+    @Modifying
+    @Query(value = "INSERT INTO record_sequence (id_feed, date, sequence, created_date_time, modified_date_time) " +
+            "SELECT :feedId, :date, COALESCE(MAX(r.sequence), 0), NOW(), NOW() " +
+            "FROM record r " +
+            "WHERE r.id_feed = :feedId AND r.date = :date " +
+            "ON DUPLICATE KEY UPDATE record_sequence.modified_date_time = NOW()", nativeQuery = true)
+    void lockByFeedEntityIdAndDate(@Param("feedId") Long feedId, @Param("date") LocalDateTime date);
+
+    @Modifying
+    @Query(value = "UPDATE record_sequence " +
+            "SET sequence = :sequence, modified_date_time = NOW() " +
+            "WHERE id_feed = :feedId AND date = :date", nativeQuery = true)
+    void updateSequenceByFeedEntityIdAndDate(@Param("feedId") Long feedId, @Param("date") LocalDateTime date, @Param("sequence") int sequence);
 
     @Modifying
     @Transactional
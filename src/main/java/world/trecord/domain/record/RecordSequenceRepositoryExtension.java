@@ -0,0 +1,13 @@
+package world.trecord.domain.record;
+
+import java.time.LocalDateTime;
+
+public interface RecordSequenceRepositoryExtension {
+
+    /**
+     * Reserves {@code count} consecutive sequence numbers for the feed and date in a single statement.
+     *
+     * @return the last sequence number of the reserved block
+     */
+    int allocate(Long feedId, LocalDateTime date, int count);
+}
@@ -0,0 +1,54 @@
+package world.trecord.domain.record;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+
+public class RecordSequenceRepositoryExtensionImpl implements RecordSequenceRepositoryExtension {
+
+    // LAST_INSERT_ID(expr) makes the server return the incremented sequence in the OK packet of the same statement,
+    // so the caller does not need a second SELECT while it holds the row lock
+    private static final String ALLOCATE = "INSERT INTO record_sequence (id_feed, date, sequence, created_date_time, modified_date_time) " +
+            "VALUES (?, ?, ?, NOW(), NOW()) " +
+            "ON DUPLICATE KEY UPDATE sequence = LAST_INSERT_ID(sequence + ?), modified_date_time = NOW()";
+
+    private static final int INSERTED = 1;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public RecordSequenceRepositoryExtensionImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public int allocate(Long feedId, LocalDateTime date, int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("Sequence allocation count must be positive");
+        }
+
+        return jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(ALLOCATE, Statement.RETURN_GENERATED_KEYS)) {
+                statement.setLong(1, feedId);
+                statement.setObject(2, date);
+                statement.setInt(3, count);
+                statement.setInt(4, count);
+
+                // A fresh row starts at count; on update the generated key carries the LAST_INSERT_ID(expr) value instead
+                if (statement.executeUpdate() == INSERTED) {
+                    return count;
+                }
+
+                try (ResultSet generatedKeys = statement.getGeneratedKeys()) {
+                    if (!generatedKeys.next()) {
+                        throw new IllegalStateException("Record sequence allocation did not return the new sequence");
+                    }
+                    return generatedKeys.getInt(1);
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,8 @@
+package world.trecord.domain.record.projection;
+
+public interface RecordSequenceProjection {
+
+    Long getId();
+
+    int getSequence();
+}
@@ -15,8 +15,8 @@ import world.trecord.domain.users.UserEntity;
 @Getter
 @Table(name = "user_record_like",
         indexes = {
-                @Index(name = "idx_user_record_like_user", columnList = "id_users"),
-                @Index(name = "idx_user_record_like_record", columnList = "id_record"),
+                @Index(name = "idx_user_record_like_user", columnList = "id_users, deleted_date_time, created_date_time"),
+                @Index(name = "idx_user_record_like_record", columnList = "id_record, deleted_date_time"),
                 @Index(name = "idx_user_record_like_user_record", columnList = "id_users, id_record")
         }
 )
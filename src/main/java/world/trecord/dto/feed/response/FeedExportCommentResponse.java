@@ -0,0 +1,42 @@
+package world.trecord.dto.feed.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import world.trecord.domain.feed.projection.FeedExportRow;
+
+import java.time.LocalDateTime;
+
+@NoArgsConstructor
+@Setter
+@Getter
+public class FeedExportCommentResponse {
+    private Long commentId;
+    private Long parentId;
+    private Long userId;
+    private String nickname;
+    private String content;
+    private LocalDateTime createdDateTime;
+
+    public static FeedExportCommentResponse of(FeedExportRow row) {
+        return FeedExportCommentResponse.builder()
+                .commentId(row.commentId())
+                .parentId(row.commentParentId())
+                .userId(row.commenterId())
+                .nickname(row.commenterNickname())
+                .content(row.commentContent())
+                .createdDateTime(row.commentCreatedDateTime())
+                .build();
+    }
+
+    @Builder
+    private FeedExportCommentResponse(Long commentId, Long parentId, Long userId, String nickname, String content, LocalDateTime createdDateTime) {
+        this.commentId = commentId;
+        this.parentId = parentId;
+        this.userId = userId;
+        this.nickname = nickname;
+        this.content = content;
+        this.createdDateTime = createdDateTime;
+    }
+}
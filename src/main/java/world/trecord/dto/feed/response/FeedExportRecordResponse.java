@@ -0,0 +1,62 @@
+package world.trecord.dto.feed.response;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import world.trecord.domain.feed.projection.FeedExportRow;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@NoArgsConstructor
+@Setter
+@Getter
+public class FeedExportRecordResponse {
+    private Long recordId;
+    private String title;
+    private LocalDateTime date;
+    private int sequence;
+    private String place;
+    private String latitude;
+    private String longitude;
+    private String feeling;
+    private String weather;
+    private String transportation;
+    private String content;
+    private String imageUrl;
+    private Long authorId;
+    private String authorNickname;
+    private long likeCount;
+    private List<FeedExportCommentResponse> comments = new ArrayList<>();
+
+    public static FeedExportRecordResponse of(FeedExportRow row) {
+        FeedExportRecordResponse response = new FeedExportRecordResponse();
+        response.recordId = row.recordId();
+        response.title = row.title();
+        response.date = row.date();
+        response.sequence = row.sequence();
+        response.place = row.place();
+        response.latitude = row.latitude();
+        response.longitude = row.longitude();
+        response.feeling = row.feeling();
+        response.weather = row.weather();
+        response.transportation = row.transportation();
+        response.content = row.content();
+        response.imageUrl = row.imageUrl();
+        response.authorId = row.authorId();
+        response.authorNickname = row.authorNickname();
+        response.likeCount = row.likeCount();
+        return response;
+    }
+
+    public boolean isRowOf(FeedExportRow row) {
+        return this.recordId.equals(row.recordId());
+    }
+
+    public void addComment(FeedExportRow row) {
+        if (row.hasComment()) {
+            this.comments.add(FeedExportCommentResponse.of(row));
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package world.trecord.dto.notification;
+
+import world.trecord.domain.notification.NotificationEntity;
+import world.trecord.exception.CustomException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Objects;
+
+import static world.trecord.exception.CustomExceptionError.INVALID_ARGUMENT;
+
+/**
+ * Position in the notification inbox, ordered by (created_date_time, id_notification) descending.
+ * Serialized as an opaque URL-safe string so clients do not depend on its layout.
+ */
+public record NotificationCursor(LocalDateTime createdDateTime, Long id) {
+
+    private static final String DELIMITER = "|";
+
+    public static NotificationCursor of(NotificationEntity notificationEntity) {
+        return new NotificationCursor(notificationEntity.getCreatedDateTime(), notificationEntity.getId());
+    }
+
+    public static NotificationCursor decode(String cursor) {
+        if (Objects.isNull(cursor) || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiterIndex = decoded.lastIndexOf(DELIMITER);
+            return new NotificationCursor(LocalDateTime.parse(decoded.substring(0, delimiterIndex)),
+                    Long.parseLong(decoded.substring(delimiterIndex + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException ex) {
+            throw new CustomException(INVALID_ARGUMENT, "올바르지 않은 커서입니다");
+        }
+    }
+
+    public String encode() {
+        String raw = createdDateTime + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,30 @@
+package world.trecord.dto.notification.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import world.trecord.domain.notification.enumeration.NotificationType;
+
+@NoArgsConstructor
+@Setter
+@Getter
+public class NotificationCursorRequest {
+
+    private String cursor;
+
+    @Min(1)
+    @Max(100)
+    private int size = 20;
+
+    private NotificationType type;
+
+    @Builder
+    private NotificationCursorRequest(String cursor, int size, NotificationType type) {
+        this.cursor = cursor;
+        this.size = size;
+        this.type = type;
+    }
+}
@@ -10,10 +10,12 @@ import lombok.Setter;
 @Setter
 public class CheckNewNotificationResponse {
     private boolean hasNewNotification;
+    private long unreadCount;
 
     @Builder
-    private CheckNewNotificationResponse(boolean hasNewNotification) {
-        this.hasNewNotification = hasNewNotification;
+    private CheckNewNotificationResponse(long unreadCount) {
+        this.hasNewNotification = unreadCount > 0;
+        this.unreadCount = unreadCount;
     }
 }
 
@@ -14,6 +14,7 @@ import world.trecord.domain.notification.enumeration.NotificationStatus;
 import world.trecord.domain.notification.enumeration.NotificationType;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @JsonInclude(JsonInclude.Include.NON_NULL)
 @NoArgsConstructor
@@ -30,6 +31,8 @@ public class NotificationResponse {
     private FeedArgs feed;
     private RecordArgs record;
     private CommentArgs comment;
+    private Integer count;
+    private List<UserFromArgs> actors;
 
     public static NotificationResponse of(NotificationEntity notificationEntity) {
         return NotificationResponse.builder()
@@ -48,5 +51,7 @@ public class NotificationResponse {
         this.feed = notificationEntity.getFeedArgs();
         this.record = notificationEntity.getRecordArgs();
         this.comment = notificationEntity.getCommentArgs();
+        this.count = notificationEntity.getAggregateCount();
+        this.actors = notificationEntity.getAggregateActors();
     }
 }
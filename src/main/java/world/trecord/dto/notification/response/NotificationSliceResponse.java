@@ -0,0 +1,25 @@
+package world.trecord.dto.notification.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@NoArgsConstructor
+@Getter
+@Setter
+public class NotificationSliceResponse {
+
+    private List<NotificationResponse> content;
+    private boolean hasNext;
+    private String nextCursor;
+
+    @Builder
+    private NotificationSliceResponse(List<NotificationResponse> content, boolean hasNext, String nextCursor) {
+        this.content = content;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+    }
+}
@@ -0,0 +1,27 @@
+package world.trecord.dto.record.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@NoArgsConstructor
+@Setter
+@Getter
+public class RecordBatchCreateRequest {
+
+    @Valid
+    @NotEmpty
+    @Size(max = 500)
+    private List<RecordCreateRequest> records;
+
+    @Builder
+    private RecordBatchCreateRequest(List<RecordCreateRequest> records) {
+        this.records = records;
+    }
+}
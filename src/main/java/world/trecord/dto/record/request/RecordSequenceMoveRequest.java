@@ -0,0 +1,28 @@
+package world.trecord.dto.record.request;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@NoArgsConstructor
+@Setter
+@Getter
+public class RecordSequenceMoveRequest {
+
+    @NotNull
+    private Long recordId;
+
+    // 1-based position among the records of the same feed and date
+    @NotNull
+    @Positive
+    private Integer position;
+
+    @Builder
+    private RecordSequenceMoveRequest(Long recordId, Integer position) {
+        this.recordId = recordId;
+        this.position = position;
+    }
+}
@@ -0,0 +1,36 @@
+package world.trecord.dto.record.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@NoArgsConstructor
+@Setter
+@Getter
+public class RecordSequenceReorderRequest {
+
+    @NotNull
+    private Long feedId;
+
+    @NotNull
+    private LocalDateTime date;
+
+    // Every record of the feed and date, in the desired order
+    @NotEmpty
+    @Size(max = 500)
+    private List<@NotNull Long> recordIds;
+
+    @Builder
+    private RecordSequenceReorderRequest(Long feedId, LocalDateTime date, List<Long> recordIds) {
+        this.feedId = feedId;
+        this.date = date;
+        this.recordIds = recordIds;
+    }
+}
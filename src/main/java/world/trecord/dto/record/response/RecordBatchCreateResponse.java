@@ -0,0 +1,25 @@
+package world.trecord.dto.record.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@NoArgsConstructor
+@Setter
+@Getter
+public class RecordBatchCreateResponse {
+
+    private int createdCount;
+    private int failedCount;
+    private List<RecordBatchItemResponse> results;
+
+    @Builder
+    private RecordBatchCreateResponse(List<RecordBatchItemResponse> results) {
+        this.createdCount = (int) results.stream().filter(RecordBatchItemResponse::isCreated).count();
+        this.failedCount = results.size() - this.createdCount;
+        this.results = results;
+    }
+}
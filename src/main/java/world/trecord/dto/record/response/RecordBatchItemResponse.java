@@ -0,0 +1,52 @@
+package world.trecord.dto.record.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import world.trecord.exception.CustomExceptionError;
+
+@NoArgsConstructor
+@Setter
+@Getter
+public class RecordBatchItemResponse {
+
+    private int index;
+    private boolean created;
+    private Long feedId;
+    private Long recordId;
+    private Integer sequence;
+    private Integer errorCode;
+    private String errorMessage;
+
+    public static RecordBatchItemResponse created(int index, Long feedId, Long recordId, int sequence) {
+        return RecordBatchItemResponse.builder()
+                .index(index)
+                .created(true)
+                .feedId(feedId)
+                .recordId(recordId)
+                .sequence(sequence)
+                .build();
+    }
+
+    public static RecordBatchItemResponse failed(int index, Long feedId, CustomExceptionError error) {
+        return RecordBatchItemResponse.builder()
+                .index(index)
+                .created(false)
+                .feedId(feedId)
+                .errorCode(error.code())
+                .errorMessage(error.message())
+                .build();
+    }
+
+    @Builder
+    private RecordBatchItemResponse(int index, boolean created, Long feedId, Long recordId, Integer sequence, Integer errorCode, String errorMessage) {
+        this.index = index;
+        this.created = created;
+        this.feedId = feedId;
+        this.recordId = recordId;
+        this.sequence = sequence;
+        this.errorCode = errorCode;
+        this.errorMessage = errorMessage;
+    }
+}
@@ -0,0 +1,7 @@
+package world.trecord.event.notification;
+
+/**
+ * Published when the action behind a notification is undone before the notification is delivered, e.g. an unlike.
+ */
+public record NotificationCancelEvent(NotificationEvent notificationEvent) {
+}
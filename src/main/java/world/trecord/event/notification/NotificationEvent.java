@@ -3,5 +3,15 @@ package world.trecord.event.notification;
 import world.trecord.domain.notification.args.NotificationArgs;
 import world.trecord.domain.notification.enumeration.NotificationType;
 
+import java.util.Objects;
+
 public record NotificationEvent(Long userToId, Long userFromId, NotificationType type, NotificationArgs args) {
+
+    /**
+     * Identifies events that describe the same action, e.g. the same user liking the same record again.
+     */
+    public String coalesceKey() {
+        Long recordId = Objects.nonNull(args) && Objects.nonNull(args.getRecord()) ? args.getRecord().getId() : null;
+        return userToId + ":" + type + ":" + recordId + ":" + userFromId;
+    }
 }
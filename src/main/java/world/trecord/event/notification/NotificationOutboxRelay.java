@@ -0,0 +1,56 @@
+package world.trecord.event.notification;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import world.trecord.config.properties.NotificationProperties;
+import world.trecord.domain.notification.NotificationEntity;
+import world.trecord.event.sse.SseEmitterEvent;
+import world.trecord.event.sse.SseEventBroker;
+import world.trecord.service.notification.NotificationOutboxService;
+
+import java.util.List;
+
+/**
+ * Polls the notification outbox, creates notifications in batches and fans them out over SSE once the batch has
+ * committed. Outbox rows are only deleted in the transaction that creates their notifications, so a crash results
+ * in redelivery rather than a lost notification.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class NotificationOutboxRelay {
+
+    private final NotificationOutboxService notificationOutboxService;
+    private final SseEventBroker sseEventBroker;
+    private final NotificationProperties notificationProperties;
+
+    @Scheduled(fixedDelayString = "${notification.outbox.poll-interval-ms:200}")
+    public void relay() {
+        NotificationProperties.Outbox outbox = notificationProperties.getOutbox();
+        for (int batch = 0; batch < outbox.getMaxBatchesPerPoll(); batch++) {
+            List<NotificationEntity> notificationEntities = notificationOutboxService.processBatch(outbox.getBatchSize());
+            if (notificationEntities.isEmpty()) {
+                return;
+            }
+
+            log.info("Relayed [{}] notifications from the outbox", notificationEntities.size());
+            notificationEntities.forEach(this::publish);
+        }
+    }
+
+    private void publish(NotificationEntity notificationEntity) {
+        try {
+            sseEventBroker.publish(notificationEntity.getUsersToEntity().getId(), notificationEntity.getId(), buildSseEmitterEvent(notificationEntity));
+        } catch (Exception ex) {
+            log.warn("Failed to publish SSE event for notification [{}]", notificationEntity.getId(), ex);
+        }
+    }
+
+    private SseEmitterEvent buildSseEmitterEvent(NotificationEntity notificationEntity) {
+        return SseEmitterEvent.builder()
+                .notificationEntity(notificationEntity)
+                .build();
+    }
+}
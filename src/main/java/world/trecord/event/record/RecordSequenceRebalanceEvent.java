@@ -0,0 +1,6 @@
+package world.trecord.event.record;
+
+import java.time.LocalDateTime;
+
+public record RecordSequenceRebalanceEvent(Long feedId, LocalDateTime date) {
+}
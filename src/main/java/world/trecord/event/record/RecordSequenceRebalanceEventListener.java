@@ -0,0 +1,27 @@
+package world.trecord.event.record;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import world.trecord.service.record.RecordSequenceRebalancer;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class RecordSequenceRebalanceEventListener {
+
+    private final RecordSequenceRebalancer recordSequenceRebalancer;
+
+    @Async
+    @TransactionalEventListener
+    public void handleRecordSequenceRebalanceEventListener(RecordSequenceRebalanceEvent event) {
+        try {
+            recordSequenceRebalancer.rebalance(event.feedId(), event.date());
+        } catch (Exception ex) {
+            // The next move that runs out of room rebalances synchronously, so a failure here only costs latency
+            log.warn("Failed to rebalance record sequences of feed [{}] on [{}]", event.feedId(), event.date(), ex);
+        }
+    }
+}
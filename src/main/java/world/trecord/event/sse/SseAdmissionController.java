@@ -0,0 +1,172 @@
+package world.trecord.event.sse;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import world.trecord.config.properties.SseProperties;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.lang.management.OperatingSystemMXBean;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Lock-free admission control for SSE connections. A connection is admitted while the per-instance limit,
+ * the post-GC free heap ratio and the file descriptor usage all stay within the configured bounds.
+ */
+@Slf4j
+@Component
+public class SseAdmissionController implements MeterBinder {
+
+    public enum Result {
+        ADMITTED, CONNECTION_LIMIT, HEAP, FILE_DESCRIPTORS
+    }
+
+    private static final MemoryPoolMXBean OLD_GENERATION_POOL = findOldGenerationPool();
+
+    private final AtomicInteger currentConnections = new AtomicInteger(0);
+    private final Map<Result, LongAdder> rejectedConnections = new EnumMap<>(Result.class);
+    private final SseProperties.Admission admission;
+    private final DoubleSupplier freeHeapRatio;
+    private final DoubleSupplier fileDescriptorUsageRatio;
+
+    @Autowired
+    public SseAdmissionController(SseProperties sseProperties) {
+        this(sseProperties, SseAdmissionController::currentFreeHeapRatio, SseAdmissionController::currentFileDescriptorUsageRatio);
+    }
+
+    SseAdmissionController(SseProperties sseProperties, DoubleSupplier freeHeapRatio, DoubleSupplier fileDescriptorUsageRatio) {
+        this.admission = sseProperties.getAdmission();
+        this.freeHeapRatio = freeHeapRatio;
+        this.fileDescriptorUsageRatio = fileDescriptorUsageRatio;
+        for (Result result : Result.values()) {
+            if (result != Result.ADMITTED) {
+                rejectedConnections.put(result, new LongAdder());
+            }
+        }
+    }
+
+    public Result tryAcquire() {
+        Result result = doTryAcquire();
+        if (result != Result.ADMITTED) {
+            rejectedConnections.get(result).increment();
+        }
+        return result;
+    }
+
+    public void release() {
+        currentConnections.decrementAndGet();
+    }
+
+    public int getCurrentConnections() {
+        return currentConnections.get();
+    }
+
+    public int getMaxConnections() {
+        return admission.getMaxConnections();
+    }
+
+    public long getRejectedConnections(Result result) {
+        return rejectedConnections.get(result).sum();
+    }
+
+    /**
+     * Retry-After value for a rejected client. Jitter is added so that clients dropped together by a deploy do not
+     * all reconnect in the same second.
+     */
+    public int retryAfterSeconds() {
+        int base = admission.getRetryAfterSeconds();
+        int jitter = admission.getRetryAfterJitterSeconds();
+        return jitter > 0 ? base + ThreadLocalRandom.current().nextInt(jitter + 1) : base;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("sse.admission.connections", this, SseAdmissionController::getCurrentConnections)
+                .description("Number of admitted SSE connections")
+                .register(registry);
+        Gauge.builder("sse.admission.limit", this, SseAdmissionController::getMaxConnections)
+                .description("Maximum number of SSE connections on this instance")
+                .register(registry);
+        Gauge.builder("sse.admission.heap.free.ratio", freeHeapRatio, DoubleSupplier::getAsDouble)
+                .description("Ratio of free heap used for SSE admission")
+                .register(registry);
+        Gauge.builder("sse.admission.fd.usage.ratio", fileDescriptorUsageRatio, DoubleSupplier::getAsDouble)
+                .description("Ratio of open file descriptors used for SSE admission")
+                .register(registry);
+        rejectedConnections.forEach((result, counter) -> FunctionCounter.builder("sse.admission.rejected", counter, LongAdder::sum)
+                .description("Number of SSE connections rejected by admission control")
+                .tag("reason", result.name().toLowerCase())
+                .register(registry));
+    }
+
+    private Result doTryAcquire() {
+        if (freeHeapRatio.getAsDouble() < admission.getMinFreeHeapRatio()) {
+            return Result.HEAP;
+        }
+
+        if (fileDescriptorUsageRatio.getAsDouble() > admission.getMaxFileDescriptorUsageRatio()) {
+            return Result.FILE_DESCRIPTORS;
+        }
+
+        int limit = admission.getMaxConnections();
+        while (true) {
+            int current = currentConnections.get();
+            if (current >= limit) {
+                return Result.CONNECTION_LIMIT;
+            }
+            if (currentConnections.compareAndSet(current, current + 1)) {
+                return Result.ADMITTED;
+            }
+        }
+    }
+
+    /**
+     * Free ratio of the old generation as of its last collection. Live heap usage includes garbage that has not been
+     * collected yet, which would reject connections right before every GC.
+     */
+    private static double currentFreeHeapRatio() {
+        MemoryPoolMXBean oldGeneration = OLD_GENERATION_POOL;
+        if (Objects.isNull(oldGeneration)) {
+            return 1.0;
+        }
+
+        MemoryUsage afterGc = oldGeneration.getCollectionUsage();
+        if (Objects.isNull(afterGc)) {
+            return 1.0;
+        }
+
+        long max = afterGc.getMax() > 0 ? afterGc.getMax() : Runtime.getRuntime().maxMemory();
+        return max <= 0 ? 1.0 : (double) (max - afterGc.getUsed()) / max;
+    }
+
+    // The old generation is the largest heap pool which reports usage after collection (the single pool for ZGC)
+    private static MemoryPoolMXBean findOldGenerationPool() {
+        return ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP && pool.isValid())
+                .filter(pool -> Objects.nonNull(pool.getCollectionUsage()))
+                .max(Comparator.comparingLong(pool -> pool.getUsage().getMax()))
+                .orElse(null);
+    }
+
+    private static double currentFileDescriptorUsageRatio() {
+        OperatingSystemMXBean osBean = ManagementFactory.getOperatingSystemMXBean();
+        if (osBean instanceof com.sun.management.UnixOperatingSystemMXBean unixOsBean && unixOsBean.getMaxFileDescriptorCount() > 0) {
+            return (double) unixOsBean.getOpenFileDescriptorCount() / unixOsBean.getMaxFileDescriptorCount();
+        }
+        return 0.0;
+    }
+}
@@ -0,0 +1,19 @@
+package world.trecord.event.sse;
+
+import world.trecord.exception.CustomException;
+
+import static world.trecord.exception.CustomExceptionError.MAX_CONNECTIONS_EXCEEDED_ERROR;
+
+public class SseAdmissionRejectedException extends CustomException {
+
+    private final int retryAfterSeconds;
+
+    public SseAdmissionRejectedException(SseAdmissionController.Result result, int retryAfterSeconds) {
+        super(MAX_CONNECTIONS_EXCEEDED_ERROR, result.name());
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public int retryAfterSeconds() {
+        return this.retryAfterSeconds;
+    }
+}
@@ -0,0 +1,4 @@
+package world.trecord.event.sse;
+
+public record SseBrokerMessage(Long userToId, Long eventId, SseEmitterEvent event) {
+}
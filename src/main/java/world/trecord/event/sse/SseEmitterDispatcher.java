@@ -0,0 +1,263 @@
+package world.trecord.event.sse;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import world.trecord.config.properties.SseProperties;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Decouples event producers from socket writes. Every emitter gets its own bounded outbound queue which is drained
+ * by at most one writer task at a time, so a slow client only delays its own events and never blocks the caller.
+ * A drain writes a limited number of events before yielding its writer thread, and a watchdog fails any emitter whose
+ * current write has been blocked longer than the write timeout. Completing that emitter with an error closes the
+ * response, which unblocks the stalled writer, so stalled clients cannot hold the shared writer pool.
+ */
+@Slf4j
+@Component
+public class SseEmitterDispatcher implements MeterBinder {
+
+    private static final long IDLE = 0L;
+    private static final Duration MIN_WATCHDOG_PERIOD = Duration.ofMillis(100);
+
+    private final Map<SseEmitter, OutboundQueue> queueMap = new ConcurrentHashMap<>();
+    private final Executor writerExecutor;
+    private final ScheduledExecutorService watchdogExecutor;
+    private final int queueCapacity;
+    private final SseOverflowPolicy overflowPolicy;
+    private final int maxEventsPerDrain;
+    private final long writeTimeoutNanos;
+    private final LongAdder droppedEvents = new LongAdder();
+    private final LongAdder overflowDisconnects = new LongAdder();
+    private final LongAdder writeTimeouts = new LongAdder();
+    private Timer deliveryLagTimer;
+
+    @Autowired
+    public SseEmitterDispatcher(SseProperties sseProperties) {
+        this(sseProperties,
+                Executors.newFixedThreadPool(sseProperties.getOutbound().getWriterThreads(), new CustomizableThreadFactory("SseWriter-")),
+                Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("SseWriteWatchdog-")));
+    }
+
+    SseEmitterDispatcher(SseProperties sseProperties, Executor writerExecutor) {
+        this(sseProperties, writerExecutor, null);
+    }
+
+    private SseEmitterDispatcher(SseProperties sseProperties, Executor writerExecutor, ScheduledExecutorService watchdogExecutor) {
+        SseProperties.Outbound outbound = sseProperties.getOutbound();
+        this.writerExecutor = writerExecutor;
+        this.watchdogExecutor = watchdogExecutor;
+        this.queueCapacity = outbound.getQueueCapacity();
+        this.overflowPolicy = outbound.getOverflowPolicy();
+        this.maxEventsPerDrain = outbound.getMaxEventsPerDrain();
+        this.writeTimeoutNanos = outbound.getWriteTimeout().toNanos();
+
+        if (Objects.nonNull(watchdogExecutor)) {
+            long periodMillis = Math.max(outbound.getWriteTimeout().dividedBy(2).toMillis(), MIN_WATCHDOG_PERIOD.toMillis());
+            watchdogExecutor.scheduleWithFixedDelay(this::expireStalledWrites, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Creates the outbound queue of an emitter. The failure handler is called once when a write fails or times out,
+     * or when the queue overflows under {@link SseOverflowPolicy#DISCONNECT}.
+     */
+    public void register(SseEmitter emitter, Consumer<Throwable> onFailure) {
+        queueMap.putIfAbsent(emitter, new OutboundQueue(emitter, onFailure));
+    }
+
+    /**
+     * Queues an event for a registered emitter. Events for an emitter which was never registered, or which has
+     * already failed or been removed, are skipped.
+     */
+    public boolean dispatch(SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        OutboundQueue queue = queueMap.get(emitter);
+        if (Objects.isNull(queue)) {
+            return false;
+        }
+
+        if (queue.size.get() >= queueCapacity) {
+            if (overflowPolicy == SseOverflowPolicy.DISCONNECT) {
+                log.warn("Outbound queue of emitter [{}] is full. Disconnecting slow client.", emitter);
+                overflowDisconnects.increment();
+                fail(queue, new IllegalStateException("SSE outbound queue overflow"));
+                return false;
+            }
+            if (queue.events.pollFirst() != null) {
+                queue.size.decrementAndGet();
+                droppedEvents.increment();
+            }
+        }
+
+        queue.events.offerLast(new PendingEvent(event, System.nanoTime()));
+        queue.size.incrementAndGet();
+        schedule(queue);
+        return true;
+    }
+
+    public void remove(SseEmitter emitter) {
+        queueMap.remove(emitter);
+    }
+
+    public int getQueuedEvents() {
+        return queueMap.values().stream().mapToInt(it -> it.size.get()).sum();
+    }
+
+    public double getMaxLagMillis() {
+        long now = System.nanoTime();
+        return queueMap.values().stream()
+                .map(it -> it.events.peekFirst())
+                .filter(Objects::nonNull)
+                .mapToLong(it -> now - it.enqueuedAt())
+                .max()
+                .orElse(0L) / 1_000_000.0;
+    }
+
+    public long getDroppedEvents() {
+        return droppedEvents.sum();
+    }
+
+    public long getOverflowDisconnects() {
+        return overflowDisconnects.sum();
+    }
+
+    public long getWriteTimeouts() {
+        return writeTimeouts.sum();
+    }
+
+    /**
+     * Fails every emitter whose current write started more than the write timeout ago.
+     *
+     * @return the number of failed emitters
+     */
+    public int expireStalledWrites() {
+        long now = System.nanoTime();
+        int expired = 0;
+        for (OutboundQueue queue : queueMap.values()) {
+            long writeStartedAt = queue.writeStartedAt;
+            if (writeStartedAt != IDLE && now - writeStartedAt > writeTimeoutNanos) {
+                log.warn("Write to emitter [{}] is stalled for more than [{}] ms. Disconnecting slow client.", queue.emitter, TimeUnit.NANOSECONDS.toMillis(writeTimeoutNanos));
+                writeTimeouts.increment();
+                fail(queue, new TimeoutException("SSE write timed out"));
+                expired++;
+            }
+        }
+        return expired;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        deliveryLagTimer = Timer.builder("sse.outbound.delivery.lag")
+                .description("Time between queueing an event and writing it to the client")
+                .register(registry);
+        Gauge.builder("sse.outbound.queued", this, SseEmitterDispatcher::getQueuedEvents)
+                .description("Number of events waiting in outbound queues")
+                .register(registry);
+        Gauge.builder("sse.outbound.max.lag", this, SseEmitterDispatcher::getMaxLagMillis)
+                .description("Age in milliseconds of the oldest queued event across connections")
+                .baseUnit("milliseconds")
+                .register(registry);
+        FunctionCounter.builder("sse.outbound.dropped", this, SseEmitterDispatcher::getDroppedEvents)
+                .description("Number of events dropped by the drop-oldest overflow policy")
+                .register(registry);
+        FunctionCounter.builder("sse.outbound.overflow.disconnects", this, SseEmitterDispatcher::getOverflowDisconnects)
+                .description("Number of connections closed by the disconnect overflow policy")
+                .register(registry);
+        FunctionCounter.builder("sse.outbound.write.timeouts", this, SseEmitterDispatcher::getWriteTimeouts)
+                .description("Number of connections closed because a write exceeded the write timeout")
+                .register(registry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (Objects.nonNull(watchdogExecutor)) {
+            watchdogExecutor.shutdown();
+        }
+        if (writerExecutor instanceof ExecutorService executorService) {
+            executorService.shutdown();
+        }
+    }
+
+    private void schedule(OutboundQueue queue) {
+        if (queue.scheduled.compareAndSet(false, true)) {
+            try {
+                writerExecutor.execute(() -> drain(queue));
+            } catch (RejectedExecutionException ex) {
+                queue.scheduled.set(false);
+                fail(queue, ex);
+            }
+        }
+    }
+
+    private void drain(OutboundQueue queue) {
+        try {
+            PendingEvent pendingEvent;
+            int written = 0;
+            while (written < maxEventsPerDrain && !queue.failed.get() && (pendingEvent = queue.events.pollFirst()) != null) {
+                queue.size.decrementAndGet();
+                queue.writeStartedAt = System.nanoTime();
+                queue.emitter.send(pendingEvent.event());
+                queue.writeStartedAt = IDLE;
+                written++;
+                if (Objects.nonNull(deliveryLagTimer)) {
+                    deliveryLagTimer.record(System.nanoTime() - pendingEvent.enqueuedAt(), TimeUnit.NANOSECONDS);
+                }
+            }
+        } catch (IOException | IllegalStateException ex) {
+            fail(queue, ex);
+            return;
+        } finally {
+            queue.writeStartedAt = IDLE;
+            queue.scheduled.set(false);
+        }
+
+        // the batch limit may have been reached, or an event was queued after the loop ended but before the flag was
+        // cleared; rescheduling puts this emitter behind the others waiting for a writer
+        if (!queue.events.isEmpty() && !queue.failed.get()) {
+            schedule(queue);
+        }
+    }
+
+    private void fail(OutboundQueue queue, Throwable cause) {
+        if (queueMap.remove(queue.emitter, queue) && queue.failed.compareAndSet(false, true)) {
+            queue.events.clear();
+            queue.size.set(0);
+            queue.onFailure.accept(cause);
+        }
+    }
+
+    private record PendingEvent(SseEmitter.SseEventBuilder event, long enqueuedAt) {
+    }
+
+    private static class OutboundQueue {
+        private final SseEmitter emitter;
+        private final Consumer<Throwable> onFailure;
+        private final ConcurrentLinkedDeque<PendingEvent> events = new ConcurrentLinkedDeque<>();
+        private final AtomicInteger size = new AtomicInteger();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicBoolean failed = new AtomicBoolean();
+        private volatile long writeStartedAt = IDLE;
+
+        private OutboundQueue(SseEmitter emitter, Consumer<Throwable> onFailure) {
+            this.emitter = emitter;
+            this.onFailure = onFailure;
+        }
+    }
+}
@@ -15,6 +15,7 @@ import world.trecord.domain.notification.enumeration.NotificationStatus;
 import world.trecord.domain.notification.enumeration.NotificationType;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Data
 @AllArgsConstructor
@@ -32,6 +33,8 @@ public class SseEmitterEvent {
     private FeedArgs feed;
     private RecordArgs record;
     private CommentArgs comment;
+    private Integer count;
+    private List<UserFromArgs> actors;
 
     @Builder
     private SseEmitterEvent(NotificationEntity notificationEntity) {
@@ -44,5 +47,7 @@ public class SseEmitterEvent {
         this.feed = notificationEntity.getFeedArgs();
         this.record = notificationEntity.getRecordArgs();
         this.comment = notificationEntity.getCommentArgs();
+        this.count = notificationEntity.getAggregateCount();
+        this.actors = notificationEntity.getAggregateActors();
     }
 }
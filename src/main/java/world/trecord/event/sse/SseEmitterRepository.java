@@ -1,39 +1,91 @@
 package world.trecord.event.sse;
 
-import lombok.RequiredArgsConstructor;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Repository;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import world.trecord.config.properties.SseProperties;
 
-import java.util.Map;
-import java.util.Optional;
+import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 
 @Slf4j
-@RequiredArgsConstructor
 @Repository
 public class SseEmitterRepository {
 
-    private final Map<String, SseEmitter> emitterMap = new ConcurrentHashMap<>();
+    private final Map<Long, Map<String, SseEmitter>> emitterMap = new ConcurrentHashMap<>();
+    private final Cache<Long, Deque<BufferedEvent>> eventBufferCache;
+    private final int replayBufferSize;
 
-    public SseEmitter save(Long userId, SseEmitter emitter) {
-        final String key = getKey(userId);
-        log.info("Set Emitter to EmitterMap {}:({})", key, emitter);
-        emitterMap.put(key, emitter);
+    public SseEmitterRepository(SseProperties sseProperties) {
+        SseProperties.Replay replay = sseProperties.getReplay();
+        this.replayBufferSize = replay.getBufferSize();
+        this.eventBufferCache = Caffeine.newBuilder()
+                .expireAfterWrite(replay.getRetention())
+                .maximumWeight(replay.getMaxEvents())
+                .weigher((Long userId, Deque<BufferedEvent> buffer) -> buffer.size())
+                .build();
+    }
+
+    public SseEmitter save(Long userId, String emitterId, SseEmitter emitter) {
+        log.info("Set Emitter to EmitterMap {}:{}:({})", getKey(userId), emitterId, emitter);
+        emitterMap.computeIfAbsent(userId, key -> new ConcurrentHashMap<>()).put(emitterId, emitter);
         return emitter;
     }
 
-    public void delete(Long userId) {
-        emitterMap.remove(getKey(userId));
+    public boolean delete(Long userId, String emitterId) {
+        boolean[] removed = {false};
+        emitterMap.computeIfPresent(userId, (key, emitters) -> {
+            removed[0] = emitters.remove(emitterId) != null;
+            return emitters.isEmpty() ? null : emitters;
+        });
+        return removed[0];
+    }
+
+    public Map<String, SseEmitter> findAllByUserId(Long userId) {
+        log.info("Get Emitters from EmitterMap {}", getKey(userId));
+        Map<String, SseEmitter> emitters = emitterMap.get(userId);
+        return Objects.nonNull(emitters) ? Map.copyOf(emitters) : Collections.emptyMap();
+    }
+
+    public Map<Long, Map<String, SseEmitter>> findAll() {
+        Map<Long, Map<String, SseEmitter>> snapshot = new HashMap<>();
+        emitterMap.forEach((userId, emitters) -> snapshot.put(userId, Map.copyOf(emitters)));
+        return snapshot;
+    }
+
+    public void saveEvent(Long userId, Long eventId, SseEmitterEvent sseEmitterEvent) {
+        if (replayBufferSize <= 0) {
+            return;
+        }
+        Deque<BufferedEvent> buffer = eventBufferCache.get(userId, key -> new ArrayDeque<>(replayBufferSize));
+        synchronized (buffer) {
+            if (buffer.size() >= replayBufferSize) {
+                buffer.pollFirst();
+            }
+            buffer.offerLast(new BufferedEvent(eventId, sseEmitterEvent));
+        }
+        // put again so that the weight reflects the new buffer size
+        eventBufferCache.put(userId, buffer);
     }
 
-    public Optional<SseEmitter> findByUserId(Long userId) {
-        String key = getKey(userId);
-        log.info("Get Emitter from EmitterMap {}", key);
-        return Optional.ofNullable(emitterMap.get(key));
+    public List<BufferedEvent> findEventsAfter(Long userId, Long lastEventId) {
+        Deque<BufferedEvent> buffer = eventBufferCache.getIfPresent(userId);
+        if (Objects.isNull(buffer)) {
+            return Collections.emptyList();
+        }
+        synchronized (buffer) {
+            return buffer.stream()
+                    .filter(it -> it.eventId() > lastEventId)
+                    .toList();
+        }
     }
 
     private String getKey(Long userId) {
         return "emitter:UID:" + userId;
     }
-}
\ No newline at end of file
+
+    public record BufferedEvent(Long eventId, SseEmitterEvent event) {
+    }
+}
@@ -6,10 +6,11 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import world.trecord.exception.CustomException;
 
-import java.io.IOException;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
 
-import static world.trecord.exception.CustomExceptionError.MAX_CONNECTIONS_EXCEEDED_ERROR;
 import static world.trecord.exception.CustomExceptionError.NOTIFICATION_CONNECT_ERROR;
 
 @Slf4j
@@ -18,48 +19,78 @@ import static world.trecord.exception.CustomExceptionError.NOTIFICATION_CONNECT_
 public class SseEmitterService {
 
     public static final String EVENT_NAME = "notification";
-    public static final int MAX_CONNECTIONS = 1000;
-    private final AtomicInteger currentConnections = new AtomicInteger(0);
+    public static final String HEARTBEAT_COMMENT = "heartbeat";
+    private static final int USER_LOCK_STRIPES = 64;
+    // Orders live events against replay per user, so a connecting emitter sees every event once and in id order
+    private final Object[] userLocks = createUserLocks();
+    private final LongAdder reapedConnections = new LongAdder();
     private final SseEmitterRepository sseEmitterRepository;
+    private final SseEmitterDispatcher sseEmitterDispatcher;
+    private final SseAdmissionController sseAdmissionController;
 
     public void send(Long userToId, Long eventId, SseEmitterEvent sseEmitterEvent) {
-        log.info("Starting send sse event with userToId: [{}]");
-
-        sseEmitterRepository.findByUserId(userToId)
-                .ifPresentOrElse(emitter -> {
-                            try {
-                                log.info("Emitter found for userToId: [{}]. Sending notification...", userToId);
-                                emitter.send(SseEmitter.event()
-                                        .id(eventId.toString())
-                                        .name(EVENT_NAME)
-                                        .data(sseEmitterEvent));
-                                log.info("Successfully sent notification with ID: [{}] to emitter for userToId: [{}]", eventId, userToId);
-                            } catch (IOException ex) {
-                                log.error("Error while sending notification to emitter for userToId: [{}]. Removing emitter.", userToId, ex);
-                                releaseExternalResources(userToId);
-                                throw new CustomException(NOTIFICATION_CONNECT_ERROR);
-                            }
-                        },
-                        () -> log.info("No emitter found for userToId: [{}]", userToId)
-                );
+        log.info("Starting send sse event with userToId: [{}]", userToId);
+
+        synchronized (userLock(userToId)) {
+            sseEmitterRepository.saveEvent(userToId, eventId, sseEmitterEvent);
+
+            Map<String, SseEmitter> emitters = sseEmitterRepository.findAllByUserId(userToId);
+            if (emitters.isEmpty()) {
+                log.info("No emitter found for userToId: [{}]", userToId);
+                return;
+            }
+
+            emitters.forEach((emitterId, emitter) -> {
+                log.info("Emitter [{}] found for userToId: [{}]. Queueing notification...", emitterId, userToId);
+                sseEmitterDispatcher.dispatch(emitter, buildEvent(eventId, sseEmitterEvent));
+            });
+        }
 
         log.info("Finished send sse for userToId: [{}]", userToId);
     }
 
-    public SseEmitter connect(Long userId, SseEmitter emitter) {
-        synchronized (this) {
-            if (currentConnections.get() >= MAX_CONNECTIONS) {
-                log.warn("Max connections limit reached. Unable to connect user [{}].", userId);
-                throw new CustomException(MAX_CONNECTIONS_EXCEEDED_ERROR);
+    public int sendHeartbeat() {
+        int pinged = 0;
+        for (Map<String, SseEmitter> emitters : sseEmitterRepository.findAll().values()) {
+            for (SseEmitter emitter : emitters.values()) {
+                sseEmitterDispatcher.dispatch(emitter, SseEmitter.event().comment(HEARTBEAT_COMMENT));
+                pinged++;
             }
-            incrementConnection();
-            log.info("Connection incremented for user [{}]. Current connections: {}", userId, currentConnections.get());
         }
+        return pinged;
+    }
+
+    public int getCurrentConnections() {
+        return sseAdmissionController.getCurrentConnections();
+    }
+
+    public long getReapedConnections() {
+        return reapedConnections.sum();
+    }
 
+    public SseEmitter connect(Long userId, SseEmitter emitter) {
+        return connect(userId, null, emitter);
+    }
+
+    public SseEmitter connect(Long userId, String lastEventId, SseEmitter emitter) {
+        SseAdmissionController.Result admission = sseAdmissionController.tryAcquire();
+        if (admission != SseAdmissionController.Result.ADMITTED) {
+            log.warn("SSE admission rejected by [{}]. Unable to connect user [{}].", admission, userId);
+            throw new SseAdmissionRejectedException(admission, sseAdmissionController.retryAfterSeconds());
+        }
+        log.info("Connection admitted for user [{}]. Current connections: {}", userId, sseAdmissionController.getCurrentConnections());
+
+        String emitterId = UUID.randomUUID().toString();
         try {
-            establishConnection(userId, emitter);
-            sendConnectionCompletionEvent(userId, emitter);
+            // Registering and queueing the replay under the user lock keeps live events behind the replayed ones
+            synchronized (userLock(userId)) {
+                establishConnection(userId, emitterId, emitter);
+                sendConnectionCompletionEvent(userId, emitter);
+                replayMissedEvents(userId, lastEventId, emitter);
+            }
         } catch (Exception e) {
+            sseEmitterDispatcher.remove(emitter);
+            releaseExternalResources(userId, emitterId);
             decrementConnection();
             log.error("Error establishing SSE connection for user [{}]: {}", userId, e.getMessage());
             throw new CustomException(NOTIFICATION_CONNECT_ERROR);
@@ -68,51 +99,100 @@ public class SseEmitterService {
         return emitter;
     }
 
-    private void establishConnection(Long userId, SseEmitter emitter) {
-        sseEmitterRepository.save(userId, emitter);
-        log.info("SSE connection established and saved for user [{}].", userId);
+    private void establishConnection(Long userId, String emitterId, SseEmitter emitter) {
+        sseEmitterDispatcher.register(emitter, ex -> reap(userId, emitterId, emitter, ex));
+        sseEmitterRepository.save(userId, emitterId, emitter);
+        log.info("SSE connection [{}] established and saved for user [{}].", emitterId, userId);
 
         emitter.onCompletion(() -> {
-            log.info("SSE connection for user [{}] has been completed.", userId);
-            releaseExternalResources(userId);
-            decrementConnection();
+            log.info("SSE connection [{}] for user [{}] has been completed.", emitterId, userId);
+            releaseConnection(userId, emitterId, emitter);
         });
 
         emitter.onTimeout(() -> {
-            log.warn("SSE connection for user [{}] has timed out.", userId);
-            releaseExternalResources(userId);
-            decrementConnection();
+            log.warn("SSE connection [{}] for user [{}] has timed out.", emitterId, userId);
+            releaseConnection(userId, emitterId, emitter);
         });
 
         emitter.onError((throwable) -> {
-            log.error("Error with SSE connection for user [{}]: {}", userId, throwable.getMessage());
-            releaseExternalResources(userId);
-            decrementConnection();
+            log.error("Error with SSE connection [{}] for user [{}]: {}", emitterId, userId, throwable.getMessage());
+            releaseConnection(userId, emitterId, emitter);
         });
+    }
 
-        // 연결이 끊어진 경우도 처리해줘야함
+    private void reap(Long userId, String emitterId, SseEmitter emitter, Throwable cause) {
+        log.info("Write failed for emitter [{}] of user [{}]. Reaping connection: {}", emitterId, userId, cause.getMessage());
+        releaseConnection(userId, emitterId, emitter);
+        reapedConnections.increment();
+        emitter.completeWithError(cause);
     }
 
-    private void releaseExternalResources(Long userId) {
-        sseEmitterRepository.delete(userId);
-        log.info("External resources released and SSE emitter removed from the repository for user [{}].", userId);
+    private void releaseConnection(Long userId, String emitterId, SseEmitter emitter) {
+        sseEmitterDispatcher.remove(emitter);
+        // completion, timeout and error callbacks can all fire for one emitter, so only the first one releases the slot
+        if (releaseExternalResources(userId, emitterId)) {
+            decrementConnection();
+        }
     }
 
-    private void sendConnectionCompletionEvent(Long userId, SseEmitter emitter) throws IOException {
-        log.info("Attempting to send connection completion event for user {}.", userId);
-        String eventID = String.valueOf(System.currentTimeMillis());
-        emitter.send(SseEmitter.event()
-                .id(eventID)
+    private boolean releaseExternalResources(Long userId, String emitterId) {
+        boolean removed = sseEmitterRepository.delete(userId, emitterId);
+        log.info("External resources released and SSE emitter [{}] removed from the repository for user [{}].", emitterId, userId);
+        return removed;
+    }
+
+    private void sendConnectionCompletionEvent(Long userId, SseEmitter emitter) {
+        log.info("Queueing connection completion event for user {}.", userId);
+        // no event id, so the client keeps the id of the last notification it received as Last-Event-ID
+        sseEmitterDispatcher.dispatch(emitter, SseEmitter.event()
                 .name(EVENT_NAME)
                 .data("Connection completed"));
-        log.info("Connection completion event for user {} has been sent successfully.", userId);
     }
 
-    private void incrementConnection() {
-        currentConnections.incrementAndGet();
+    private void replayMissedEvents(Long userId, String lastEventId, SseEmitter emitter) {
+        Long lastReceivedEventId = parseEventId(lastEventId);
+        if (Objects.isNull(lastReceivedEventId)) {
+            return;
+        }
+
+        for (SseEmitterRepository.BufferedEvent bufferedEvent : sseEmitterRepository.findEventsAfter(userId, lastReceivedEventId)) {
+            sseEmitterDispatcher.dispatch(emitter, buildEvent(bufferedEvent.eventId(), bufferedEvent.event()));
+        }
+        log.info("Queued missed events after [{}] for replay to user [{}].", lastReceivedEventId, userId);
+    }
+
+    private Long parseEventId(String lastEventId) {
+        if (Objects.isNull(lastEventId) || lastEventId.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.valueOf(lastEventId.trim());
+        } catch (NumberFormatException ex) {
+            log.warn("Ignoring malformed Last-Event-ID [{}]", lastEventId);
+            return null;
+        }
+    }
+
+    private SseEmitter.SseEventBuilder buildEvent(Long eventId, SseEmitterEvent sseEmitterEvent) {
+        return SseEmitter.event()
+                .id(eventId.toString())
+                .name(EVENT_NAME)
+                .data(sseEmitterEvent);
+    }
+
+    private Object userLock(Long userId) {
+        return userLocks[Math.floorMod(Objects.hashCode(userId), USER_LOCK_STRIPES)];
+    }
+
+    private static Object[] createUserLocks() {
+        Object[] locks = new Object[USER_LOCK_STRIPES];
+        for (int i = 0; i < USER_LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+        return locks;
     }
 
     private void decrementConnection() {
-        currentConnections.decrementAndGet();
+        sseAdmissionController.release();
     }
 }
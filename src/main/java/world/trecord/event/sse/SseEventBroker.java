@@ -0,0 +1,74 @@
+package world.trecord.event.sse;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import world.trecord.config.properties.SseProperties;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Fans SSE events out to every instance through sharded Redis channels.
+ * Each instance subscribes to all shards and delivers only to the emitters it holds locally.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class SseEventBroker implements MessageListener {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final SseEmitterService sseEmitterService;
+    private final SseProperties sseProperties;
+    private final ObjectMapper objectMapper;
+
+    @PostConstruct
+    void subscribe() {
+        List<ChannelTopic> topics = IntStream.range(0, sseProperties.getBroker().getShardCount())
+                .mapToObj(shard -> new ChannelTopic(sseProperties.getBroker().getChannelPrefix() + shard))
+                .toList();
+        redisMessageListenerContainer.addMessageListener(this, topics);
+        log.info("Subscribed to {} SSE broker channels", topics.size());
+    }
+
+    public void publish(Long userToId, Long eventId, SseEmitterEvent sseEmitterEvent) {
+        try {
+            String payload = objectMapper.writeValueAsString(new SseBrokerMessage(userToId, eventId, sseEmitterEvent));
+            stringRedisTemplate.convertAndSend(getChannel(userToId), payload);
+            log.info("Published sse event with ID: [{}] for userToId: [{}]", eventId, userToId);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialize sse event for userToId: " + userToId, ex);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        SseBrokerMessage brokerMessage;
+        try {
+            brokerMessage = objectMapper.readValue(message.getBody(), SseBrokerMessage.class);
+        } catch (IOException ex) {
+            log.error("Could not deserialize sse broker message from channel [{}]", new String(message.getChannel()), ex);
+            return;
+        }
+
+        try {
+            sseEmitterService.send(brokerMessage.userToId(), brokerMessage.eventId(), brokerMessage.event());
+        } catch (Exception ex) {
+            log.warn("Error while delivering sse event with ID: [{}] to userToId: [{}]", brokerMessage.eventId(), brokerMessage.userToId(), ex);
+        }
+    }
+
+    String getChannel(Long userToId) {
+        return sseProperties.getBroker().getChannelPrefix() + Math.floorMod(userToId, sseProperties.getBroker().getShardCount());
+    }
+}
@@ -0,0 +1,45 @@
+package world.trecord.event.sse;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pings every local emitter with an SSE comment and reaps the ones whose write fails,
+ * so that broken connections stop counting against the connection limit before they time out.
+ */
+@Slf4j
+@Component
+public class SseHeartbeatScheduler {
+
+    private final SseEmitterService sseEmitterService;
+    private final Timer heartbeatTimer;
+
+    public SseHeartbeatScheduler(SseEmitterService sseEmitterService, MeterRegistry meterRegistry) {
+        this.sseEmitterService = sseEmitterService;
+        this.heartbeatTimer = Timer.builder("sse.heartbeat.latency")
+                .description("Time taken to send one heartbeat round to all local emitters")
+                .register(meterRegistry);
+        Gauge.builder("sse.connections.live", sseEmitterService, SseEmitterService::getCurrentConnections)
+                .description("Number of live SSE connections on this instance")
+                .register(meterRegistry);
+        FunctionCounter.builder("sse.connections.reaped", sseEmitterService, SseEmitterService::getReapedConnections)
+                .description("Number of SSE connections reaped by the heartbeat")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${sse.heartbeat.interval-ms:15000}", initialDelayString = "${sse.heartbeat.interval-ms:15000}")
+    public void sendHeartbeat() {
+        long startedAt = System.nanoTime();
+        int pinged = sseEmitterService.sendHeartbeat();
+        heartbeatTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        log.info("SSE heartbeat queued for [{}] emitters. Live connections: [{}], reaped so far: [{}]",
+                pinged, sseEmitterService.getCurrentConnections(), sseEmitterService.getReapedConnections());
+    }
+}
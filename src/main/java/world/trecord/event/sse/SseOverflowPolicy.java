@@ -0,0 +1,5 @@
+package world.trecord.event.sse;
+
+public enum SseOverflowPolicy {
+    DROP_OLDEST, DISCONNECT
+}
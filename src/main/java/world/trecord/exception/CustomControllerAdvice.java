@@ -2,6 +2,7 @@ package world.trecord.exception;
 
 import io.jsonwebtoken.JwtException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -14,6 +15,7 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 import org.springframework.web.servlet.NoHandlerFoundException;
 import world.trecord.controller.ApiResponse;
+import world.trecord.event.sse.SseAdmissionRejectedException;
 
 import java.util.List;
 
@@ -29,6 +31,14 @@ public class CustomControllerAdvice {
         return ResponseEntity.status(ex.error().status()).body(ApiResponse.of(ex.error().code(), ex.message(), null));
     }
 
+    @ExceptionHandler(SseAdmissionRejectedException.class)
+    public ResponseEntity<ApiResponse<Void>> handle(SseAdmissionRejectedException ex) {
+        doLog(ex, "SseAdmissionRejectedException while connecting notification.");
+        return ResponseEntity.status(ex.error().status())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.retryAfterSeconds()))
+                .body(ApiResponse.of(ex.error().code(), ex.message(), null));
+    }
+
     @ExceptionHandler(BindException.class)
     public ResponseEntity<ApiResponse<ValidationErrorDTO>> handle(BindException ex) {
         doLog(ex, "BindException while binding request parameters.");
@@ -28,6 +28,7 @@ public enum CustomExceptionError {
     USER_NOT_INVITED(HttpStatus.BAD_REQUEST, 1203, "초대되지 않은 사용자입니다"),
     FEED_OWNER_LEAVING_NOT_ALLOWED(HttpStatus.BAD_REQUEST, 1204, "피드 주인은 피드에서 나갈 수 없습니다"),
     FEED_NOT_FOUND(HttpStatus.NOT_FOUND, 1205, "존재하지 않는 피드입니다"),
+    FEED_EXPORT_LIMIT_EXCEEDED(HttpStatus.SERVICE_UNAVAILABLE, 1206, "진행 중인 피드 내보내기가 너무 많습니다"),
 
     // 1300-1399: 기록과 관련된 에러
     RECORD_NOT_FOUND(HttpStatus.NOT_FOUND, 1300, "존재하지 않는 기록입니다"),
@@ -38,7 +39,7 @@ public enum CustomExceptionError {
     // 1500-1599: 알림과 관련된 에러
     NOTIFICATION_NOT_FOUND(HttpStatus.NOT_FOUND, 1500, "존재하지 않는 알림입니다"),
     NOTIFICATION_CONNECT_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, 1501, "알림 연결에 실패하였습니다"),
-    MAX_CONNECTIONS_EXCEEDED_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, 1502, "알림 연결이 최대로 설정되었습니다");
+    MAX_CONNECTIONS_EXCEEDED_ERROR(HttpStatus.SERVICE_UNAVAILABLE, 1502, "알림 연결이 최대로 설정되었습니다");
 
     private final HttpStatus httpStatus;
     private final int errorCode;
@@ -0,0 +1,82 @@
+package world.trecord.service.feed;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A feed export that holds one of the export slots. The slot is given back exactly once. Once the writer has started,
+ * only the writer gives it back, when it leaves {@link #writeTo}; a timeout or error while the body is still being
+ * written does not free the slot early. If the async request ends before the writer starts, the writer is skipped and
+ * the slot is given back right away.
+ */
+@Slf4j
+public class FeedExport {
+
+    private final Long feedId;
+    private final StreamingResponseBody body;
+    private final Duration timeout;
+    private final Runnable releaseSlot;
+    private final AtomicReference<State> state = new AtomicReference<>(State.PENDING);
+
+    FeedExport(Long feedId, StreamingResponseBody body, Duration timeout, Runnable releaseSlot) {
+        this.feedId = feedId;
+        this.body = body;
+        this.timeout = timeout;
+        this.releaseSlot = releaseSlot;
+    }
+
+    public void writeTo(OutputStream outputStream) throws IOException {
+        if (!state.compareAndSet(State.PENDING, State.WRITING)) {
+            return;
+        }
+        try {
+            body.writeTo(outputStream);
+        } finally {
+            state.set(State.FINISHED);
+            releaseSlot.run();
+        }
+    }
+
+    /**
+     * Returns an async task that writes the export to the given stream with this export's own timeout,
+     * instead of the global async request timeout.
+     */
+    public WebAsyncTask<Void> toAsyncTask(Callable<? extends OutputStream> outputStream) {
+        WebAsyncTask<Void> task = new WebAsyncTask<>(timeout.toMillis(), () -> {
+            writeTo(outputStream.call());
+            return null;
+        });
+        task.onTimeout(() -> {
+            log.warn("Feed [{}] export timed out after [{}]", feedId, timeout);
+            release();
+            return null;
+        });
+        task.onError(() -> {
+            log.warn("Feed [{}] export failed", feedId);
+            release();
+            return null;
+        });
+        task.onCompletion(this::release);
+        return task;
+    }
+
+    /**
+     * Abandons the export if the writer has not started yet. Once it has, the slot is left to the writer.
+     */
+    public void release() {
+        if (state.compareAndSet(State.PENDING, State.FINISHED)) {
+            releaseSlot.run();
+        }
+    }
+
+    private enum State {
+        PENDING, WRITING, FINISHED
+    }
+}
@@ -0,0 +1,19 @@
+package world.trecord.service.feed;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+
+@Getter
+@RequiredArgsConstructor
+public enum FeedExportFormat {
+    NDJSON(MediaType.APPLICATION_NDJSON, "ndjson"),
+    ZIP(MediaType.parseMediaType("application/zip"), "zip");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    public String fileName(Long feedId) {
+        return "feed-" + feedId + "." + extension;
+    }
+}
@@ -0,0 +1,117 @@
+package world.trecord.service.feed;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import world.trecord.config.properties.FeedExportProperties;
+import world.trecord.domain.feed.FeedEntity;
+import world.trecord.domain.feed.FeedExportRepository;
+import world.trecord.domain.feed.projection.FeedExportRow;
+import world.trecord.dto.feed.response.FeedExportRecordResponse;
+import world.trecord.exception.CustomException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static world.trecord.exception.CustomExceptionError.FEED_EXPORT_LIMIT_EXCEEDED;
+import static world.trecord.exception.CustomExceptionError.FORBIDDEN;
+
+/**
+ * Streams a whole feed as NDJSON, one record per line with its comments and like count. Rows come from a
+ * forward-only cursor and each record is written as soon as its last row has been read, so memory use does not grow
+ * with the size of the feed.
+ */
+@Slf4j
+@Transactional(readOnly = true)
+@Service
+public class FeedExportService {
+
+    private static final byte LINE_SEPARATOR = '\n';
+
+    private final FeedService feedService;
+    private final FeedExportRepository feedExportRepository;
+    private final FeedExportProperties feedExportProperties;
+    private final ObjectMapper objectMapper;
+    private final Semaphore exportPermits;
+
+    public FeedExportService(FeedService feedService,
+                             FeedExportRepository feedExportRepository,
+                             FeedExportProperties feedExportProperties,
+                             ObjectMapper objectMapper) {
+        this.feedService = feedService;
+        this.feedExportRepository = feedExportRepository;
+        this.feedExportProperties = feedExportProperties;
+        this.objectMapper = objectMapper;
+        this.exportPermits = new Semaphore(feedExportProperties.getMaxConcurrentExports());
+    }
+
+    /**
+     * Checks that the user may export the feed and reserves an export slot. The returned export is written later on
+     * the async request thread, outside this transaction, and gives the slot back once it is done or abandoned.
+     */
+    public FeedExport exportFeed(Long userId, Long feedId, FeedExportFormat format) {
+        FeedEntity feedEntity = feedService.findFeedWithOwnerAndContributors(feedId);
+        if (!feedEntity.isOwnedBy(userId) && !feedEntity.isContributor(userId)) {
+            throw new CustomException(FORBIDDEN);
+        }
+
+        if (!exportPermits.tryAcquire()) {
+            throw new CustomException(FEED_EXPORT_LIMIT_EXCEEDED);
+        }
+
+        StreamingResponseBody body = outputStream -> {
+            if (format == FeedExportFormat.ZIP) {
+                writeZip(feedId, outputStream);
+            } else {
+                writeRecords(feedId, outputStream);
+            }
+        };
+        return new FeedExport(feedId, body, feedExportProperties.getTimeout(), exportPermits::release);
+    }
+
+    private void writeZip(Long feedId, OutputStream outputStream) throws IOException {
+        ZipOutputStream zipOutputStream = new ZipOutputStream(outputStream);
+        zipOutputStream.putNextEntry(new ZipEntry(FeedExportFormat.NDJSON.fileName(feedId)));
+        writeRecords(feedId, zipOutputStream);
+        zipOutputStream.closeEntry();
+        // finish() rather than close() so the servlet output stream is left to the container
+        zipOutputStream.finish();
+    }
+
+    private void writeRecords(Long feedId, OutputStream outputStream) throws IOException {
+        long recordCount = 0;
+        try (Stream<FeedExportRow> rows = feedExportRepository.streamRecordsWithComments(feedId, feedExportProperties.getFetchSize())) {
+            FeedExportRecordResponse current = null;
+            Iterator<FeedExportRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                FeedExportRow row = iterator.next();
+                if (current == null || !current.isRowOf(row)) {
+                    if (current != null) {
+                        writeLine(current, outputStream);
+                        recordCount++;
+                    }
+                    current = FeedExportRecordResponse.of(row);
+                }
+                current.addComment(row);
+            }
+
+            if (current != null) {
+                writeLine(current, outputStream);
+                recordCount++;
+            }
+        }
+        log.debug("Feed [{}] export wrote [{}] records", feedId, recordCount);
+    }
+
+    private void writeLine(FeedExportRecordResponse response, OutputStream outputStream) throws IOException {
+        outputStream.write(objectMapper.writeValueAsBytes(response));
+        outputStream.write(LINE_SEPARATOR);
+    }
+}
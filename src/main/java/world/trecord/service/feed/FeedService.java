@@ -27,6 +27,7 @@ import world.trecord.service.feedcontributor.FeedContributorService;
 import world.trecord.service.users.UserService;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
@@ -121,6 +122,10 @@ public class FeedService {
         return feedRepository.findById(feedId).orElseThrow(() -> new CustomException(FEED_NOT_FOUND));
     }
 
+    public List<FeedEntity> findFeeds(Collection<Long> feedIds) {
+        return feedRepository.findAllById(feedIds);
+    }
+
     public FeedEntity findFeedWithOwnerAndContributors(Long feedId) {
         return feedRepository.findWithOwnerAndParticipatingContributorsById(feedId)
                 .orElseThrow(() -> new CustomException(FEED_NOT_FOUND));
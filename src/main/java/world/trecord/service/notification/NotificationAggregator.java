@@ -0,0 +1,75 @@
+package world.trecord.service.notification;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import world.trecord.config.properties.NotificationProperties;
+import world.trecord.domain.notification.NotificationEntity;
+import world.trecord.domain.notification.NotificationRepository;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Folds notifications of aggregated types into one row per aggregate key. Rows that already exist are locked and
+ * updated in place with the rolled up args, so the aggregate keeps its id; new aggregates and plain notifications are
+ * inserted. Locking the aggregate keys also locks the gap of keys that do not exist yet, so a concurrent batch for the
+ * same aggregate waits instead of inserting a second row.
+ */
+@RequiredArgsConstructor
+@Component
+public class NotificationAggregator {
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationBatchWriter notificationBatchWriter;
+    private final NotificationProperties notificationProperties;
+    private final UnreadNotificationCounter unreadNotificationCounter;
+
+    @Transactional
+    public List<NotificationEntity> write(List<NotificationEntity> notificationEntities) {
+        int maxActors = notificationProperties.getAggregate().getMaxActors();
+        List<NotificationEntity> toInsert = new ArrayList<>();
+        Map<String, NotificationEntity> aggregatedByKey = new LinkedHashMap<>();
+
+        for (NotificationEntity notificationEntity : notificationEntities) {
+            if (Objects.isNull(notificationEntity.getAggregateKey())) {
+                toInsert.add(notificationEntity);
+                continue;
+            }
+            aggregatedByKey.merge(notificationEntity.getAggregateKey(), notificationEntity, (older, newer) -> {
+                older.aggregate(newer.getArgs(), maxActors);
+                return older;
+            });
+        }
+
+        if (aggregatedByKey.isEmpty()) {
+            return notificationBatchWriter.writeAll(toInsert);
+        }
+
+        Map<String, NotificationEntity> existingByKey = notificationRepository.findAllByAggregateKeyIn(aggregatedByKey.keySet()).stream()
+                .collect(Collectors.toMap(NotificationEntity::getAggregateKey, Function.identity()));
+
+        List<NotificationEntity> aggregates = new ArrayList<>(aggregatedByKey.size());
+        Map<Long, Long> insertedUnreadByUserId = new HashMap<>();
+        aggregatedByKey.forEach((aggregateKey, aggregated) -> {
+            NotificationEntity existing = existingByKey.get(aggregateKey);
+            Long userToId = aggregated.getUsersToEntity().getId();
+            if (Objects.isNull(existing)) {
+                aggregates.add(aggregated);
+                insertedUnreadByUserId.merge(userToId, 1L, Long::sum);
+            } else {
+                aggregates.add(existing.rollUp(aggregated.getArgs(), maxActors));
+                // the rolled up row may have been read already, so let the counter reload
+                unreadNotificationCounter.evictAfterCommit(userToId);
+            }
+        });
+
+        notificationRepository.upsertAggregates(aggregates);
+        unreadNotificationCounter.incrementAfterCommit(insertedUnreadByUserId);
+
+        List<NotificationEntity> written = new ArrayList<>(notificationBatchWriter.writeAll(toInsert));
+        written.addAll(notificationRepository.findAllByAggregateKeyIn(aggregatedByKey.keySet()));
+        return written;
+    }
+}
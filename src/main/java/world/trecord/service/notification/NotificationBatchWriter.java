@@ -0,0 +1,67 @@
+package world.trecord.service.notification;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import world.trecord.domain.notification.NotificationEntity;
+import world.trecord.domain.notification.NotificationRepository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static world.trecord.domain.notification.enumeration.NotificationStatus.UNREAD;
+
+/**
+ * Writes a batch of notifications with one multi-row INSERT and reads them back with one SELECT,
+ * instead of one INSERT per notification.
+ */
+@Component
+public class NotificationBatchWriter {
+
+    private final NotificationRepository notificationRepository;
+    private final UnreadNotificationCounter unreadNotificationCounter;
+    private final DistributionSummary batchSize;
+    private final Timer flushLatency;
+
+    public NotificationBatchWriter(NotificationRepository notificationRepository,
+                                   UnreadNotificationCounter unreadNotificationCounter,
+                                   MeterRegistry meterRegistry) {
+        this.notificationRepository = notificationRepository;
+        this.unreadNotificationCounter = unreadNotificationCounter;
+        this.batchSize = DistributionSummary.builder("notification.write.batch.size")
+                .description("Number of notifications written per batch")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.flushLatency = Timer.builder("notification.write.flush.latency")
+                .description("Time taken to write one batch of notifications")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @Transactional
+    public List<NotificationEntity> writeAll(List<NotificationEntity> notificationEntities) {
+        if (notificationEntities.isEmpty()) {
+            return List.of();
+        }
+
+        long startedAt = System.nanoTime();
+        List<Long> notificationIds = notificationRepository.insertAll(notificationEntities);
+        List<NotificationEntity> savedNotificationEntities = notificationRepository.findAllById(notificationIds);
+        flushLatency.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        batchSize.record(notificationEntities.size());
+        unreadNotificationCounter.incrementAfterCommit(countUnreadByUserId(notificationEntities));
+
+        return savedNotificationEntities;
+    }
+
+    private Map<Long, Long> countUnreadByUserId(List<NotificationEntity> notificationEntities) {
+        return notificationEntities.stream()
+                .filter(notificationEntity -> notificationEntity.getStatus() == UNREAD && Objects.nonNull(notificationEntity.getUsersToEntity()))
+                .collect(Collectors.groupingBy(notificationEntity -> notificationEntity.getUsersToEntity().getId(), Collectors.counting()));
+    }
+}
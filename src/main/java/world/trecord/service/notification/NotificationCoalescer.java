@@ -0,0 +1,124 @@
+package world.trecord.service.notification;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import world.trecord.config.properties.NotificationProperties;
+import world.trecord.domain.notification.NotificationEntity;
+import world.trecord.domain.notification.NotificationRepository;
+import world.trecord.domain.notification.outbox.NotificationOutboxRepository;
+import world.trecord.event.notification.NotificationEvent;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Collapses repeated notifications for the same (recipient, type, record, sender) within the configured window and
+ * cancels notifications whose action was undone within that window, e.g. a like followed by an unlike.
+ * A cancelled notification is dropped from the outbox if it has not been relayed yet, and otherwise deleted or,
+ * for an aggregate, the sender is taken out of it. An SSE event that was already pushed is not recalled.
+ */
+@Slf4j
+@Component
+public class NotificationCoalescer {
+
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final NotificationRepository notificationRepository;
+    private final NotificationProperties notificationProperties;
+    private final UnreadNotificationCounter unreadNotificationCounter;
+    private final Counter duplicateCounter;
+    private final Counter cancelledCounter;
+
+    public NotificationCoalescer(NotificationOutboxRepository notificationOutboxRepository,
+                                 NotificationRepository notificationRepository,
+                                 NotificationProperties notificationProperties,
+                                 UnreadNotificationCounter unreadNotificationCounter,
+                                 MeterRegistry meterRegistry) {
+        this.notificationOutboxRepository = notificationOutboxRepository;
+        this.notificationRepository = notificationRepository;
+        this.notificationProperties = notificationProperties;
+        this.unreadNotificationCounter = unreadNotificationCounter;
+        this.duplicateCounter = Counter.builder("notification.coalesced")
+                .description("Number of notification writes suppressed by coalescing")
+                .tag("reason", "duplicate")
+                .register(meterRegistry);
+        this.cancelledCounter = Counter.builder("notification.coalesced")
+                .description("Number of notification writes suppressed by coalescing")
+                .tag("reason", "cancelled")
+                .register(meterRegistry);
+    }
+
+    public boolean isDuplicate(NotificationEvent notificationEvent) {
+        if (!isCoalescable(notificationEvent)) {
+            return false;
+        }
+
+        boolean duplicate = notificationOutboxRepository.existsByCoalesceKey(notificationEvent.coalesceKey()) || existsRecentNotification(notificationEvent);
+        if (duplicate) {
+            duplicateCounter.increment();
+            log.info("Suppressed duplicate notification [{}]", notificationEvent.coalesceKey());
+        }
+        return duplicate;
+    }
+
+    @Transactional
+    public void cancel(NotificationEvent notificationEvent) {
+        if (!isCoalescable(notificationEvent)) {
+            return;
+        }
+
+        int cancelled = notificationOutboxRepository.deleteByCoalesceKey(notificationEvent.coalesceKey()) + retractRecentNotifications(notificationEvent);
+        if (cancelled > 0) {
+            cancelledCounter.increment(cancelled);
+            log.info("Cancelled [{}] notifications [{}]", cancelled, notificationEvent.coalesceKey());
+        }
+    }
+
+    private boolean isCoalescable(NotificationEvent notificationEvent) {
+        return notificationProperties.getCoalesce().getTypes().contains(notificationEvent.type());
+    }
+
+    private int retractRecentNotifications(NotificationEvent notificationEvent) {
+        if (!hasRecentWindow(notificationEvent)) {
+            return 0;
+        }
+
+        List<NotificationEntity> notificationEntities = notificationRepository.findRecentByRecordAndUserFromForUpdate(notificationEvent.userToId(),
+                notificationEvent.type().name(),
+                notificationEvent.args().getRecord().getId(),
+                notificationEvent.userFromId(),
+                LocalDateTime.now().minus(notificationProperties.getCoalesce().getWindow()));
+
+        for (NotificationEntity notificationEntity : notificationEntities) {
+            if (!notificationEntity.retract(notificationEvent.userFromId())) {
+                notificationRepository.delete(notificationEntity);
+            }
+        }
+
+        if (!notificationEntities.isEmpty()) {
+            unreadNotificationCounter.evictAfterCommit(notificationEvent.userToId());
+        }
+        return notificationEntities.size();
+    }
+
+    private boolean hasRecentWindow(NotificationEvent notificationEvent) {
+        Duration window = notificationProperties.getCoalesce().getWindow();
+        return !window.isZero() && !window.isNegative() && Objects.nonNull(notificationEvent.args()) && Objects.nonNull(notificationEvent.args().getRecord());
+    }
+
+    private boolean existsRecentNotification(NotificationEvent notificationEvent) {
+        if (!hasRecentWindow(notificationEvent)) {
+            return false;
+        }
+
+        return notificationRepository.countRecentByRecordAndUserFrom(notificationEvent.userToId(),
+                notificationEvent.type().name(),
+                notificationEvent.args().getRecord().getId(),
+                notificationEvent.userFromId(),
+                LocalDateTime.now().minus(notificationProperties.getCoalesce().getWindow())) > 0;
+    }
+}
@@ -0,0 +1,114 @@
+package world.trecord.service.notification;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import world.trecord.config.properties.NotificationProperties;
+import world.trecord.domain.notification.NotificationEntity;
+import world.trecord.domain.notification.args.NotificationArgs;
+import world.trecord.domain.notification.enumeration.NotificationType;
+import world.trecord.domain.notification.outbox.NotificationOutboxEntity;
+import world.trecord.domain.notification.outbox.NotificationOutboxRepository;
+import world.trecord.domain.users.UserEntity;
+import world.trecord.domain.users.UserRepository;
+import world.trecord.event.notification.NotificationEvent;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static world.trecord.domain.notification.enumeration.NotificationStatus.UNREAD;
+
+@Slf4j
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+@Service
+public class NotificationOutboxService {
+
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final NotificationAggregator notificationAggregator;
+    private final UserRepository userRepository;
+    private final NotificationProperties notificationProperties;
+
+    @Transactional
+    public void append(NotificationEvent notificationEvent) {
+        notificationOutboxRepository.save(buildNotificationOutboxEntity(notificationEvent));
+    }
+
+    /**
+     * Claims up to {@code batchSize} outbox rows, skipping rows locked by other instances, and turns them into
+     * notifications in the same transaction. Rows whose receiver no longer exists are dropped. Aggregated types are
+     * folded into existing rows, so the returned list can be shorter than the number of claimed rows.
+     */
+    @Transactional
+    public List<NotificationEntity> processBatch(int batchSize) {
+        List<NotificationOutboxEntity> outboxEntities = notificationOutboxRepository.findPendingForUpdate(batchSize);
+        if (outboxEntities.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, UserEntity> userToEntities = findUsersTo(outboxEntities);
+        List<NotificationEntity> candidates = outboxEntities.stream()
+                .filter(outboxEntity -> userToEntities.containsKey(outboxEntity.getUserToId()))
+                .map(outboxEntity -> buildNotificationEntity(outboxEntity, userToEntities.get(outboxEntity.getUserToId())))
+                .toList();
+
+        if (candidates.size() < outboxEntities.size()) {
+            log.warn("Dropped [{}] notification outbox rows whose receiver does not exist", outboxEntities.size() - candidates.size());
+        }
+
+        List<NotificationEntity> notificationEntities = notificationAggregator.write(candidates);
+        notificationOutboxRepository.deleteAllInBatch(outboxEntities);
+
+        return notificationEntities;
+    }
+
+    private Map<Long, UserEntity> findUsersTo(List<NotificationOutboxEntity> outboxEntities) {
+        List<Long> userToIds = outboxEntities.stream()
+                .map(NotificationOutboxEntity::getUserToId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+
+        return userRepository.findAllById(userToIds).stream()
+                .collect(Collectors.toMap(UserEntity::getId, Function.identity()));
+    }
+
+    private NotificationOutboxEntity buildNotificationOutboxEntity(NotificationEvent notificationEvent) {
+        return NotificationOutboxEntity.builder()
+                .userToId(notificationEvent.userToId())
+                .userFromId(notificationEvent.userFromId())
+                .type(notificationEvent.type())
+                .args(notificationEvent.args())
+                .coalesceKey(notificationEvent.coalesceKey())
+                .build();
+    }
+
+    private NotificationEntity buildNotificationEntity(NotificationOutboxEntity outboxEntity, UserEntity userToEntity) {
+        return NotificationEntity.builder()
+                .usersToEntity(userToEntity)
+                .args(outboxEntity.getArgs())
+                .status(UNREAD)
+                .type(outboxEntity.getType())
+                .aggregateKey(buildAggregateKey(outboxEntity))
+                .build();
+    }
+
+    private String buildAggregateKey(NotificationOutboxEntity outboxEntity) {
+        NotificationType type = outboxEntity.getType();
+        NotificationArgs args = outboxEntity.getArgs();
+        if (!type.isAggregated() || Objects.isNull(args) || Objects.isNull(args.getRecord())) {
+            return null;
+        }
+
+        long bucketSeconds = Math.max(1, notificationProperties.getAggregate().getBucket().toSeconds());
+        LocalDateTime createdDateTime = Objects.nonNull(outboxEntity.getCreatedDateTime()) ? outboxEntity.getCreatedDateTime() : LocalDateTime.now();
+        long bucket = createdDateTime.toEpochSecond(ZoneOffset.UTC) / bucketSeconds;
+        return outboxEntity.getUserToId() + ":" + type + ":" + args.getRecord().getId() + ":" + bucket;
+    }
+}
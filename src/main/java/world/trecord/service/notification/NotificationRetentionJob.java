@@ -0,0 +1,100 @@
+package world.trecord.service.notification;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import world.trecord.config.properties.NotificationProperties;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+
+/**
+ * Hard-deletes soft-deleted notifications past their retention and moves old READ notifications into
+ * notification_archive. Work is done in bounded chunks with a pause in between, and a run stops once it
+ * exceeds its time budget; the next run picks up where it left off because every chunk starts from the oldest row.
+ * Archive chunks lock their rows with SKIP LOCKED, so instances that run at the same time split the work between them.
+ */
+@Slf4j
+@Component
+public class NotificationRetentionJob {
+
+    private final NotificationRetentionService notificationRetentionService;
+    private final NotificationProperties notificationProperties;
+    private final Counter purgedCounter;
+    private final Counter archivedCounter;
+    private final AtomicLong lastRowsPerSecond = new AtomicLong();
+
+    public NotificationRetentionJob(NotificationRetentionService notificationRetentionService,
+                                    NotificationProperties notificationProperties,
+                                    MeterRegistry meterRegistry) {
+        this.notificationRetentionService = notificationRetentionService;
+        this.notificationProperties = notificationProperties;
+        this.purgedCounter = Counter.builder("notification.retention.rows")
+                .description("Number of notification rows removed by the retention job")
+                .tag("action", "purge")
+                .register(meterRegistry);
+        this.archivedCounter = Counter.builder("notification.retention.rows")
+                .description("Number of notification rows removed by the retention job")
+                .tag("action", "archive")
+                .register(meterRegistry);
+        Gauge.builder("notification.retention.rows.per.second", lastRowsPerSecond, AtomicLong::get)
+                .description("Throughput of the last notification retention run")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${notification.retention.cron:0 30 4 * * *}")
+    public void run() {
+        NotificationProperties.Retention retention = notificationProperties.getRetention();
+        if (!retention.isEnabled()) {
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + retention.getMaxRunTime().toNanos();
+        LocalDateTime now = LocalDateTime.now();
+
+        long purged = runChunks("purge", now.minus(retention.getDeletedRetention()), deadline, purgedCounter, notificationRetentionService::purgeDeletedChunk);
+        long archived = runChunks("archive", now.minus(retention.getReadArchiveAfter()), deadline, archivedCounter, notificationRetentionService::archiveReadChunk);
+
+        double elapsedSeconds = Math.max((System.nanoTime() - startedAt) / 1_000_000_000.0, 0.001);
+        lastRowsPerSecond.set(Math.round((purged + archived) / elapsedSeconds));
+        log.info("Notification retention finished. purged: [{}], archived: [{}], rows/s: [{}]", purged, archived, lastRowsPerSecond.get());
+    }
+
+    private long runChunks(String action, LocalDateTime threshold, long deadline, Counter counter, BiFunction<LocalDateTime, Integer, Integer> chunk) {
+        NotificationProperties.Retention retention = notificationProperties.getRetention();
+        long total = 0;
+
+        while (System.nanoTime() < deadline) {
+            int affected = chunk.apply(threshold, retention.getChunkSize());
+            counter.increment(affected);
+            total += affected;
+
+            if (affected < retention.getChunkSize()) {
+                return total;
+            }
+
+            log.info("Notification retention [{}] in progress. rows so far: [{}]", action, total);
+            if (!pause(retention)) {
+                return total;
+            }
+        }
+
+        log.warn("Notification retention [{}] stopped at its time budget after [{}] rows", action, total);
+        return total;
+    }
+
+    private boolean pause(NotificationProperties.Retention retention) {
+        try {
+            Thread.sleep(retention.getPause().toMillis());
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package world.trecord.service.notification;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import world.trecord.domain.notification.NotificationRepository;
+import world.trecord.domain.notification.archive.NotificationArchiveRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * One chunk of notification retention work per transaction, so that each chunk holds its row locks only briefly.
+ */
+@Transactional
+@RequiredArgsConstructor
+@Service
+public class NotificationRetentionService {
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationArchiveRepository notificationArchiveRepository;
+
+    public int purgeDeletedChunk(LocalDateTime threshold, int chunkSize) {
+        return notificationRepository.hardDeleteSoftDeletedBefore(threshold, chunkSize);
+    }
+
+    public int archiveReadChunk(LocalDateTime threshold, int chunkSize) {
+        List<Long> notificationIds = notificationRepository.findReadIdsCreatedBefore(threshold, chunkSize);
+        if (notificationIds.isEmpty()) {
+            return 0;
+        }
+
+        notificationArchiveRepository.archiveAllByIds(notificationIds);
+        return notificationRepository.hardDeleteAllByIds(notificationIds);
+    }
+}
@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import world.trecord.domain.notification.NotificationEntity;
@@ -11,11 +12,18 @@ import world.trecord.domain.notification.NotificationRepository;
 import world.trecord.domain.notification.args.NotificationArgs;
 import world.trecord.domain.notification.enumeration.NotificationType;
 import world.trecord.domain.users.UserEntity;
+import world.trecord.dto.notification.NotificationCursor;
+import world.trecord.dto.notification.request.NotificationCursorRequest;
 import world.trecord.dto.notification.response.CheckNewNotificationResponse;
 import world.trecord.dto.notification.response.NotificationResponse;
+import world.trecord.dto.notification.response.NotificationSliceResponse;
 import world.trecord.exception.CustomException;
 import world.trecord.service.users.UserService;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
 import static world.trecord.domain.notification.enumeration.NotificationStatus.READ;
 import static world.trecord.domain.notification.enumeration.NotificationStatus.UNREAD;
 import static world.trecord.exception.CustomExceptionError.NOTIFICATION_NOT_FOUND;
@@ -28,30 +36,47 @@ public class NotificationService {
 
     private final UserService userService;
     private final NotificationRepository notificationRepository;
+    private final UnreadNotificationCounter unreadNotificationCounter;
 
     public CheckNewNotificationResponse checkUnreadNotifications(Long userId) {
-        boolean hasNewNotification = notificationRepository.existsByUsersToEntityIdAndStatus(userId, UNREAD);
-        return buildNewNotificationResponse(hasNewNotification);
+        return buildNewNotificationResponse(unreadNotificationCounter.getCount(userId));
     }
 
     @Transactional
     public Page<NotificationResponse> getNotifications(Long userId, Pageable pageable) {
         Page<NotificationEntity> notifications = notificationRepository.findByUsersToEntityId(userId, pageable);
-        markNotificationsAsRead(userId);
+        markNotificationsAsReadUpTo(userId, notifications.getContent());
         return notifications.map(NotificationResponse::of);
     }
 
+    @Transactional
+    public NotificationSliceResponse getNotificationSlice(Long userId, NotificationCursorRequest request) {
+        NotificationCursor cursor = NotificationCursor.decode(request.getCursor());
+        Slice<NotificationEntity> notifications = notificationRepository.findSliceByUserId(userId,
+                request.getType(),
+                Objects.nonNull(cursor) ? cursor.createdDateTime() : null,
+                Objects.nonNull(cursor) ? cursor.id() : null,
+                request.getSize());
+
+        List<NotificationResponse> content = notifications.map(NotificationResponse::of).getContent();
+        markNotificationsAsRead(userId, notifications.getContent());
+
+        return buildNotificationSliceResponse(notifications, content);
+    }
+
     @Transactional
     public Page<NotificationResponse> getNotificationsByType(Long userId, NotificationType type, Pageable pageable) {
         Page<NotificationEntity> notifications = notificationRepository.findByUsersToEntityIdAndType(userId, type, pageable);
-        markNotificationsAsRead(userId);
+        markNotificationsAsReadUpTo(userId, notifications.getContent());
         return notifications.map(NotificationResponse::of);
     }
 
     @Transactional
     public NotificationEntity createNotification(Long userToId, NotificationType type, NotificationArgs args) {
         UserEntity userToEntity = userService.findUserOrException(userToId);
-        return notificationRepository.save(buildNotificationEntity(type, args, userToEntity));
+        NotificationEntity notificationEntity = notificationRepository.save(buildNotificationEntity(type, args, userToEntity));
+        unreadNotificationCounter.incrementAfterCommit(Map.of(userToId, 1L));
+        return notificationEntity;
     }
 
     @Transactional
@@ -59,15 +84,48 @@ public class NotificationService {
         NotificationEntity notificationEntity = notificationRepository.findByIdAndUsersToEntityId(notificationId, userId)
                 .orElseThrow(() -> new CustomException(NOTIFICATION_NOT_FOUND));
         notificationRepository.delete(notificationEntity);
+        unreadNotificationCounter.evictAfterCommit(userId);
     }
 
-    private void markNotificationsAsRead(Long userId) {
-        notificationRepository.updateNotificationStatusByUserId(userId, UNREAD, READ);
+    private void markNotificationsAsRead(Long userId, List<NotificationEntity> notifications) {
+        List<Long> unreadIds = notifications.stream()
+                .filter(notificationEntity -> notificationEntity.getStatus() == UNREAD)
+                .map(NotificationEntity::getId)
+                .toList();
+        if (unreadIds.isEmpty()) {
+            return;
+        }
+
+        int updated = notificationRepository.updateNotificationStatusByIds(userId, unreadIds, UNREAD, READ);
+        unreadNotificationCounter.incrementAfterCommit(Map.of(userId, (long) -updated));
+    }
+
+    // pages are ordered newest first, so everything up to the newest notification on the page counts as seen
+    private void markNotificationsAsReadUpTo(Long userId, List<NotificationEntity> notifications) {
+        notifications.stream()
+                .map(NotificationEntity::getId)
+                .max(Long::compare)
+                .ifPresent(watermarkId -> {
+                    int updated = notificationRepository.updateNotificationStatusUpToId(userId, watermarkId, UNREAD, READ);
+                    unreadNotificationCounter.incrementAfterCommit(Map.of(userId, (long) -updated));
+                });
+    }
+
+    private NotificationSliceResponse buildNotificationSliceResponse(Slice<NotificationEntity> notifications, List<NotificationResponse> content) {
+        String nextCursor = notifications.hasNext() && notifications.hasContent()
+                ? NotificationCursor.of(notifications.getContent().get(notifications.getNumberOfElements() - 1)).encode()
+                : null;
+
+        return NotificationSliceResponse.builder()
+                .content(content)
+                .hasNext(notifications.hasNext())
+                .nextCursor(nextCursor)
+                .build();
     }
 
-    private CheckNewNotificationResponse buildNewNotificationResponse(boolean hasNewNotification) {
+    private CheckNewNotificationResponse buildNewNotificationResponse(long unreadCount) {
         return CheckNewNotificationResponse.builder()
-                .hasNewNotification(hasNewNotification)
+                .unreadCount(unreadCount)
                 .build();
     }
 
@@ -0,0 +1,65 @@
+package world.trecord.service.notification;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import world.trecord.config.redis.UnreadNotificationCountRepository;
+import world.trecord.domain.notification.NotificationRepository;
+
+import java.util.Map;
+
+import static world.trecord.domain.notification.enumeration.NotificationStatus.UNREAD;
+
+/**
+ * Keeps the Redis unread counters in step with notification writes. Changes are applied after commit so a rolled
+ * back write never moves a counter, and a missing or invalid counter is reloaded from the database. Counters expire
+ * after notification.unread-count.ttl, which bounds any drift from writes that bypass this class.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class UnreadNotificationCounter {
+
+    private final UnreadNotificationCountRepository unreadNotificationCountRepository;
+    private final NotificationRepository notificationRepository;
+
+    public long getCount(Long userId) {
+        Long count = unreadNotificationCountRepository.getCount(userId).orElse(null);
+        if (count != null && count >= 0) {
+            return count;
+        }
+
+        long loadedCount = notificationRepository.countByUsersToEntityIdAndStatus(userId, UNREAD);
+        if (count == null) {
+            unreadNotificationCountRepository.setCountIfAbsent(userId, loadedCount);
+        } else {
+            log.warn("Unread notification count for user [{}] drifted to [{}]. Reloaded [{}] from the database.", userId, count, loadedCount);
+            unreadNotificationCountRepository.setCount(userId, loadedCount);
+        }
+        return loadedCount;
+    }
+
+    public void incrementAfterCommit(Map<Long, Long> unreadCountByUserId) {
+        afterCommit(() -> unreadCountByUserId.forEach(unreadNotificationCountRepository::increment));
+    }
+
+    public void evictAfterCommit(Long userId) {
+        afterCommit(() -> unreadNotificationCountRepository.evict(userId));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,8 @@
+package world.trecord.service.purge;
+
+public record PurgeChunkResult(int selected, int deleted, long checkpoint) {
+
+    public boolean isLastChunk(int chunkSize) {
+        return selected < chunkSize;
+    }
+}
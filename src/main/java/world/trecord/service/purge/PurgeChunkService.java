@@ -0,0 +1,47 @@
+package world.trecord.service.purge;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import world.trecord.domain.purge.PurgeCheckpointRepository;
+import world.trecord.domain.purge.PurgeTarget;
+import world.trecord.domain.purge.SoftDeletePurgeRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Purges one primary-key-ordered chunk per transaction and advances the checkpoint in that same transaction, so a
+ * crashed or interrupted run resumes exactly after the last committed chunk. The checkpoint row stays locked for the
+ * whole chunk, so when the job fires on several instances they take turns instead of purging the same range.
+ */
+@Transactional
+@RequiredArgsConstructor
+@Service
+public class PurgeChunkService {
+
+    private final SoftDeletePurgeRepository softDeletePurgeRepository;
+    private final PurgeCheckpointRepository purgeCheckpointRepository;
+
+    public PurgeChunkResult purgeChunk(PurgeTarget target, LocalDateTime threshold, int chunkSize) {
+        // The row has to exist before it can be locked; locking a missing row would let two instances insert it
+        purgeCheckpointRepository.insertIfAbsent(target.name());
+        long checkpoint = purgeCheckpointRepository.findLastIdByTargetForUpdate(target.name());
+
+        List<Long> ids = softDeletePurgeRepository.findPurgeableIds(target, threshold, checkpoint, chunkSize);
+        int deleted = softDeletePurgeRepository.deleteAllByIds(target, threshold, ids);
+
+        // A short chunk means the table has been scanned to the end, so the next pass starts over from the first id
+        long nextCheckpoint = ids.size() < chunkSize ? 0L : ids.get(ids.size() - 1);
+        purgeCheckpointRepository.upsert(target.name(), nextCheckpoint);
+
+        return new PurgeChunkResult(ids.size(), deleted, nextCheckpoint);
+    }
+
+    @Transactional(readOnly = true)
+    public long findCheckpoint(PurgeTarget target) {
+        Long lastId = purgeCheckpointRepository.findLastIdByTarget(target.name());
+        return Objects.isNull(lastId) ? 0L : lastId;
+    }
+}
@@ -0,0 +1,144 @@
+package world.trecord.service.purge;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import world.trecord.config.properties.PurgeProperties;
+import world.trecord.domain.purge.PurgeTarget;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hard-deletes soft-deleted rows once they are older than their retention. Targets are visited in {@link PurgeTarget}
+ * order (children first), one chunk per transaction with a pause in between. A failing chunk is retried with
+ * exponential backoff, and a run that exceeds its time budget stops and resumes from the checkpoint next time.
+ */
+@Slf4j
+@Component
+public class SoftDeletePurgeJob {
+
+    private final PurgeChunkService purgeChunkService;
+    private final PurgeProperties purgeProperties;
+    private final Map<PurgeTarget, Counter> purgedCounters = new EnumMap<>(PurgeTarget.class);
+    private final Map<PurgeTarget, Timer> chunkTimers = new EnumMap<>(PurgeTarget.class);
+    private final Map<PurgeTarget, AtomicLong> checkpoints = new EnumMap<>(PurgeTarget.class);
+
+    public SoftDeletePurgeJob(PurgeChunkService purgeChunkService, PurgeProperties purgeProperties, MeterRegistry meterRegistry) {
+        this.purgeChunkService = purgeChunkService;
+        this.purgeProperties = purgeProperties;
+
+        for (PurgeTarget target : PurgeTarget.values()) {
+            String table = target.getTableName();
+            purgedCounters.put(target, Counter.builder("purge.rows")
+                    .description("Number of soft-deleted rows hard-deleted by the purge job")
+                    .tag("table", table)
+                    .register(meterRegistry));
+            chunkTimers.put(target, Timer.builder("purge.chunk.latency")
+                    .description("Time taken to purge one chunk")
+                    .tag("table", table)
+                    .register(meterRegistry));
+            AtomicLong checkpoint = new AtomicLong();
+            checkpoints.put(target, checkpoint);
+            Gauge.builder("purge.checkpoint", checkpoint, AtomicLong::get)
+                    .description("Last primary key purged in the current pass")
+                    .tag("table", table)
+                    .register(meterRegistry);
+        }
+    }
+
+    @Scheduled(cron = "${purge.cron:0 0 5 * * *}")
+    public void run() {
+        if (!purgeProperties.isEnabled()) {
+            return;
+        }
+
+        long deadline = System.nanoTime() + purgeProperties.getMaxRunTime().toNanos();
+        LocalDateTime now = LocalDateTime.now();
+
+        for (PurgeTarget target : PurgeTarget.values()) {
+            if (!purgeProperties.isEnabled(target)) {
+                continue;
+            }
+
+            if (!purge(target, now.minus(purgeProperties.getRetention(target)), deadline)) {
+                log.warn("Purge stopped at [{}]; remaining targets resume on the next run", target.getTableName());
+                return;
+            }
+        }
+    }
+
+    /**
+     * @return {@code true} if the pass over the target completed, {@code false} if it was cut short
+     */
+    public boolean purge(PurgeTarget target, LocalDateTime threshold, long deadline) {
+        int chunkSize = purgeProperties.getChunkSize(target);
+        long total = 0;
+
+        while (System.nanoTime() < deadline) {
+            PurgeChunkResult result = purgeChunkWithRetry(target, threshold, chunkSize);
+            if (result == null) {
+                return false;
+            }
+
+            purgedCounters.get(target).increment(result.deleted());
+            checkpoints.get(target).set(result.checkpoint());
+            total += result.deleted();
+
+            if (result.isLastChunk(chunkSize)) {
+                log.info("Purged [{}] rows from [{}]", total, target.getTableName());
+                return true;
+            }
+
+            log.info("Purging [{}] in progress. rows so far: [{}], checkpoint: [{}]", target.getTableName(), total, result.checkpoint());
+            if (!sleep(purgeProperties.getPause())) {
+                return false;
+            }
+        }
+
+        log.warn("Purge of [{}] stopped at its time budget after [{}] rows", target.getTableName(), total);
+        return false;
+    }
+
+    private PurgeChunkResult purgeChunkWithRetry(PurgeTarget target, LocalDateTime threshold, int chunkSize) {
+        Duration backoff = purgeProperties.getPause();
+
+        for (int attempt = 0; ; attempt++) {
+            try {
+                return chunkTimers.get(target).recordCallable(() -> purgeChunkService.purgeChunk(target, threshold, chunkSize));
+            } catch (Exception ex) {
+                if (attempt >= purgeProperties.getMaxRetries()) {
+                    log.error("Giving up purging [{}] after [{}] attempts", target.getTableName(), attempt + 1, ex);
+                    return null;
+                }
+
+                backoff = min(backoff.multipliedBy(2), purgeProperties.getMaxBackoff());
+                log.warn("Failed to purge a chunk of [{}]. retrying in [{}]", target.getTableName(), backoff, ex);
+                if (!sleep(backoff)) {
+                    return null;
+                }
+            }
+        }
+    }
+
+    private Duration min(Duration a, Duration b) {
+        return a.compareTo(b) <= 0 ? a : b;
+    }
+
+    private boolean sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package world.trecord.service.record;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import world.trecord.domain.record.RecordRepository;
+import world.trecord.domain.record.RecordSequenceRepository;
+import world.trecord.domain.record.projection.RecordSequenceProjection;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Spreads the sequences of one feed and date {@link #SEQUENCE_GAP} apart so that a record can later be moved between
+ * two neighbours by rewriting only its own row.
+ */
+@Transactional
+@RequiredArgsConstructor
+@Service
+public class RecordSequenceRebalancer {
+
+    public static final int SEQUENCE_GAP = 1024;
+
+    private final RecordRepository recordRepository;
+    private final RecordSequenceRepository recordSequenceRepository;
+
+    public void rebalance(Long feedId, LocalDateTime date) {
+        recordSequenceRepository.lockByFeedEntityIdAndDate(feedId, date);
+        List<Long> recordIds = recordRepository.findSequencesForShareByFeedEntityIdAndDate(feedId, date).stream()
+                .map(RecordSequenceProjection::getId)
+                .toList();
+        respace(feedId, date, recordIds);
+    }
+
+    /**
+     * Assigns gapped sequences in the given order. The caller must hold the feed and date lock.
+     */
+    public void respace(Long feedId, LocalDateTime date, List<Long> orderedRecordIds) {
+        Map<Long, Integer> sequenceByRecordId = new LinkedHashMap<>();
+        for (int i = 0; i < orderedRecordIds.size(); i++) {
+            sequenceByRecordId.put(orderedRecordIds.get(i), (i + 1) * SEQUENCE_GAP);
+        }
+        recordRepository.updateSequences(sequenceByRecordId);
+
+        // New records are appended after the counter, so it has to stay at or above the last sequence
+        recordSequenceRepository.updateSequenceByFeedEntityIdAndDate(feedId, date, orderedRecordIds.size() * SEQUENCE_GAP);
+    }
+}
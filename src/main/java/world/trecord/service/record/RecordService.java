@@ -1,10 +1,15 @@
 package world.trecord.service.record;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import world.trecord.domain.comment.CommentEntity;
 import world.trecord.domain.comment.CommentRepository;
 import world.trecord.domain.feed.FeedEntity;
@@ -12,26 +17,35 @@ import world.trecord.domain.feedcontributor.FeedContributorRepository;
 import world.trecord.domain.notification.NotificationRepository;
 import world.trecord.domain.record.RecordEntity;
 import world.trecord.domain.record.RecordRepository;
-import world.trecord.domain.record.RecordSequenceEntity;
 import world.trecord.domain.record.RecordSequenceRepository;
+import world.trecord.domain.record.projection.RecordSequenceProjection;
 import world.trecord.domain.userrecordlike.UserRecordLikeRepository;
 import world.trecord.domain.users.UserEntity;
+import world.trecord.dto.record.request.RecordBatchCreateRequest;
 import world.trecord.dto.record.request.RecordCreateRequest;
+import world.trecord.dto.record.request.RecordSequenceMoveRequest;
+import world.trecord.dto.record.request.RecordSequenceReorderRequest;
 import world.trecord.dto.record.request.RecordSequenceSwapRequest;
 import world.trecord.dto.record.request.RecordUpdateRequest;
+import world.trecord.dto.record.response.RecordBatchCreateResponse;
+import world.trecord.dto.record.response.RecordBatchItemResponse;
 import world.trecord.dto.record.response.RecordCommentResponse;
 import world.trecord.dto.record.response.RecordCreateResponse;
 import world.trecord.dto.record.response.RecordInfoResponse;
+import world.trecord.event.record.RecordSequenceRebalanceEvent;
 import world.trecord.exception.CustomException;
+import world.trecord.exception.CustomExceptionError;
 import world.trecord.service.feed.FeedService;
 import world.trecord.service.users.UserService;
 
 import java.time.LocalDateTime;
-import java.util.Arrays;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static world.trecord.exception.CustomExceptionError.*;
+import static world.trecord.service.record.RecordSequenceRebalancer.SEQUENCE_GAP;
 
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
@@ -46,6 +60,9 @@ public class RecordService {
     private final NotificationRepository notificationRepository;
     private final CommentRepository commentRepository;
     private final FeedContributorRepository feedContributorRepository;
+    private final RecordSequenceRebalancer recordSequenceRebalancer;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
 
     public RecordInfoResponse getRecord(Long userId, Long recordId) {
         RecordEntity recordEntity = findRecordWithUserOrException(recordId);
@@ -63,6 +80,70 @@ public class RecordService {
         return RecordCreateResponse.of(recordEntity);
     }
 
+    /**
+     * Creates many records in one transaction. Feed lookup and permission checks run once per feed, sequences are
+     * allocated once per feed and date, and rows are written with multi-row INSERTs. Items that fail validation are
+     * reported in the response instead of failing the whole batch.
+     */
+    @Transactional
+    public RecordBatchCreateResponse createRecords(Long userId, RecordBatchCreateRequest request) {
+        UserEntity userEntity = userService.findUserOrException(userId);
+        List<RecordCreateRequest> items = request.getRecords();
+
+        Set<Long> feedIds = items.stream().map(RecordCreateRequest::getFeedId).collect(Collectors.toSet());
+        Map<Long, FeedEntity> feedById = feedService.findFeeds(feedIds).stream()
+                .collect(Collectors.toMap(FeedEntity::getId, Function.identity()));
+        Map<Long, CustomExceptionError> feedErrorById = new HashMap<>();
+        for (Long feedId : feedIds) {
+            FeedEntity feedEntity = feedById.get(feedId);
+            if (Objects.isNull(feedEntity)) {
+                feedErrorById.put(feedId, FEED_NOT_FOUND);
+            } else if (!hasWritePermissionOverRecord(userId, feedEntity)) {
+                feedErrorById.put(feedId, FORBIDDEN);
+            }
+        }
+
+        RecordBatchItemResponse[] results = new RecordBatchItemResponse[items.size()];
+        // Sorted so that concurrent batches take the record_sequence row locks in the same order
+        Map<RecordSequenceKey, List<Integer>> acceptedByDay = new TreeMap<>();
+        for (int index = 0; index < items.size(); index++) {
+            RecordCreateRequest item = items.get(index);
+            CustomExceptionError error = feedErrorById.get(item.getFeedId());
+            if (Objects.isNull(error) && !feedById.get(item.getFeedId()).isWithinPeriod(item.getDate())) {
+                error = INVALID_ARGUMENT;
+            }
+
+            if (Objects.nonNull(error)) {
+                results[index] = RecordBatchItemResponse.failed(index, item.getFeedId(), error);
+            } else {
+                acceptedByDay.computeIfAbsent(new RecordSequenceKey(item.getFeedId(), item.getDate()), key -> new ArrayList<>()).add(index);
+            }
+        }
+
+        List<Integer> acceptedIndexes = new ArrayList<>();
+        List<RecordEntity> recordEntities = new ArrayList<>();
+        acceptedByDay.forEach((key, indexes) -> {
+            int lastSequence = allocateSequences(key.feedId(), key.date(), indexes.size());
+            int sequence = lastSequence - indexes.size() * SEQUENCE_GAP;
+            for (Integer index : indexes) {
+                acceptedIndexes.add(index);
+                sequence += SEQUENCE_GAP;
+                recordEntities.add(items.get(index).toEntity(userEntity, feedById.get(key.feedId()), sequence));
+            }
+        });
+
+        List<Long> recordIds = recordRepository.insertAll(recordEntities);
+        for (int i = 0; i < recordEntities.size(); i++) {
+            RecordEntity recordEntity = recordEntities.get(i);
+            int index = acceptedIndexes.get(i);
+            results[index] = RecordBatchItemResponse.created(index, recordEntity.getFeedId(), recordIds.get(i), recordEntity.getSequence());
+        }
+
+        return RecordBatchCreateResponse.builder()
+                .results(Arrays.asList(results))
+                .build();
+    }
+
     @Transactional
     public void updateRecord(Long userId, Long recordId, RecordUpdateRequest request) {
         RecordEntity recordEntity = findRecordOrException(recordId);
@@ -75,6 +156,7 @@ public class RecordService {
     public void swapRecordSequence(Long userId, RecordSequenceSwapRequest request) {
         List<Long> recordIds = Arrays.asList(request.getOriginalRecordId(), request.getTargetRecordId());
         List<RecordEntity> recordEntityList = recordRepository.findByIdsForUpdate(recordIds);
+        recordLockHoldTime("swap", System.nanoTime());
         ensureAllRecordsFound(recordEntityList, recordIds);
         RecordEntity originalRecord = recordEntityList.get(0);
         RecordEntity targetRecord = recordEntityList.get(1);
@@ -86,6 +168,55 @@ public class RecordService {
         recordRepository.saveAllAndFlush(List.of(originalRecord, targetRecord));
     }
 
+    @Transactional
+    public void moveRecordSequence(Long userId, RecordSequenceMoveRequest request) {
+        RecordEntity recordEntity = findRecordOrException(request.getRecordId());
+        FeedEntity feedEntity = feedService.findFeedOrException(recordEntity.getFeedId());
+        ensureUserHasPermissionOverFeed(userId, feedEntity);
+
+        Long feedId = feedEntity.getId();
+        LocalDateTime date = recordEntity.getDate();
+        recordSequenceRepository.lockByFeedEntityIdAndDate(feedId, date);
+
+        List<RecordSequenceProjection> others = recordRepository.findSequencesForShareByFeedEntityIdAndDate(feedId, date).stream()
+                .filter(it -> !Objects.equals(it.getId(), recordEntity.getId()))
+                .toList();
+        int index = Math.min(request.getPosition() - 1, others.size());
+        Integer previous = index > 0 ? others.get(index - 1).getSequence() : null;
+        Integer next = index < others.size() ? others.get(index).getSequence() : null;
+
+        if (Objects.isNull(next)) {
+            recordRepository.updateSequence(recordEntity.getId(), allocateSequences(feedId, date, 1));
+            return;
+        }
+
+        int lowerBound = Objects.isNull(previous) ? 0 : previous;
+        if (next - lowerBound <= 1) {
+            recordSequenceRebalancer.respace(feedId, date, insertAt(others, index, recordEntity.getId()));
+            return;
+        }
+
+        int sequence = lowerBound + (next - lowerBound) / 2;
+        recordRepository.updateSequence(recordEntity.getId(), sequence);
+
+        if (sequence - lowerBound <= 1 || next - sequence <= 1) {
+            eventPublisher.publishEvent(new RecordSequenceRebalanceEvent(feedId, date));
+        }
+    }
+
+    @Transactional
+    public void reorderRecordSequences(Long userId, RecordSequenceReorderRequest request) {
+        FeedEntity feedEntity = feedService.findFeedOrException(request.getFeedId());
+        ensureUserHasPermissionOverFeed(userId, feedEntity);
+
+        recordSequenceRepository.lockByFeedEntityIdAndDate(feedEntity.getId(), request.getDate());
+        List<Long> recordIds = recordRepository.findIdsForUpdateByFeedEntityIdAndDate(feedEntity.getId(), request.getDate());
+        recordLockHoldTime("reorder", System.nanoTime());
+        ensureSameRecords(recordIds, request.getRecordIds());
+
+        recordSequenceRebalancer.respace(feedEntity.getId(), request.getDate(), request.getRecordIds());
+    }
+
     @Transactional
     public void deleteRecord(Long userId, Long recordId) {
         RecordEntity recordEntity = findRecordOrException(recordId);
@@ -122,27 +253,70 @@ public class RecordService {
     }
 
     private void ensureUserHasWritePermissionOverRecord(Long userId, FeedEntity feedEntity) {
+        if (!hasWritePermissionOverRecord(userId, feedEntity)) {
+            throw new CustomException(FORBIDDEN);
+        }
+    }
+
+    private boolean hasWritePermissionOverRecord(Long userId, FeedEntity feedEntity) {
         if (feedEntity.isOwnedBy(userId)) {
-            return;
+            return true;
         }
 
-        boolean hasWritePermission = feedContributorRepository
+        return feedContributorRepository
                 .findByUserEntityIdAndFeedEntityId(userId, feedEntity.getId())
                 .map(it -> it.getPermission().getRecord().getWrite())
                 .orElse(false);
+    }
 
-        if (!hasWritePermission) {
-            throw new CustomException(FORBIDDEN);
+    private int findNextSequence(Long feedId, LocalDateTime date) {
+        return allocateSequences(feedId, date, 1);
+    }
+
+    // New records are placed SEQUENCE_GAP apart, so a record can be moved between any two of them without a respace
+    private int allocateSequences(Long feedId, LocalDateTime date, int count) {
+        return recordSequenceRepository.allocate(feedId, date, count * SEQUENCE_GAP);
+    }
+
+    // Row locks are held until the transaction ends, so the time is recorded on completion rather than when the method returns.
+    // Time spent waiting for the locks is not included.
+    private void recordLockHoldTime(String operation, long lockedAt) {
+        Timer timer = Timer.builder("record.sequence.lock.hold")
+                .description("Time a sequence change holds its record locks, from taking them until the transaction ends")
+                .tag("operation", operation)
+                .register(meterRegistry);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
         }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                timer.record(System.nanoTime() - lockedAt, TimeUnit.NANOSECONDS);
+            }
+        });
     }
 
-    private int findNextSequence(Long feedId, LocalDateTime date) {
-        recordSequenceRepository.insertOrIncrement(feedId, date);
+    private record RecordSequenceKey(Long feedId, LocalDateTime date) implements Comparable<RecordSequenceKey> {
 
-        RecordSequenceEntity recordSequenceEntity = recordSequenceRepository.findByFeedEntityIdAndDate(feedId, date)
-                .orElseThrow(() -> new IllegalStateException("RecordSequence should exist after increment or insert"));
+        @Override
+        public int compareTo(RecordSequenceKey other) {
+            int byFeed = this.feedId.compareTo(other.feedId);
+            return byFeed != 0 ? byFeed : this.date.compareTo(other.date);
+        }
+    }
 
-        return recordSequenceEntity.getSequence();
+    private List<Long> insertAt(List<RecordSequenceProjection> others, int index, Long recordId) {
+        List<Long> recordIds = new ArrayList<>(others.stream().map(RecordSequenceProjection::getId).toList());
+        recordIds.add(index, recordId);
+        return recordIds;
+    }
+
+    private void ensureSameRecords(List<Long> recordIds, List<Long> requestedRecordIds) {
+        if (recordIds.size() != requestedRecordIds.size() || !new HashSet<>(recordIds).equals(new HashSet<>(requestedRecordIds))) {
+            throw new CustomException(INVALID_ARGUMENT);
+        }
     }
 
     private void ensureRecordsHasSameFeed(RecordEntity originalRecord, RecordEntity targetRecord) {
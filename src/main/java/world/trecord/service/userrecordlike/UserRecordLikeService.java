@@ -14,6 +14,7 @@ import world.trecord.domain.userrecordlike.UserRecordLikeRepository;
 import world.trecord.domain.users.UserEntity;
 import world.trecord.dto.userrecordlike.response.UserRecordLikeResponse;
 import world.trecord.dto.userrecordlike.response.UserRecordLikedResponse;
+import world.trecord.event.notification.NotificationCancelEvent;
 import world.trecord.event.notification.NotificationEvent;
 import world.trecord.service.record.RecordService;
 import world.trecord.service.users.UserService;
@@ -35,7 +36,7 @@ public class UserRecordLikeService {
         UserEntity userEntity = userService.findUserOrException(userId);
         RecordEntity recordEntity = recordService.findRecordWithLockOrException(recordId);
         return userRecordLikeRepository.findByUserEntityIdAndRecordEntityId(userEntity.getId(), recordEntity.getId())
-                .map(this::unlike)
+                .map(userRecordLikeEntity -> unlike(userRecordLikeEntity, userEntity, recordEntity))
                 .orElseGet(() -> like(userEntity, recordEntity));
     }
 
@@ -44,15 +45,15 @@ public class UserRecordLikeService {
                 .map(UserRecordLikeResponse::of);
     }
 
-    private UserRecordLikedResponse unlike(UserRecordLikeEntity userRecordLikeEntity) {
+    private UserRecordLikedResponse unlike(UserRecordLikeEntity userRecordLikeEntity, UserEntity userEntity, RecordEntity recordEntity) {
         userRecordLikeRepository.delete(userRecordLikeEntity);
+        eventPublisher.publishEvent(new NotificationCancelEvent(buildNotificationEvent(userEntity, recordEntity)));
         return UserRecordLikedResponse.of(false);
     }
 
     private UserRecordLikedResponse like(UserEntity userEntity, RecordEntity recordEntity) {
         saveRecordLike(userEntity, recordEntity);
-        Long userToId = recordEntity.getUserId();
-        eventPublisher.publishEvent(new NotificationEvent(userToId, userEntity.getId(), RECORD_LIKE, buildNotificationArgs(userEntity, recordEntity)));
+        eventPublisher.publishEvent(buildNotificationEvent(userEntity, recordEntity));
         return UserRecordLikedResponse.of(true);
     }
 
@@ -65,6 +66,10 @@ public class UserRecordLikeService {
         userRecordLikeRepository.save(userRecordLikeEntity);
     }
 
+    private NotificationEvent buildNotificationEvent(UserEntity userEntity, RecordEntity recordEntity) {
+        return new NotificationEvent(recordEntity.getUserId(), userEntity.getId(), RECORD_LIKE, buildNotificationArgs(userEntity, recordEntity));
+    }
+
     private NotificationArgs buildNotificationArgs(UserEntity userEntity, RecordEntity recordEntity) {
         return NotificationArgs.builder()
                 .recordEntity(recordEntity)
@@ -5,6 +5,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.CollectionUtils;
 import world.trecord.config.redis.UserCacheRepository;
 import world.trecord.config.security.account.UserContext;
@@ -73,6 +75,8 @@ public class UserService {
             throw ex;
         }
 
+        evictUserContext(userId);
+
         return UserResponse.of(userEntity);
     }
 
@@ -109,6 +113,20 @@ public class UserService {
         return userEntityList;
     }
 
+    private void evictUserContext(Long userId) {
+        userCacheRepository.evictUserContext(userId);
+
+        // evict again after commit so that a concurrent read cannot re-cache the pre-commit state
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    userCacheRepository.evictUserContext(userId);
+                }
+            });
+        }
+    }
+
     private boolean isNicknameUpdated(String originalNickname, String updatedNickname) {
         return !Objects.equals(originalNickname, updatedNickname);
     }
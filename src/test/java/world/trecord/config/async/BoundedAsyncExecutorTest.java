@@ -0,0 +1,133 @@
+package world.trecord.config.async;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class BoundedAsyncExecutorTest {
+
+    @Test
+    @DisplayName("동시에 실행되는 작업 수는 최대 동시 작업 수를 넘지 않는다")
+    void executeBoundsConcurrentTasksTest() throws Exception {
+        //given
+        int maxConcurrentTasks = 2;
+        ExecutorService delegate = Executors.newFixedThreadPool(8);
+        BoundedAsyncExecutor executor = new BoundedAsyncExecutor(delegate, maxConcurrentTasks, 100);
+        AtomicInteger running = new AtomicInteger(0);
+        AtomicInteger maxRunning = new AtomicInteger(0);
+        CountDownLatch done = new CountDownLatch(20);
+
+        //when
+        for (int i = 0; i < 20; i++) {
+            executor.execute(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(5);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                running.decrementAndGet();
+                done.countDown();
+            });
+        }
+        done.await(5, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        //then
+        Assertions.assertThat(maxRunning.get()).isLessThanOrEqualTo(maxConcurrentTasks);
+        Assertions.assertThat(executor.getActiveTasks()).isZero();
+    }
+
+    @Test
+    @DisplayName("작업이 거절되면 예외 대신 호출한 스레드에서 실행하고 거절 수를 기록한다")
+    void executeRunsOnCallerThreadWhenRejectedTest() throws Exception {
+        //given
+        ExecutorService delegate = Executors.newSingleThreadExecutor();
+        delegate.shutdown();
+        BoundedAsyncExecutor executor = new BoundedAsyncExecutor(delegate, 1, 1);
+        Thread caller = Thread.currentThread();
+        AtomicInteger ranOnCaller = new AtomicInteger(0);
+
+        //when
+        executor.execute(() -> {
+            if (Thread.currentThread() == caller) {
+                ranOnCaller.incrementAndGet();
+            }
+        });
+
+        //then
+        Assertions.assertThat(ranOnCaller.get()).isEqualTo(1);
+        Assertions.assertThat(executor.getRejectedTasks()).isEqualTo(1);
+        Assertions.assertThat(executor.getQueuedTasks()).isZero();
+    }
+
+    @Test
+    @DisplayName("허용 수만큼 작업이 실행 중이면 새 작업은 풀 스레드를 점유하지 않고 대기열에서 기다린다")
+    void executeQueuesTasksWithoutOccupyingPoolThreadsTest() throws Exception {
+        //given
+        ThreadPoolExecutor delegate = (ThreadPoolExecutor) Executors.newFixedThreadPool(4);
+        BoundedAsyncExecutor executor = new BoundedAsyncExecutor(delegate, 1, 10);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(3);
+
+        //when
+        executor.execute(() -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            done.countDown();
+        });
+        executor.execute(done::countDown);
+        executor.execute(done::countDown);
+        int queuedWhileBlocked = executor.getQueuedTasks();
+        int poolThreadsWhileBlocked = delegate.getActiveCount();
+        release.countDown();
+        done.await(5, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        //then
+        Assertions.assertThat(queuedWhileBlocked).isEqualTo(2);
+        Assertions.assertThat(poolThreadsWhileBlocked).isLessThanOrEqualTo(1);
+        Assertions.assertThat(done.getCount()).isZero();
+        Assertions.assertThat(executor.getQueuedTasks()).isZero();
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 호출한 스레드에서 실행하고 거절 수를 기록한다")
+    void executeRunsOnCallerThreadWhenPendingQueueIsFullTest() throws Exception {
+        //given
+        ExecutorService delegate = Executors.newFixedThreadPool(2);
+        BoundedAsyncExecutor executor = new BoundedAsyncExecutor(delegate, 1, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch queuedTaskDone = new CountDownLatch(1);
+        Thread caller = Thread.currentThread();
+        AtomicInteger ranOnCaller = new AtomicInteger(0);
+
+        //when
+        executor.execute(() -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        executor.execute(queuedTaskDone::countDown);
+        executor.execute(() -> {
+            if (Thread.currentThread() == caller) {
+                ranOnCaller.incrementAndGet();
+            }
+        });
+        release.countDown();
+        queuedTaskDone.await(5, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        //then
+        Assertions.assertThat(ranOnCaller.get()).isEqualTo(1);
+        Assertions.assertThat(executor.getRejectedTasks()).isEqualTo(1);
+    }
+}
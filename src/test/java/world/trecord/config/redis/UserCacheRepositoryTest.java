@@ -4,6 +4,8 @@ package world.trecord.config.redis;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.transaction.annotation.Transactional;
 import world.trecord.config.security.account.UserContext;
 import world.trecord.domain.users.UserEntity;
@@ -15,6 +17,9 @@ import java.util.Optional;
 @Transactional
 class UserCacheRepositoryTest extends AbstractIntegrationTest {
 
+    @Autowired
+    RedisTemplate<String, UserContext> userContextRedisTemplate;
+
     @Test
     @DisplayName("UserContext를 redis에 저장한다")
     void setUserContextTest() throws Exception {
@@ -51,4 +56,34 @@ class UserCacheRepositoryTest extends AbstractIntegrationTest {
         //then
         Assertions.assertThat(userContext).isEmpty();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("redis에서 삭제되어도 로컬 캐시에 UserContext가 있으면 반환한다")
+    void getUserContextFromLocalCacheTest() throws Exception {
+        //given
+        UserEntity userEntity = userRepository.save(UserEntityFixture.of());
+        userCacheRepository.setUserContext(UserContext.fromEntity(userEntity));
+        userContextRedisTemplate.delete("UID:" + userEntity.getId());
+
+        //when
+        Optional<UserContext> userContext = userCacheRepository.getUserContext(userEntity.getId());
+
+        //then
+        Assertions.assertThat(userContext).isPresent();
+    }
+
+    @Test
+    @DisplayName("UserContext를 무효화하면 로컬 캐시와 redis에서 모두 제거된다")
+    void evictUserContextTest() throws Exception {
+        //given
+        UserEntity userEntity = userRepository.save(UserEntityFixture.of());
+        userCacheRepository.setUserContext(UserContext.fromEntity(userEntity));
+
+        //when
+        userCacheRepository.evictUserContext(userEntity.getId());
+
+        //then
+        Assertions.assertThat(userCacheRepository.getUserContext(userEntity.getId())).isEmpty();
+        Assertions.assertThat(userContextRedisTemplate.opsForValue().get("UID:" + userEntity.getId())).isNull();
+    }
+}
@@ -0,0 +1,79 @@
+package world.trecord.config.redis;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import world.trecord.config.security.account.UserContext;
+
+class UserContextBinaryRedisSerializerTest {
+
+    UserContextBinaryRedisSerializer serializer = new UserContextBinaryRedisSerializer();
+
+    @Test
+    @DisplayName("UserContext를 직렬화한 후 역직렬화하면 같은 값을 가진다")
+    void serializeAndDeserializeTest() throws Exception {
+        //given
+        UserContext userContext = new UserContext(1L, "nickname", "소개글", "http://localhost/image.png", "ROLE_USER", null, null, null);
+
+        //when
+        UserContext deserialized = serializer.deserialize(serializer.serialize(userContext));
+
+        //then
+        Assertions.assertThat(deserialized).isEqualTo(userContext);
+    }
+
+    @Test
+    @DisplayName("null 필드를 가진 UserContext도 직렬화할 수 있다")
+    void serializeWithNullFieldsTest() throws Exception {
+        //given
+        UserContext userContext = new UserContext(1L, null, null, null, "ROLE_USER", null, null, null);
+
+        //when
+        UserContext deserialized = serializer.deserialize(serializer.serialize(userContext));
+
+        //then
+        Assertions.assertThat(deserialized)
+                .extracting("id", "nickname", "introduction", "imageUrl", "role")
+                .containsExactly(1L, null, null, null, "ROLE_USER");
+    }
+
+    @Test
+    @DisplayName("직렬화된 값의 첫 바이트는 스키마 버전이다")
+    void schemaVersionTest() throws Exception {
+        //given
+        UserContext userContext = new UserContext(1L, "nickname", null, null, "ROLE_USER", null, null, null);
+
+        //when
+        byte[] bytes = serializer.serialize(userContext);
+
+        //then
+        Assertions.assertThat(bytes[0]).isEqualTo(UserContextBinaryRedisSerializer.SCHEMA_VERSION);
+    }
+
+    @Test
+    @DisplayName("JSON으로 저장된 UserContext도 역직렬화할 수 있다")
+    void deserializeLegacyJsonTest() throws Exception {
+        //given
+        UserContext userContext = new UserContext(1L, "nickname", "소개글", null, "ROLE_USER", null, null, null);
+        byte[] json = new Jackson2JsonRedisSerializer<>(UserContext.class).serialize(userContext);
+
+        //when
+        UserContext deserialized = serializer.deserialize(json);
+
+        //then
+        Assertions.assertThat(deserialized).isEqualTo(userContext);
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 스키마 버전이면 SerializationException 예외가 발생한다")
+    void deserializeUnsupportedVersionTest() throws Exception {
+        //given
+        byte[] bytes = {99, 0};
+
+        //when //then
+        Assertions.assertThatThrownBy(() -> serializer.deserialize(bytes))
+                .isInstanceOf(SerializationException.class);
+    }
+}
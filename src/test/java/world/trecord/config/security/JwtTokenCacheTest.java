@@ -0,0 +1,74 @@
+package world.trecord.config.security;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+class JwtTokenCacheTest {
+
+    @Test
+    @DisplayName("저장된 토큰을 조회하면 userId를 반환하고 hit 횟수가 증가한다")
+    void getUserIdTest() throws Exception {
+        //given
+        JwtTokenCache jwtTokenCache = new JwtTokenCache(10);
+        jwtTokenCache.put("token", new VerifiedToken(1L, Instant.now().plusSeconds(60)));
+
+        //when
+        Long userId = jwtTokenCache.getUserId("token").orElse(null);
+
+        //then
+        Assertions.assertThat(userId).isEqualTo(1L);
+        Assertions.assertThat(jwtTokenCache.getHitCount()).isEqualTo(1);
+        Assertions.assertThat(jwtTokenCache.getMissCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("저장되지 않은 토큰을 조회하면 Optional.empty를 반환하고 miss 횟수가 증가한다")
+    void getUserIdWhenNotCachedTest() throws Exception {
+        //given
+        JwtTokenCache jwtTokenCache = new JwtTokenCache(10);
+
+        //when //then
+        Assertions.assertThat(jwtTokenCache.getUserId("token")).isEmpty();
+        Assertions.assertThat(jwtTokenCache.getUserId(null)).isEmpty();
+        Assertions.assertThat(jwtTokenCache.getMissCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 조회 시 캐시에서 제거된다")
+    void getUserIdWhenExpiredTest() throws Exception {
+        //given
+        Instant now = Instant.now();
+        JwtTokenCache jwtTokenCache = new JwtTokenCache(10, Clock.fixed(now, ZoneOffset.UTC));
+        jwtTokenCache.put("token", new VerifiedToken(1L, now.plusSeconds(60)));
+
+        JwtTokenCache expiredCache = new JwtTokenCache(10, Clock.fixed(now.plusSeconds(60), ZoneOffset.UTC));
+        expiredCache.put("token", new VerifiedToken(1L, now.plusSeconds(60)));
+
+        //when //then
+        Assertions.assertThat(jwtTokenCache.getUserId("token")).contains(1L);
+        Assertions.assertThat(expiredCache.getUserId("token")).isEmpty();
+        Assertions.assertThat(expiredCache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 토큰을 제거해 최대 크기를 유지한다")
+    void evictWhenMaxSizeExceededTest() throws Exception {
+        //given
+        JwtTokenCache jwtTokenCache = new JwtTokenCache(2, Clock.systemUTC(), Runnable::run);
+        Instant expiredAt = Instant.now().plusSeconds(60);
+
+        jwtTokenCache.put("token1", new VerifiedToken(1L, expiredAt));
+        jwtTokenCache.put("token2", new VerifiedToken(2L, expiredAt));
+
+        //when
+        jwtTokenCache.put("token3", new VerifiedToken(3L, expiredAt));
+
+        //then
+        Assertions.assertThat(jwtTokenCache.size()).isEqualTo(2);
+    }
+}
@@ -20,6 +20,7 @@ import world.trecord.config.security.account.UserContext;
 import world.trecord.infra.test.AbstractMockMvcTest;
 import world.trecord.service.users.UserService;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -60,10 +61,10 @@ class JwtTokenFilterTest extends AbstractMockMvcTest {
         String validToken = "validToken";
         String whitelistPath = "/whitelist";
 
-        jwtTokenFilter = new JwtTokenFilter(jwtProperties.getSecretKey(), jwtTokenHandler, userService, Map.of(whitelistPath, List.of(HttpMethod.GET)), new ArrayList<>());
+        jwtTokenFilter = new JwtTokenFilter(jwtProperties.getSecretKey(), jwtTokenHandler, new JwtTokenCache(100), userService, Map.of(whitelistPath, List.of(HttpMethod.GET)), new ArrayList<>());
 
         when(req.getHeader(HttpHeaders.AUTHORIZATION)).thenReturn(validToken);
-        when(jwtTokenHandler.getUserIdFromToken(any(), any())).thenReturn(1L);
+        when(jwtTokenHandler.verifyTokenAndGetVerifiedToken(any(), any())).thenReturn(new VerifiedToken(1L, Instant.now().plusSeconds(60)));
         when(userService.getUserContextOrException(any())).thenReturn(mock(UserContext.class));
 
         //when
@@ -83,7 +84,7 @@ class JwtTokenFilterTest extends AbstractMockMvcTest {
     void doFilterInternalWithoutTokenToWhitelistUrlTest() throws Exception {
         //given
         String whiteListPath = "/whitelist";
-        jwtTokenFilter = new JwtTokenFilter(jwtProperties.getSecretKey(), jwtTokenHandler, userService, Map.of(whiteListPath, List.of(HttpMethod.GET)), new ArrayList<>());
+        jwtTokenFilter = new JwtTokenFilter(jwtProperties.getSecretKey(), jwtTokenHandler, new JwtTokenCache(100), userService, Map.of(whiteListPath, List.of(HttpMethod.GET)), new ArrayList<>());
 
         when(req.getHeader("Authorization")).thenReturn(null);
         when(req.getServletPath()).thenReturn(whiteListPath);
@@ -106,7 +107,7 @@ class JwtTokenFilterTest extends AbstractMockMvcTest {
     @DisplayName("올바르지 않은 토큰으로 요청하면 SecuriyContext에 인증 토큰을 저장하지 않는다")
     void doFilterInternalWithInvalidTokenTest() throws Exception {
         //given
-        jwtTokenFilter = new JwtTokenFilter(jwtProperties.getSecretKey(), jwtTokenHandler, userService, Map.of("/whitelist", List.of(HttpMethod.GET)), new ArrayList<>());
+        jwtTokenFilter = new JwtTokenFilter(jwtProperties.getSecretKey(), jwtTokenHandler, new JwtTokenCache(100), userService, Map.of("/whitelist", List.of(HttpMethod.GET)), new ArrayList<>());
 
         String invalidToken = "invalidToken";
         String secretKey = "zOlJAgjm9iEZPqmzilEMh4NxvOfg1qBRP3xYkzUWpSE";
@@ -114,7 +115,7 @@ class JwtTokenFilterTest extends AbstractMockMvcTest {
         ReflectionTestUtils.setField(jwtTokenFilter, "secretKey", secretKey);
 
         when(req.getHeader(HttpHeaders.AUTHORIZATION)).thenReturn(invalidToken);
-        doThrow(new JwtException("invalid jwt exception")).when(jwtTokenHandler).verifyToken(secretKey, invalidToken);
+        doThrow(new JwtException("invalid jwt exception")).when(jwtTokenHandler).verifyTokenAndGetVerifiedToken(secretKey, invalidToken);
 
         //when
         jwtTokenFilter.doFilterInternal(req, res, filterChain);
@@ -128,14 +129,14 @@ class JwtTokenFilterTest extends AbstractMockMvcTest {
     @DisplayName("토큰 없이 보안 URL 리소스에 대해서 요청을 하면 SecuriyContext에 인증 토큰을 저장하지 않는다")
     void doFilterInternalWithoutTokenToSecuritylistUrlTest() throws Exception {
         //given
-        jwtTokenFilter = new JwtTokenFilter(jwtProperties.getSecretKey(), jwtTokenHandler, userService, Map.of("/whitelist", List.of(HttpMethod.GET)), new ArrayList<>());
+        jwtTokenFilter = new JwtTokenFilter(jwtProperties.getSecretKey(), jwtTokenHandler, new JwtTokenCache(100), userService, Map.of("/whitelist", List.of(HttpMethod.GET)), new ArrayList<>());
 
         String requestUri = "/security";
         String secretKey = "zOlJAgjm9iEZPqmzilEMh4NxvOfg1qBRP3xYkzUWpSE";
 
         when(req.getHeader(HttpHeaders.AUTHORIZATION)).thenReturn(null);
         when(req.getServletPath()).thenReturn(requestUri);
-        doThrow(new JwtException("invalid jwt exception")).when(jwtTokenHandler).verifyToken(secretKey, null);
+        doThrow(new JwtException("invalid jwt exception")).when(jwtTokenHandler).verifyTokenAndGetVerifiedToken(secretKey, null);
 
         //when
         jwtTokenFilter.doFilterInternal(req, res, filterChain);
@@ -152,12 +153,12 @@ class JwtTokenFilterTest extends AbstractMockMvcTest {
         String validToken = "validToken";
 
         String tokenInUrl = "/uri";
-        jwtTokenFilter = new JwtTokenFilter(jwtProperties.getSecretKey(), jwtTokenHandler, userService, new HashMap<>(), List.of(tokenInUrl));
+        jwtTokenFilter = new JwtTokenFilter(jwtProperties.getSecretKey(), jwtTokenHandler, new JwtTokenCache(100), userService, new HashMap<>(), List.of(tokenInUrl));
 
         when(req.getHeader(HttpHeaders.AUTHORIZATION)).thenReturn(null);
         when(req.getServletPath()).thenReturn(tokenInUrl + "?token=" + validToken);
 
-        when(jwtTokenHandler.getUserIdFromToken(any(), any())).thenReturn(1L);
+        when(jwtTokenHandler.verifyTokenAndGetVerifiedToken(any(), any())).thenReturn(new VerifiedToken(1L, Instant.now().plusSeconds(60)));
         when(userService.getUserContextOrException(any())).thenReturn(mock(UserContext.class));
 
         //when
@@ -179,12 +180,12 @@ class JwtTokenFilterTest extends AbstractMockMvcTest {
         String invalidToken = "invalidToken";
         String tokenInUrl = "/uri";
 
-        jwtTokenFilter = new JwtTokenFilter(jwtProperties.getSecretKey(), jwtTokenHandler, userService, new HashMap<>(), List.of(tokenInUrl));
+        jwtTokenFilter = new JwtTokenFilter(jwtProperties.getSecretKey(), jwtTokenHandler, new JwtTokenCache(100), userService, new HashMap<>(), List.of(tokenInUrl));
 
         when(req.getHeader(HttpHeaders.AUTHORIZATION)).thenReturn(null);
         when(req.getServletPath()).thenReturn(tokenInUrl + "?token=" + invalidToken);
 
-        doThrow(new JwtException("invalid jwt exception")).when(jwtTokenHandler).verifyToken(any(), any());
+        doThrow(new JwtException("invalid jwt exception")).when(jwtTokenHandler).verifyTokenAndGetVerifiedToken(any(), any());
 
 
         //when
@@ -194,4 +195,30 @@ class JwtTokenFilterTest extends AbstractMockMvcTest {
         verify(filterChain, times(1)).doFilter(req, res);
         Assertions.assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("이미 검증된 토큰으로 다시 요청하면 서명 검증 없이 SecuriyContext에 인증 토큰을 저장한다")
+    void doFilterInternalWithCachedTokenTest() throws Exception {
+        //given
+        String validToken = "validToken";
+
+        jwtTokenFilter = new JwtTokenFilter(jwtProperties.getSecretKey(), jwtTokenHandler, new JwtTokenCache(100), userService, new HashMap<>(), new ArrayList<>());
+
+        when(req.getHeader(HttpHeaders.AUTHORIZATION)).thenReturn(validToken);
+        when(jwtTokenHandler.verifyTokenAndGetVerifiedToken(any(), any())).thenReturn(new VerifiedToken(1L, Instant.now().plusSeconds(60)));
+        when(userService.getUserContextOrException(any())).thenReturn(mock(UserContext.class));
+
+        //when
+        jwtTokenFilter.doFilterInternal(req, res, filterChain);
+        SecurityContextHolder.clearContext();
+        jwtTokenFilter.doFilterInternal(req, res, filterChain);
+
+        //then
+        verify(jwtTokenHandler, times(1)).verifyTokenAndGetVerifiedToken(any(), any());
+        verify(filterChain, times(2)).doFilter(req, res);
+        Assertions.assertThat(SecurityContextHolder.getContext().getAuthentication())
+                .isNotNull()
+                .extracting("principal")
+                .isInstanceOf(UserContext.class);
+    }
+}
@@ -176,4 +176,51 @@ class JwtTokenHandlerTest {
         Assertions.assertThatThrownBy(() -> jwtTokenHandler.getUserIdFromToken(secretKey, expiredToken))
                 .isInstanceOf(JwtException.class);
     }
+
+    @Test
+    @DisplayName("유효한 토큰을 한 번에 검증하고 userId를 추출한다")
+    void verifyTokenAndGetUserIdTest() throws Exception {
+        //given
+        JwtTokenHandler jwtTokenHandler = new JwtTokenHandler();
+
+        long originalUserId = 123L;
+        String secretKey = "zOlJAgjm9iEZPqmzilEMh4NxvOfg1qBRP3xYkzUWpSE";
+        String token = jwtTokenHandler.generateToken(originalUserId, secretKey, 86400000L);
+
+        //when
+        Long userId = jwtTokenHandler.verifyTokenAndGetUserId(secretKey, token);
+
+        //then
+        Assertions.assertThat(userId).isEqualTo(originalUserId);
+    }
+
+    @Test
+    @DisplayName("만료된 토큰을 검증하고 userId를 추출하려고 하면 JwtException이 발생한다")
+    void verifyTokenAndGetUserIdWithExpiredTokenTest() throws Exception {
+        //given
+        JwtTokenHandler jwtTokenHandler = new JwtTokenHandler();
+
+        String secretKey = "zOlJAgjm9iEZPqmzilEMh4NxvOfg1qBRP3xYkzUWpSE";
+        String expiredToken = jwtTokenHandler.generateToken(123L, secretKey, -1000L);
+
+        //when //then
+        Assertions.assertThatThrownBy(() -> jwtTokenHandler.verifyTokenAndGetUserId(secretKey, expiredToken))
+                .isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    @DisplayName("다른 비밀키로 서명된 토큰은 캐시된 검증기로 검증해도 JwtException이 발생한다")
+    void verifyTokenAndGetUserIdWithOtherSecretKeyTest() throws Exception {
+        //given
+        JwtTokenHandler jwtTokenHandler = new JwtTokenHandler();
+
+        String secretKey = "zOlJAgjm9iEZPqmzilEMh4NxvOfg1qBRP3xYkzUWpSE";
+        String otherSecretKey = "adZw12pxc55CmnIKsNP42KIa+M+bTlezcJKs3sW2RctO";
+        String token = jwtTokenHandler.generateToken(123L, otherSecretKey, 86400000L);
+        jwtTokenHandler.verifyTokenAndGetUserId(otherSecretKey, token);
+
+        //when //then
+        Assertions.assertThatThrownBy(() -> jwtTokenHandler.verifyTokenAndGetUserId(secretKey, token))
+                .isInstanceOf(JwtException.class);
+    }
 }
@@ -26,11 +26,12 @@ import java.util.ArrayList;
 import java.util.List;
 
 import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+import static org.springframework.http.HttpHeaders.CONTENT_DISPOSITION;
+import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 import static world.trecord.exception.CustomExceptionError.*;
 
 @Transactional
@@ -404,6 +405,41 @@ class FeedControllerTest extends AbstractMockMvcTest {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    @DisplayName("GET /api/v1/feeds/{feedId}/export - 성공 (피드 주인은 피드를 파일로 내려받는다)")
+    @WithTestUser("test@email.com")
+    void exportFeedTest() throws Exception {
+        //given
+        UserEntity owner = userRepository.findByEmail("test@email.com").get();
+        FeedEntity feedEntity = feedRepository.save(FeedEntityFixture.of(owner));
+
+        //when //then
+        mockMvc.perform(
+                        get("/api/v1/feeds/{feedId}/export", feedEntity.getId())
+                                .param("format", "ZIP")
+                )
+                .andExpect(status().isOk())
+                .andExpect(request().asyncStarted())
+                .andExpect(header().string(CONTENT_TYPE, "application/zip"))
+                .andExpect(header().string(CONTENT_DISPOSITION, "attachment; filename=\"feed-" + feedEntity.getId() + ".zip\""));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/feeds/{feedId}/export - 실패 (피드 주인, 컨트리뷰터가 아닌 사용자)")
+    @WithTestUser("test1@email.com")
+    void exportFeedByNotMemberTest() throws Exception {
+        //given
+        UserEntity owner = userRepository.save(UserEntityFixture.of("test@email.com"));
+        FeedEntity feedEntity = feedRepository.save(FeedEntityFixture.of(owner));
+
+        //when //then
+        mockMvc.perform(
+                        get("/api/v1/feeds/{feedId}/export", feedEntity.getId())
+                )
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.code").value(FORBIDDEN.code()));
+    }
+
     @Test
     @DisplayName("GET /api/v1/feeds/{feedId}/records - 실패 (존재하지 않는 피드 아이디로 요청)")
     void getFeedRecordsWithNotExistingFeedIdTest() throws Exception {
@@ -47,7 +47,8 @@ class NotificationControllerTest extends AbstractMockMvcTest {
                         get("/api/v1/notifications/check")
                 )
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.data.hasNewNotification").value(true));
+                .andExpect(jsonPath("$.data.hasNewNotification").value(true))
+                .andExpect(jsonPath("$.data.unreadCount").value(1));
     }
 
     @Test
@@ -64,7 +65,8 @@ class NotificationControllerTest extends AbstractMockMvcTest {
                         get("/api/v1/notifications/check")
                 )
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.data.hasNewNotification").value(false));
+                .andExpect(jsonPath("$.data.hasNewNotification").value(false))
+                .andExpect(jsonPath("$.data.unreadCount").value(0));
     }
 
     @Test
@@ -129,6 +131,41 @@ class NotificationControllerTest extends AbstractMockMvcTest {
                 .andExpect(jsonPath("$.code").value(INVALID_TOKEN.code()));
     }
 
+    @Test
+    @DisplayName("GET /api/v1/notifications/inbox - 성공")
+    @WithTestUser("user@email.com")
+    void getNotificationSliceTest() throws Exception {
+        //given
+        UserEntity author = userRepository.findByEmail("user@email.com").get();
+        notificationRepository.saveAll(List.of(
+                NotificationEntityFixture.of(author, UNREAD),
+                NotificationEntityFixture.of(author, UNREAD),
+                NotificationEntityFixture.of(author, UNREAD)));
+
+        //when //then
+        mockMvc.perform(
+                        get("/api/v1/notifications/inbox")
+                                .param("size", "2")
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content.size()").value(2))
+                .andExpect(jsonPath("$.data.hasNext").value(true))
+                .andExpect(jsonPath("$.data.nextCursor").isNotEmpty());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/notifications/inbox - 실패 (올바르지 않은 페이지 크기)")
+    @WithTestUser("user@email.com")
+    void getNotificationSliceWithInvalidSizeTest() throws Exception {
+        //when //then
+        mockMvc.perform(
+                        get("/api/v1/notifications/inbox")
+                                .param("size", "0")
+                )
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value(INVALID_ARGUMENT.code()));
+    }
+
     @Test
     @DisplayName("GET /api/v1/notifications/type/{type} - 성공")
     @WithTestUser("user@email.com")
@@ -193,6 +230,22 @@ class NotificationControllerTest extends AbstractMockMvcTest {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    @DisplayName("GET /api/v1/notifications/subscribe - 성공 (Last-Event-ID 헤더와 함께)")
+    void connectNotificationWithLastEventIdTest() throws Exception {
+        //given
+        UserEntity userEntity = userRepository.save(UserEntityFixture.of());
+
+        //when //then
+        mockMvc.perform(
+                        get("/api/v1/notifications/subscribe")
+                                .header("Last-Event-ID", "1")
+                                .queryParam("token", token(userEntity.getId()))
+                )
+                .andDo(print())
+                .andExpect(status().isOk());
+    }
+
     @Test
     @DisplayName("GET /api/v1/notifications/subscribe - 실패 (인증 토큰 없이)")
     void connectNotificationWithoutTokenTest() throws Exception {
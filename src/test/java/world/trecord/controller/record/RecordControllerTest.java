@@ -9,7 +9,10 @@ import world.trecord.domain.comment.CommentEntity;
 import world.trecord.domain.feed.FeedEntity;
 import world.trecord.domain.record.RecordEntity;
 import world.trecord.domain.users.UserEntity;
+import world.trecord.dto.record.request.RecordBatchCreateRequest;
 import world.trecord.dto.record.request.RecordCreateRequest;
+import world.trecord.dto.record.request.RecordSequenceMoveRequest;
+import world.trecord.dto.record.request.RecordSequenceReorderRequest;
 import world.trecord.dto.record.request.RecordSequenceSwapRequest;
 import world.trecord.dto.record.request.RecordUpdateRequest;
 import world.trecord.infra.fixture.CommentEntityFixture;
@@ -17,9 +20,11 @@ import world.trecord.infra.fixture.UserEntityFixture;
 import world.trecord.infra.fixture.UserRecordLikeFixture;
 import world.trecord.infra.support.WithTestUser;
 import world.trecord.infra.test.AbstractMockMvcTest;
+import world.trecord.service.record.RecordSequenceRebalancer;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.LongStream;
 
 import static org.springframework.http.HttpHeaders.AUTHORIZATION;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
@@ -293,6 +298,53 @@ class RecordControllerTest extends AbstractMockMvcTest {
                 .andExpect(jsonPath("$.code").value(FORBIDDEN.code()));
     }
 
+    @Test
+    @DisplayName("POST /api/v1/records/batch - 성공")
+    @WithTestUser("user@email.com")
+    void createRecordsTest() throws Exception {
+        //given
+        UserEntity writer = userRepository.findByEmail("user@email.com").get();
+        FeedEntity feedEntity = feedRepository.save(createFeed(writer, LocalDateTime.of(2021, 9, 30, 0, 0), LocalDateTime.of(2021, 10, 2, 0, 0)));
+
+        LocalDateTime date = LocalDateTime.of(2021, 10, 1, 0, 0);
+        RecordBatchCreateRequest request = RecordBatchCreateRequest.builder()
+                .records(List.of(buildBatchItem(feedEntity.getId(), date), buildBatchItem(feedEntity.getId(), date)))
+                .build();
+
+        //when //then
+        mockMvc.perform(
+                        post("/api/v1/records/batch")
+                                .contentType(APPLICATION_JSON)
+                                .content(body(request))
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.createdCount").value(2))
+                .andExpect(jsonPath("$.data.failedCount").value(0))
+                .andExpect(jsonPath("$.data.results[0].sequence").value(RecordSequenceRebalancer.SEQUENCE_GAP))
+                .andExpect(jsonPath("$.data.results[1].sequence").value(RecordSequenceRebalancer.SEQUENCE_GAP * 2));
+
+        Assertions.assertThat(recordRepository.findAll()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/records/batch - 실패 (빈 기록 목록)")
+    @WithTestUser
+    void createRecordsWithEmptyRecordsTest() throws Exception {
+        //given
+        RecordBatchCreateRequest request = RecordBatchCreateRequest.builder()
+                .records(List.of())
+                .build();
+
+        //when //then
+        mockMvc.perform(
+                        post("/api/v1/records/batch")
+                                .contentType(APPLICATION_JSON)
+                                .content(body(request))
+                )
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value(INVALID_ARGUMENT.code()));
+    }
+
     @Test
     @DisplayName("PUT /api/v1/records/{recordId} - 성공")
     @WithTestUser("user@email.com")
@@ -501,6 +553,129 @@ class RecordControllerTest extends AbstractMockMvcTest {
                 .andExpect(jsonPath("$.code").value(RECORD_NOT_FOUND.code()));
     }
 
+    @Test
+    @DisplayName("POST /api/v1/records/sequence/move - 성공")
+    @WithTestUser("user@email.com")
+    void moveRecordSequenceTest() throws Exception {
+        //given
+        UserEntity writer = userRepository.findByEmail("user@email.com").get();
+        FeedEntity feedEntity = feedRepository.save(createFeed(writer, LocalDateTime.of(2021, 9, 30, 0, 0), LocalDateTime.of(2021, 10, 2, 0, 0)));
+
+        RecordEntity recordEntity1 = recordRepository.save(createRecord(feedEntity.getUserEntity(), feedEntity, LocalDateTime.of(2021, 10, 1, 0, 0), 1024));
+        RecordEntity recordEntity2 = recordRepository.save(createRecord(feedEntity.getUserEntity(), feedEntity, LocalDateTime.of(2021, 10, 1, 0, 0), 2048));
+
+        RecordSequenceMoveRequest request = RecordSequenceMoveRequest.builder()
+                .recordId(recordEntity2.getId())
+                .position(1)
+                .build();
+
+        //when //then
+        mockMvc.perform(
+                        post("/api/v1/records/sequence/move")
+                                .contentType(APPLICATION_JSON)
+                                .content(body(request))
+                )
+                .andExpect(status().isOk());
+
+        Assertions.assertThat(recordRepository.findById(recordEntity2.getId()))
+                .isPresent()
+                .hasValueSatisfying(recordEntity -> {
+                    Assertions.assertThat(recordEntity.getSequence()).isLessThan(recordEntity1.getSequence());
+                });
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/records/sequence/move - 실패 (올바르지 않은 위치)")
+    @WithTestUser
+    void moveRecordSequenceWithInvalidPositionTest() throws Exception {
+        //given
+        RecordSequenceMoveRequest request = RecordSequenceMoveRequest.builder()
+                .recordId(1L)
+                .position(0)
+                .build();
+
+        //when //then
+        mockMvc.perform(
+                        post("/api/v1/records/sequence/move")
+                                .contentType(APPLICATION_JSON)
+                                .content(body(request))
+                )
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value(INVALID_ARGUMENT.code()));
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/records/sequence/reorder - 성공")
+    @WithTestUser("user@email.com")
+    void reorderRecordSequencesTest() throws Exception {
+        //given
+        UserEntity writer = userRepository.findByEmail("user@email.com").get();
+        FeedEntity feedEntity = feedRepository.save(createFeed(writer, LocalDateTime.of(2021, 9, 30, 0, 0), LocalDateTime.of(2021, 10, 2, 0, 0)));
+
+        LocalDateTime date = LocalDateTime.of(2021, 10, 1, 0, 0);
+        RecordEntity recordEntity1 = recordRepository.save(createRecord(feedEntity.getUserEntity(), feedEntity, date, 1));
+        RecordEntity recordEntity2 = recordRepository.save(createRecord(feedEntity.getUserEntity(), feedEntity, date, 2));
+
+        RecordSequenceReorderRequest request = RecordSequenceReorderRequest.builder()
+                .feedId(feedEntity.getId())
+                .date(date)
+                .recordIds(List.of(recordEntity2.getId(), recordEntity1.getId()))
+                .build();
+
+        //when //then
+        mockMvc.perform(
+                        post("/api/v1/records/sequence/reorder")
+                                .contentType(APPLICATION_JSON)
+                                .content(body(request))
+                )
+                .andExpect(status().isOk());
+
+        Assertions.assertThat(recordRepository.findById(recordEntity2.getId()).get().getSequence())
+                .isLessThan(recordRepository.findById(recordEntity1.getId()).get().getSequence());
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/records/sequence/reorder - 실패 (기록 아이디 목록이 비어 있는 경우)")
+    @WithTestUser
+    void reorderRecordSequencesWithEmptyRecordIdsTest() throws Exception {
+        //given
+        RecordSequenceReorderRequest request = RecordSequenceReorderRequest.builder()
+                .feedId(1L)
+                .date(LocalDateTime.of(2021, 10, 1, 0, 0))
+                .recordIds(List.of())
+                .build();
+
+        //when //then
+        mockMvc.perform(
+                        post("/api/v1/records/sequence/reorder")
+                                .contentType(APPLICATION_JSON)
+                                .content(body(request))
+                )
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value(INVALID_ARGUMENT.code()));
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/records/sequence/reorder - 실패 (기록 아이디가 500개를 넘는 경우)")
+    @WithTestUser
+    void reorderRecordSequencesWithTooManyRecordIdsTest() throws Exception {
+        //given
+        RecordSequenceReorderRequest request = RecordSequenceReorderRequest.builder()
+                .feedId(1L)
+                .date(LocalDateTime.of(2021, 10, 1, 0, 0))
+                .recordIds(LongStream.rangeClosed(1, 501).boxed().toList())
+                .build();
+
+        //when //then
+        mockMvc.perform(
+                        post("/api/v1/records/sequence/reorder")
+                                .contentType(APPLICATION_JSON)
+                                .content(body(request))
+                )
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value(INVALID_ARGUMENT.code()));
+    }
+
     @Test
     @DisplayName("PUT /api/v1/records - 실패 (올바르지 않은 요청 파라미터)")
     @WithTestUser
@@ -644,4 +819,19 @@ class RecordControllerTest extends AbstractMockMvcTest {
                 .sequence(sequence)
                 .build();
     }
-}
\ No newline at end of file
+
+    private RecordCreateRequest buildBatchItem(Long feedId, LocalDateTime date) {
+        return RecordCreateRequest.builder()
+                .feedId(feedId)
+                .title("title")
+                .date(date)
+                .place("jeju")
+                .longitude("longitude")
+                .latitude("latitude")
+                .feeling("feeling")
+                .weather("weather")
+                .transportation("best")
+                .content("content")
+                .build();
+    }
+}
@@ -0,0 +1,205 @@
+package world.trecord.domain;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import world.trecord.domain.feed.FeedEntity;
+import world.trecord.domain.notification.enumeration.NotificationType;
+import world.trecord.domain.record.RecordEntity;
+import world.trecord.domain.users.UserEntity;
+import world.trecord.infra.fixture.*;
+import world.trecord.infra.support.StatementCaptor;
+import world.trecord.infra.support.StatementCaptor.CapturedStatement;
+import world.trecord.infra.test.AbstractIntegrationTest;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static world.trecord.domain.notification.enumeration.NotificationStatus.READ;
+import static world.trecord.domain.notification.enumeration.NotificationStatus.UNREAD;
+
+/**
+ * Guards the soft-delete aware indexes: each test captures the SQL a repository method actually sends, including the
+ * deleted_date_time IS NULL predicate added by @Where and the endpoint's default sort, and EXPLAINs it with the same
+ * bind parameters. Several owners are seeded so that the target user's rows are a small share of each table.
+ */
+@Transactional
+class SoftDeleteIndexExplainTest extends AbstractIntegrationTest {
+
+    private static final StatementCaptor STATEMENT_CAPTOR = new StatementCaptor();
+    private static final int OWNER_COUNT = 8;
+    private static final int FEEDS_PER_OWNER = 2;
+    private static final int RECORDS_PER_FEED = 10;
+    private static final int NOTIFICATIONS_PER_OWNER = 6;
+    private static final PageRequest FIRST_PAGE = PageRequest.of(0, 20);
+
+    @TestConfiguration
+    static class StatementCaptorConfig {
+
+        @Bean
+        static BeanPostProcessor statementCaptorPostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? STATEMENT_CAPTOR.wrap(dataSource) : bean;
+                }
+            };
+        }
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UserEntity userEntity;
+    private FeedEntity feedEntity;
+    private RecordEntity recordEntity;
+
+    @BeforeEach
+    void seed() {
+        List<UserEntity> userEntities = new ArrayList<>();
+        for (int i = 0; i < OWNER_COUNT; i++) {
+            userEntities.add(UserEntityFixture.of());
+        }
+        userRepository.saveAll(userEntities);
+
+        for (UserEntity owner : userEntities) {
+            List<FeedEntity> feedEntities = new ArrayList<>();
+            for (int i = 0; i < FEEDS_PER_OWNER; i++) {
+                feedEntities.add(FeedEntityFixture.of(owner));
+            }
+            feedRepository.saveAll(feedEntities);
+            if (userEntity == null) {
+                userEntity = owner;
+                feedEntity = feedEntities.get(0);
+            }
+            for (FeedEntity feed : feedEntities) {
+                List<RecordEntity> recordEntities = new ArrayList<>();
+                for (int sequence = 1; sequence <= RECORDS_PER_FEED; sequence++) {
+                    recordEntities.add(RecordEntityFixture.of(owner, feed, sequence));
+                }
+                recordRepository.saveAll(recordEntities);
+                if (recordEntity == null) {
+                    recordEntity = recordEntities.get(0);
+                }
+                for (RecordEntity record : recordEntities) {
+                    commentRepository.save(CommentEntityFixture.of(owner, record));
+                    userRecordLikeRepository.save(UserRecordLikeFixture.of(owner, record));
+                }
+            }
+            for (UserEntity other : userEntities) {
+                if (!other.equals(owner)) {
+                    feedContributorRepository.save(FeedContributorFixture.of(other, feedEntities.get(0)));
+                }
+            }
+            for (int i = 0; i < NOTIFICATIONS_PER_OWNER; i++) {
+                notificationRepository.save(NotificationEntityFixture.of(owner, i % 3 == 0 ? READ : UNREAD));
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("피드의 기록 목록 조회는 idx_record_feed_date 인덱스를 사용한다")
+    void findRecordListByFeedEntityIdTest() throws Exception {
+        CapturedStatement statement = captureFirst(() -> recordRepository.findRecordListByFeedEntityId(feedEntity.getId(), FIRST_PAGE.withSort(Sort.Direction.DESC, "date")));
+
+        Assertions.assertThat(explainKeys(statement)).contains("idx_record_feed_date");
+    }
+
+    @Test
+    @DisplayName("날짜별 최대 순서 조회는 idx_record_feed_date 인덱스를 사용한다")
+    void findMaxSequenceByFeedEntityIdAndDateTest() throws Exception {
+        CapturedStatement statement = captureFirst(() -> recordRepository.findMaxSequenceByFeedEntityIdAndDate(feedEntity.getId(), recordEntity.getDate()));
+
+        Assertions.assertThat(explainKeys(statement)).contains("idx_record_feed_date");
+    }
+
+    @Test
+    @DisplayName("사용자의 피드 목록 조회는 idx_feed_users 인덱스를 사용한다")
+    void findByUserEntityIdTest() throws Exception {
+        CapturedStatement statement = captureFirst(() -> feedRepository.findByUserEntityId(userEntity.getId(), FIRST_PAGE.withSort(Sort.Direction.DESC, "startAt")));
+
+        Assertions.assertThat(explainKeys(statement)).contains("idx_feed_users");
+    }
+
+    @Test
+    @DisplayName("기록의 댓글 목록 조회는 idx_comment_record 인덱스를 사용한다")
+    void findWithCommenterAndRepliesByRecordIdTest() throws Exception {
+        CapturedStatement statement = captureFirst(() -> commentRepository.findWithCommenterAndRepliesByRecordId(recordEntity.getId(), FIRST_PAGE.withSort(Sort.Direction.ASC, "createdDateTime")));
+
+        Assertions.assertThat(explainKeys(statement)).contains("idx_comment_record");
+    }
+
+    @Test
+    @DisplayName("사용자의 댓글 목록 조회는 idx_comment_users 인덱스를 사용한다")
+    void findCommentsByUserIdTest() throws Exception {
+        CapturedStatement statement = captureFirst(() -> commentRepository.findByUserId(userEntity.getId(), FIRST_PAGE.withSort(Sort.Direction.DESC, "createdDateTime")));
+
+        Assertions.assertThat(explainKeys(statement)).contains("idx_comment_users");
+    }
+
+    @Test
+    @DisplayName("사용자의 좋아요 목록 조회는 idx_user_record_like_user 인덱스를 사용한다")
+    void findLikeRecordsByUserIdTest() throws Exception {
+        CapturedStatement statement = captureFirst(() -> userRecordLikeRepository.findLikeRecordsByUserId(userEntity.getId(), FIRST_PAGE.withSort(Sort.Direction.DESC, "createdDateTime")));
+
+        Assertions.assertThat(explainKeys(statement)).contains("idx_user_record_like_user");
+    }
+
+    @Test
+    @DisplayName("사용자의 참여 피드 목록 조회는 idx_contributor_users_created 인덱스를 사용한다")
+    void findWithFeedEntityByUserEntityIdTest() throws Exception {
+        CapturedStatement statement = captureFirst(() -> feedContributorRepository.findWithFeedEntityByUserEntityId(userEntity.getId(), FIRST_PAGE.withSort(Sort.Direction.DESC, "createdDateTime")));
+
+        Assertions.assertThat(explainKeys(statement)).contains("idx_contributor_users_created");
+    }
+
+    @Test
+    @DisplayName("사용자의 알림 목록 조회는 idx_notification_users_created 인덱스를 사용한다")
+    void findSliceByUserIdTest() throws Exception {
+        CapturedStatement statement = captureFirst(() -> notificationRepository.findSliceByUserId(userEntity.getId(), null, null, null, 20));
+
+        Assertions.assertThat(explainKeys(statement)).contains("idx_notification_users_created");
+    }
+
+    @Test
+    @DisplayName("사용자의 알림 페이지 조회는 idx_notification_users_created 인덱스를 사용한다")
+    void findNotificationsByUserIdTest() throws Exception {
+        CapturedStatement statement = captureFirst(() -> notificationRepository.findByUsersToEntityId(userEntity.getId(), FIRST_PAGE.withSort(Sort.Direction.DESC, "createdDateTime")));
+
+        Assertions.assertThat(explainKeys(statement)).contains("idx_notification_users_created");
+    }
+
+    @Test
+    @DisplayName("사용자의 타입별 알림 목록 조회는 idx_notification_users_type 인덱스를 사용한다")
+    void findNotificationsByUserIdAndTypeTest() throws Exception {
+        CapturedStatement statement = captureFirst(() -> notificationRepository.findByUsersToEntityIdAndType(userEntity.getId(), NotificationType.COMMENT, FIRST_PAGE.withSort(Sort.Direction.DESC, "createdDateTime")));
+
+        Assertions.assertThat(explainKeys(statement)).contains("idx_notification_users_type");
+    }
+
+    private CapturedStatement captureFirst(Runnable repositoryCall) {
+        List<CapturedStatement> statements = STATEMENT_CAPTOR.capture(repositoryCall);
+        Assertions.assertThat(statements).isNotEmpty();
+        return statements.get(0);
+    }
+
+    private List<String> explainKeys(CapturedStatement statement) {
+        return jdbcTemplate.queryForList("EXPLAIN " + statement.getSql(), statement.getParameters()).stream()
+                .map(row -> (String) row.get("key"))
+                .filter(Objects::nonNull)
+                .toList();
+    }
+}
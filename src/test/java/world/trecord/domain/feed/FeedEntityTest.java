@@ -43,6 +43,33 @@ class FeedEntityTest {
         Assertions.assertThat(convertedLocalDate).isEqualTo(endDate.toLocalDate());
     }
 
+    @Test
+    @DisplayName("날짜가 피드의 시작과 종료 사이에 있으면 기간 안에 있다")
+    void isWithinPeriodTest() throws Exception {
+        //given
+        FeedEntity feedEntity = FeedEntity.builder()
+                .startAt(LocalDateTime.of(2022, 3, 1, 0, 0))
+                .endAt(LocalDateTime.of(2022, 3, 10, 0, 0))
+                .build();
+
+        //when //then
+        Assertions.assertThat(feedEntity.isWithinPeriod(LocalDateTime.of(2022, 3, 1, 0, 0))).isTrue();
+        Assertions.assertThat(feedEntity.isWithinPeriod(LocalDateTime.of(2022, 3, 10, 0, 0))).isTrue();
+        Assertions.assertThat(feedEntity.isBeforeStart(LocalDateTime.of(2022, 2, 28, 0, 0))).isTrue();
+        Assertions.assertThat(feedEntity.isAfterEnd(LocalDateTime.of(2022, 3, 11, 0, 0))).isTrue();
+        Assertions.assertThat(feedEntity.isWithinPeriod(LocalDateTime.of(2022, 3, 11, 0, 0))).isFalse();
+    }
+
+    @Test
+    @DisplayName("시작과 종료 날짜가 없는 피드는 모든 날짜가 기간 안에 있다")
+    void isWithinPeriodWithoutPeriodTest() throws Exception {
+        //given
+        FeedEntity feedEntity = FeedEntity.builder().build();
+
+        //when //then
+        Assertions.assertThat(feedEntity.isWithinPeriod(LocalDateTime.of(2000, 1, 1, 0, 0))).isTrue();
+    }
+
     @Test
     @DisplayName("피드의 필드값을 수정하면 수정된 값을 가진다")
     void updateTest() throws Exception {
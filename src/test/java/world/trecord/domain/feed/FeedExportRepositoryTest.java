@@ -0,0 +1,56 @@
+package world.trecord.domain.feed;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+import world.trecord.domain.comment.CommentEntity;
+import world.trecord.domain.feed.projection.FeedExportRow;
+import world.trecord.domain.record.RecordEntity;
+import world.trecord.domain.users.UserEntity;
+import world.trecord.infra.fixture.*;
+import world.trecord.infra.test.AbstractIntegrationTest;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+@Transactional
+class FeedExportRepositoryTest extends AbstractIntegrationTest {
+
+    @Autowired
+    FeedExportRepository feedExportRepository;
+
+    @Test
+    @DisplayName("기록마다 내용과 좋아요 수를 한 번만 담은 행 다음에 댓글 행을 순서대로 반환한다")
+    void streamRecordsWithCommentsTest() throws Exception {
+        //given
+        UserEntity owner = userRepository.save(UserEntityFixture.of("test@email.com"));
+        UserEntity commenter = userRepository.save(UserEntityFixture.of("test1@email.com"));
+        FeedEntity feedEntity = feedRepository.save(FeedEntityFixture.of(owner));
+        RecordEntity recordEntity1 = recordRepository.save(RecordEntityFixture.of(owner, feedEntity, 1));
+        RecordEntity recordEntity2 = recordRepository.save(RecordEntityFixture.of(owner, feedEntity, 2));
+
+        CommentEntity comment1 = commentRepository.save(CommentEntityFixture.of(commenter, recordEntity1));
+        CommentEntity comment2 = commentRepository.save(CommentEntityFixture.of(owner, recordEntity1));
+        userRecordLikeRepository.save(UserRecordLikeFixture.of(commenter, recordEntity1));
+        userRecordLikeRepository.save(UserRecordLikeFixture.of(owner, recordEntity1));
+        entityManager.flush();
+
+        //when
+        List<FeedExportRow> rows;
+        try (Stream<FeedExportRow> stream = feedExportRepository.streamRecordsWithComments(feedEntity.getId(), 10)) {
+            rows = stream.toList();
+        }
+
+        //then
+        Assertions.assertThat(rows)
+                .extracting(FeedExportRow::recordId, FeedExportRow::content, FeedExportRow::likeCount, FeedExportRow::commentId)
+                .containsExactly(
+                        Assertions.tuple(recordEntity1.getId(), "content", 2L, null),
+                        Assertions.tuple(recordEntity1.getId(), null, 0L, comment1.getId()),
+                        Assertions.tuple(recordEntity1.getId(), null, 0L, comment2.getId()),
+                        Assertions.tuple(recordEntity2.getId(), "content", 0L, null)
+                );
+    }
+}
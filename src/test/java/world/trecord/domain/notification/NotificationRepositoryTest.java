@@ -17,6 +17,8 @@ import world.trecord.infra.fixture.RecordEntityFixture;
 import world.trecord.infra.fixture.UserEntityFixture;
 import world.trecord.infra.test.AbstractIntegrationTest;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Optional;
 
@@ -230,6 +232,160 @@ class NotificationRepositoryTest extends AbstractIntegrationTest {
                 );
     }
 
+    @Test
+    @DisplayName("알림을 저장하면 args의 기록, 피드 아이디를 인덱스 컬럼에 함께 저장한다")
+    void saveCopiesArgsIdsToColumnsTest() throws Exception {
+        //given
+        UserEntity userEntity = userRepository.save(UserEntityFixture.of());
+        FeedEntity feedEntity = feedRepository.save(FeedEntityFixture.of(userEntity));
+        RecordEntity recordEntity = recordRepository.save(RecordEntityFixture.of(feedEntity));
+
+        //when
+        NotificationEntity savedEntity = notificationRepository.save(createNotification(userEntity, feedEntity, recordEntity, RECORD_LIKE, UNREAD));
+        List<Long> insertedIds = notificationRepository.insertAll(List.of(createNotification(userEntity, feedEntity, recordEntity, COMMENT, UNREAD)));
+        entityManager.clear();
+
+        //then
+        Assertions.assertThat(notificationRepository.findAllById(List.of(savedEntity.getId(), insertedIds.get(0))))
+                .extracting("recordId", "feedId", "commentId")
+                .containsOnly(Assertions.tuple(recordEntity.getId(), feedEntity.getId(), null));
+    }
+
+    @Test
+    @DisplayName("여러 알림을 한 번의 INSERT로 저장하고 저장 순서대로 아이디를 반환한다")
+    void insertAllTest() throws Exception {
+        //given
+        UserEntity userEntity = userRepository.save(UserEntityFixture.of());
+        FeedEntity feedEntity = feedRepository.save(FeedEntityFixture.of(userEntity));
+        RecordEntity recordEntity = recordRepository.save(RecordEntityFixture.of(feedEntity));
+
+        NotificationEntity notificationEntity1 = createNotification(userEntity, feedEntity, recordEntity, COMMENT, UNREAD);
+        NotificationEntity notificationEntity2 = createNotification(userEntity, feedEntity, recordEntity, RECORD_LIKE, UNREAD);
+        NotificationEntity notificationEntity3 = createNotification(userEntity, null, null, RECORD_LIKE, READ);
+
+        //when
+        List<Long> notificationIds = notificationRepository.insertAll(List.of(notificationEntity1, notificationEntity2, notificationEntity3));
+
+        //then
+        Assertions.assertThat(notificationIds).hasSize(3);
+        Assertions.assertThat(notificationRepository.findAllById(notificationIds))
+                .extracting("type", "status", "args.record.id")
+                .containsExactlyInAnyOrder(
+                        Assertions.tuple(COMMENT, UNREAD, recordEntity.getId()),
+                        Assertions.tuple(RECORD_LIKE, UNREAD, recordEntity.getId()),
+                        Assertions.tuple(RECORD_LIKE, READ, null)
+                );
+    }
+
+    @Test
+    @DisplayName("한 번의 INSERT로 저장한 알림 인자는 엔티티로 저장한 알림 인자와 같은 JSON으로 저장된다")
+    void insertAllWritesSameArgsJsonAsEntityMappingTest() throws Exception {
+        //given
+        UserEntity userEntity = userRepository.save(UserEntityFixture.of());
+        FeedEntity feedEntity = feedRepository.save(FeedEntityFixture.of(userEntity));
+        RecordEntity recordEntity = recordRepository.save(RecordEntityFixture.of(feedEntity));
+
+        //when
+        NotificationEntity savedEntity = notificationRepository.saveAndFlush(createNotification(userEntity, feedEntity, recordEntity, COMMENT, UNREAD));
+        List<Long> insertedIds = notificationRepository.insertAll(List.of(createNotification(userEntity, feedEntity, recordEntity, COMMENT, UNREAD)));
+
+        //then
+        Assertions.assertThat(selectArgs(insertedIds.get(0))).isEqualTo(selectArgs(savedEntity.getId()));
+    }
+
+    @Test
+    @DisplayName("한 번의 INSERT로 저장한 알림의 생성 시간은 애플리케이션 시간으로 저장된다")
+    void insertAllUsesApplicationClockTest() throws Exception {
+        //given
+        UserEntity userEntity = userRepository.save(UserEntityFixture.of());
+        LocalDateTime before = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+
+        //when
+        List<Long> insertedIds = notificationRepository.insertAll(List.of(createNotification(userEntity, null, null, COMMENT, UNREAD)));
+        LocalDateTime after = LocalDateTime.now();
+
+        //then
+        Assertions.assertThat(notificationRepository.findById(insertedIds.get(0)))
+                .get()
+                .extracting(NotificationEntity::getCreatedDateTime)
+                .satisfies(createdDateTime -> Assertions.assertThat(createdDateTime).isBetween(before, after));
+    }
+
+    @Test
+    @DisplayName("저장할 알림이 없으면 빈 아이디 리스트를 반환한다")
+    void insertAllWithEmptyListTest() throws Exception {
+        //when
+        List<Long> notificationIds = notificationRepository.insertAll(List.of());
+
+        //then
+        Assertions.assertThat(notificationIds).isEmpty();
+    }
+
+    @Test
+    @DisplayName("집계된 알림은 마지막으로 보낸 사용자가 아니어도 집계된 사용자에 포함되면 최근 알림으로 센다")
+    void countRecentByRecordAndUserFromWithAggregatedNotificationTest() throws Exception {
+        //given
+        UserEntity userTo = userRepository.save(UserEntityFixture.of());
+        UserEntity liker1 = userRepository.save(UserEntityFixture.of());
+        UserEntity liker2 = userRepository.save(UserEntityFixture.of());
+        FeedEntity feedEntity = feedRepository.save(FeedEntityFixture.of(userTo));
+        RecordEntity recordEntity = recordRepository.save(RecordEntityFixture.of(feedEntity));
+
+        NotificationArgs args = NotificationArgs.builder().userFromEntity(liker1).recordEntity(recordEntity).build()
+                .merge(NotificationArgs.builder().userFromEntity(liker2).recordEntity(recordEntity).build(), 5);
+
+        notificationRepository.saveAndFlush(NotificationEntity.builder()
+                .usersToEntity(userTo)
+                .args(args)
+                .type(RECORD_LIKE)
+                .status(UNREAD)
+                .aggregateKey("aggregate-key")
+                .build());
+
+        //when
+        long count = notificationRepository.countRecentByRecordAndUserFrom(userTo.getId(), RECORD_LIKE.name(), recordEntity.getId(), liker1.getId(), LocalDateTime.now().minusHours(1));
+
+        //then
+        Assertions.assertThat(count).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("취소할 최근 알림으로 보낸 사용자가 포함된 집계 알림을 조회한다")
+    void findRecentByRecordAndUserFromForUpdateTest() throws Exception {
+        //given
+        UserEntity userTo = userRepository.save(UserEntityFixture.of());
+        UserEntity liker1 = userRepository.save(UserEntityFixture.of());
+        UserEntity liker2 = userRepository.save(UserEntityFixture.of());
+        UserEntity liker3 = userRepository.save(UserEntityFixture.of());
+        FeedEntity feedEntity = feedRepository.save(FeedEntityFixture.of(userTo));
+        RecordEntity recordEntity = recordRepository.save(RecordEntityFixture.of(feedEntity));
+
+        NotificationArgs args = NotificationArgs.builder().userFromEntity(liker1).recordEntity(recordEntity).build()
+                .merge(NotificationArgs.builder().userFromEntity(liker2).recordEntity(recordEntity).build(), 5);
+
+        NotificationEntity aggregated = notificationRepository.saveAndFlush(NotificationEntity.builder()
+                .usersToEntity(userTo)
+                .args(args)
+                .type(RECORD_LIKE)
+                .status(UNREAD)
+                .aggregateKey("aggregate-key")
+                .build());
+
+        //when
+        List<NotificationEntity> byAggregatedActor = notificationRepository.findRecentByRecordAndUserFromForUpdate(userTo.getId(), RECORD_LIKE.name(), recordEntity.getId(), liker1.getId(), LocalDateTime.now().minusHours(1));
+        List<NotificationEntity> byOtherUser = notificationRepository.findRecentByRecordAndUserFromForUpdate(userTo.getId(), RECORD_LIKE.name(), recordEntity.getId(), liker3.getId(), LocalDateTime.now().minusHours(1));
+
+        //then
+        Assertions.assertThat(byAggregatedActor).extracting("id").containsExactly(aggregated.getId());
+        Assertions.assertThat(byOtherUser).isEmpty();
+    }
+
+    private Object selectArgs(Long notificationId) {
+        return entityManager.createNativeQuery("SELECT args FROM notification WHERE id_notification = ?1")
+                .setParameter(1, notificationId)
+                .getSingleResult();
+    }
+
     private NotificationEntity createNotification(UserEntity userEntity, FeedEntity feedEntity, RecordEntity recordEntity, NotificationType type, NotificationStatus status) {
         NotificationArgs args = NotificationArgs.builder()
                 .feedEntity(feedEntity)
@@ -71,4 +71,35 @@ class NotificationTypeTest extends AbstractMockTest {
         Assertions.assertThat(content).isEqualTo(expectedNickname + "님이 회원님의 기록을 좋아합니다.");
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("type이 RECORD_LIKE이고 집계된 알림이면 마지막 사용자와 나머지 사용자 수를 포함한 메시지를 반환한다")
+    void getContentWhenTypeIsAggregatedRecordLike() {
+        //given
+        String expectedNickname = "user nickname";
+
+        UserEntity userFromEntity = UserEntity.builder()
+                .nickname(expectedNickname)
+                .build();
+
+        NotificationArgs mockArgs = NotificationArgs.builder()
+                .userFromEntity(userFromEntity)
+                .build();
+        mockArgs.setCount(13);
+
+        when(mockNotificationEntity.getArgs()).thenReturn(mockArgs);
+
+        //when
+        String content = RECORD_LIKE.getContent(mockNotificationEntity);
+
+        //then
+        Assertions.assertThat(content).isEqualTo(expectedNickname + "님 외 12명이 회원님의 기록을 좋아합니다.");
+    }
+
+    @Test
+    @DisplayName("RECORD_LIKE만 집계 알림 타입이다")
+    void isAggregatedTest() {
+        //when //then
+        Assertions.assertThat(RECORD_LIKE.isAggregated()).isTrue();
+        Assertions.assertThat(COMMENT.isAggregated()).isFalse();
+    }
+}
@@ -15,6 +15,7 @@ import world.trecord.infra.fixture.UserEntityFixture;
 import world.trecord.infra.test.AbstractIntegrationTest;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Optional;
 
@@ -174,4 +175,23 @@ class RecordRepositoryTest extends AbstractIntegrationTest {
         //then
         Assertions.assertThat(recordRepository.findAll()).isEmpty();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("여러 기록을 한 번에 저장하면 생성 시간은 애플리케이션 시간으로 저장된다")
+    void insertAllUsesApplicationClockTest() throws Exception {
+        //given
+        UserEntity userEntity = userRepository.save(UserEntityFixture.of());
+        FeedEntity feedEntity = feedRepository.save(FeedEntityFixture.of(userEntity));
+        LocalDateTime before = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+
+        //when
+        List<Long> recordIds = recordRepository.insertAll(List.of(RecordEntityFixture.of(userEntity, feedEntity, 1), RecordEntityFixture.of(userEntity, feedEntity, 2)));
+        LocalDateTime after = LocalDateTime.now();
+
+        //then
+        Assertions.assertThat(recordRepository.findAllById(recordIds))
+                .extracting(RecordEntity::getCreatedDateTime)
+                .hasSize(2)
+                .allSatisfy(createdDateTime -> Assertions.assertThat(createdDateTime).isBetween(before, after));
+    }
+}
@@ -5,13 +5,11 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import world.trecord.domain.notification.NotificationEntity;
 import world.trecord.domain.notification.args.NotificationArgs;
 import world.trecord.domain.notification.enumeration.NotificationType;
-import world.trecord.event.sse.SseEmitterEvent;
-import world.trecord.event.sse.SseEmitterService;
 import world.trecord.infra.test.AbstractMockTest;
-import world.trecord.service.notification.NotificationService;
+import world.trecord.service.notification.NotificationCoalescer;
+import world.trecord.service.notification.NotificationOutboxService;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -22,69 +20,73 @@ class NotificationEventListenerTest extends AbstractMockTest {
     NotificationEventListener notificationEventListener;
 
     @Mock
-    NotificationService notificationService;
+    NotificationOutboxService notificationOutboxService;
 
     @Mock
-    SseEmitterService sseEmitterService;
+    NotificationCoalescer notificationCoalescer;
 
     @Test
-    @DisplayName("userToId와 userFromId가 동일하면 이벤트를 전송하지 않는다")
-    void handleNotificationEventListener_whenUserToIdAndUserFromIdEqual_doNotSendEvent() throws Exception {
+    @DisplayName("userToId와 userFromId가 동일하면 아웃박스에 저장하지 않는다")
+    void handleNotificationEventListener_whenUserToIdAndUserFromIdEqual_doNotAppendOutbox() throws Exception {
         //given
-        Long userToId = 1L;
-        Long userFromId = 1L;
-
-        NotificationEvent notificationEvent = new NotificationEvent(userToId, userFromId, null, null);
+        NotificationEvent notificationEvent = new NotificationEvent(1L, 1L, null, null);
 
         //when
         notificationEventListener.handleNotificationEventListener(notificationEvent);
 
         //then
-        verify(notificationService, never()).createNotification(any(), any(), any());
+        verify(notificationOutboxService, never()).append(any());
     }
 
     @Test
-    @DisplayName("userToId와 userFromId가 다르면 NotificationEntity를 생성하고 이벤트를 전송한다")
-    void handleNotificationEventListener_whenUserToIdAndUserFromIdDiffer_sendEvent() {
+    @DisplayName("userToId와 userFromId가 다르면 아웃박스에 이벤트를 저장한다")
+    void handleNotificationEventListener_whenUserToIdAndUserFromIdDiffer_appendOutbox() throws Exception {
         //given
-        Long userToId = 1L;
-        Long userFromId = 2L;
-        NotificationType type = mock(NotificationType.class);
-        NotificationArgs args = mock(NotificationArgs.class);
-
-        NotificationEntity mockNotificationEntity = mock(NotificationEntity.class);
-        when(notificationService.createNotification(userToId, type, args)).thenReturn(mockNotificationEntity);
-
-        NotificationEvent notificationEvent = new NotificationEvent(userToId, userFromId, type, args);
+        NotificationEvent notificationEvent = new NotificationEvent(1L, 2L, mock(NotificationType.class), mock(NotificationArgs.class));
 
         //when
         notificationEventListener.handleNotificationEventListener(notificationEvent);
 
         //then
-        verify(notificationService, times(1)).createNotification(userToId, type, args);
-        verify(sseEmitterService, times(1)).send(any(), any(), any(SseEmitterEvent.class));
+        verify(notificationOutboxService, times(1)).append(notificationEvent);
     }
 
     @Test
-    @DisplayName("NotificationService에서 예외가 발생하면 이벤트를 전송하지 않는다")
-    void handleNotificationEventListener_whenExceptionInService_doNotSendEvent() {
+    @DisplayName("아웃박스 저장 중 예외가 발생하면 호출한 트랜잭션으로 예외를 전파한다")
+    void handleNotificationEventListener_whenExceptionInOutbox_propagateException() throws Exception {
         //given
-        Long userToId = 1L;
-        Long userFromId = 2L;
-        NotificationType type = mock(NotificationType.class);
-        NotificationArgs args = mock(NotificationArgs.class);
+        NotificationEvent notificationEvent = new NotificationEvent(1L, 2L, mock(NotificationType.class), mock(NotificationArgs.class));
+        doThrow(new RuntimeException("Test exception")).when(notificationOutboxService).append(notificationEvent);
 
-        when(notificationService.createNotification(userToId, type, args))
-                .thenThrow(new RuntimeException("Test exception"));
+        //when //then
+        Assertions.assertThatThrownBy(() -> notificationEventListener.handleNotificationEventListener(notificationEvent))
+                .isInstanceOf(RuntimeException.class);
+    }
 
-        NotificationEvent notificationEvent = new NotificationEvent(userToId, userFromId, type, args);
+    @Test
+    @DisplayName("중복된 알림 이벤트는 아웃박스에 저장하지 않는다")
+    void handleNotificationEventListener_whenDuplicate_doNotAppendOutbox() throws Exception {
+        //given
+        NotificationEvent notificationEvent = new NotificationEvent(1L, 2L, mock(NotificationType.class), mock(NotificationArgs.class));
+        when(notificationCoalescer.isDuplicate(notificationEvent)).thenReturn(true);
 
         //when
-        Assertions.assertThatThrownBy(() -> notificationEventListener.handleNotificationEventListener(notificationEvent))
-                .isInstanceOf(RuntimeException.class);
+        notificationEventListener.handleNotificationEventListener(notificationEvent);
 
-        verify(sseEmitterService, never()).send(anyLong(), anyLong(), any(SseEmitterEvent.class));
+        //then
+        verify(notificationOutboxService, never()).append(any());
     }
 
+    @Test
+    @DisplayName("알림 취소 이벤트를 받으면 대기 중인 알림을 취소한다")
+    void handleNotificationCancelEventListenerTest() throws Exception {
+        //given
+        NotificationEvent notificationEvent = new NotificationEvent(1L, 2L, mock(NotificationType.class), mock(NotificationArgs.class));
 
-}
\ No newline at end of file
+        //when
+        notificationEventListener.handleNotificationCancelEventListener(new NotificationCancelEvent(notificationEvent));
+
+        //then
+        verify(notificationCoalescer, times(1)).cancel(notificationEvent);
+    }
+}
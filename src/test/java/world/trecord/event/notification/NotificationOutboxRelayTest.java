@@ -0,0 +1,95 @@
+package world.trecord.event.notification;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import world.trecord.config.properties.NotificationProperties;
+import world.trecord.domain.notification.NotificationEntity;
+import world.trecord.domain.notification.args.NotificationArgs;
+import world.trecord.domain.users.UserEntity;
+import world.trecord.event.sse.SseEmitterEvent;
+import world.trecord.event.sse.SseEventBroker;
+import world.trecord.infra.test.AbstractMockTest;
+import world.trecord.service.notification.NotificationOutboxService;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class NotificationOutboxRelayTest extends AbstractMockTest {
+
+    @Mock
+    NotificationOutboxService notificationOutboxService;
+
+    @Mock
+    SseEventBroker sseEventBroker;
+
+    NotificationProperties notificationProperties;
+
+    NotificationOutboxRelay notificationOutboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        notificationProperties = new NotificationProperties();
+        notificationProperties.getOutbox().setBatchSize(2);
+        notificationProperties.getOutbox().setMaxBatchesPerPoll(3);
+        notificationOutboxRelay = new NotificationOutboxRelay(notificationOutboxService, sseEventBroker, notificationProperties);
+    }
+
+    @Test
+    @DisplayName("아웃박스가 비어 있으면 이벤트를 전송하지 않는다")
+    void relayWhenOutboxIsEmptyTest() throws Exception {
+        //given
+        when(notificationOutboxService.processBatch(2)).thenReturn(List.of());
+
+        //when
+        notificationOutboxRelay.relay();
+
+        //then
+        verify(notificationOutboxService, times(1)).processBatch(2);
+        verifyNoInteractions(sseEventBroker);
+    }
+
+    @Test
+    @DisplayName("처리한 알림마다 SSE 이벤트를 전송하고 한 번의 폴링에서 최대 배치 수까지만 처리한다")
+    void relayPublishesEachNotificationTest() throws Exception {
+        //given
+        when(notificationOutboxService.processBatch(2)).thenReturn(List.of(mockNotification(1L, 10L), mockNotification(2L, 20L)));
+
+        //when
+        notificationOutboxRelay.relay();
+
+        //then
+        verify(notificationOutboxService, times(3)).processBatch(2);
+        verify(sseEventBroker, times(3)).publish(eq(10L), eq(1L), any(SseEmitterEvent.class));
+        verify(sseEventBroker, times(3)).publish(eq(20L), eq(2L), any(SseEmitterEvent.class));
+    }
+
+    @Test
+    @DisplayName("SSE 전송에 실패해도 나머지 알림은 계속 전송한다")
+    void relayContinuesWhenPublishFailsTest() throws Exception {
+        //given
+        when(notificationOutboxService.processBatch(2))
+                .thenReturn(List.of(mockNotification(1L, 10L), mockNotification(2L, 20L)))
+                .thenReturn(List.of());
+        doThrow(new RuntimeException("Test exception")).when(sseEventBroker).publish(eq(10L), eq(1L), any(SseEmitterEvent.class));
+
+        //when
+        notificationOutboxRelay.relay();
+
+        //then
+        verify(sseEventBroker, times(1)).publish(eq(20L), eq(2L), any(SseEmitterEvent.class));
+    }
+
+    private NotificationEntity mockNotification(Long notificationId, Long userToId) {
+        UserEntity userEntity = mock(UserEntity.class);
+        lenient().when(userEntity.getId()).thenReturn(userToId);
+        NotificationEntity notificationEntity = mock(NotificationEntity.class);
+        lenient().when(notificationEntity.getId()).thenReturn(notificationId);
+        lenient().when(notificationEntity.getUsersToEntity()).thenReturn(userEntity);
+        lenient().when(notificationEntity.getArgs()).thenReturn(new NotificationArgs());
+        return notificationEntity;
+    }
+}
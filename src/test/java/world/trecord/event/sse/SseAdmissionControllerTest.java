@@ -0,0 +1,126 @@
+package world.trecord.event.sse;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import world.trecord.config.properties.SseProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static world.trecord.event.sse.SseAdmissionController.Result.*;
+
+class SseAdmissionControllerTest {
+
+    @Test
+    @DisplayName("최대 연결 수에 도달하면 CONNECTION_LIMIT으로 거절한다")
+    void tryAcquireRejectsWhenConnectionLimitReachedTest() throws Exception {
+        //given
+        SseProperties sseProperties = new SseProperties();
+        sseProperties.getAdmission().setMaxConnections(2);
+        SseAdmissionController admissionController = new SseAdmissionController(sseProperties, () -> 1.0, () -> 0.0);
+
+        //when
+        List<SseAdmissionController.Result> results = List.of(admissionController.tryAcquire(), admissionController.tryAcquire(), admissionController.tryAcquire());
+
+        //then
+        Assertions.assertThat(results).containsExactly(ADMITTED, ADMITTED, CONNECTION_LIMIT);
+        Assertions.assertThat(admissionController.getCurrentConnections()).isEqualTo(2);
+        Assertions.assertThat(admissionController.getRejectedConnections(CONNECTION_LIMIT)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("연결을 해제하면 다시 연결을 허용한다")
+    void releaseAllowsNewConnectionTest() throws Exception {
+        //given
+        SseProperties sseProperties = new SseProperties();
+        sseProperties.getAdmission().setMaxConnections(1);
+        SseAdmissionController admissionController = new SseAdmissionController(sseProperties, () -> 1.0, () -> 0.0);
+        admissionController.tryAcquire();
+
+        //when
+        admissionController.release();
+
+        //then
+        Assertions.assertThat(admissionController.tryAcquire()).isEqualTo(ADMITTED);
+    }
+
+    @Test
+    @DisplayName("여유 힙 비율이 기준보다 낮으면 HEAP으로 거절한다")
+    void tryAcquireRejectsWhenHeapIsLowTest() throws Exception {
+        //given
+        SseProperties sseProperties = new SseProperties();
+        sseProperties.getAdmission().setMinFreeHeapRatio(0.2);
+        SseAdmissionController admissionController = new SseAdmissionController(sseProperties, () -> 0.1, () -> 0.0);
+
+        //when
+        SseAdmissionController.Result result = admissionController.tryAcquire();
+
+        //then
+        Assertions.assertThat(result).isEqualTo(HEAP);
+        Assertions.assertThat(admissionController.getCurrentConnections()).isZero();
+    }
+
+    @Test
+    @DisplayName("파일 디스크립터 사용률이 기준보다 높으면 FILE_DESCRIPTORS로 거절한다")
+    void tryAcquireRejectsWhenFileDescriptorsAreExhaustedTest() throws Exception {
+        //given
+        SseProperties sseProperties = new SseProperties();
+        sseProperties.getAdmission().setMaxFileDescriptorUsageRatio(0.8);
+        SseAdmissionController admissionController = new SseAdmissionController(sseProperties, () -> 1.0, () -> 0.95);
+
+        //when
+        SseAdmissionController.Result result = admissionController.tryAcquire();
+
+        //then
+        Assertions.assertThat(result).isEqualTo(FILE_DESCRIPTORS);
+        Assertions.assertThat(admissionController.getRejectedConnections(FILE_DESCRIPTORS)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("동시에 연결을 요청해도 최대 연결 수를 넘지 않는다")
+    void tryAcquireConcurrentlyTest() throws Exception {
+        //given
+        int maxConnections = 50;
+        SseProperties sseProperties = new SseProperties();
+        sseProperties.getAdmission().setMaxConnections(maxConnections);
+        SseAdmissionController admissionController = new SseAdmissionController(sseProperties, () -> 1.0, () -> 0.0);
+        ExecutorService executorService = Executors.newFixedThreadPool(16);
+
+        //when
+        List<Future<SseAdmissionController.Result>> futures = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            futures.add(executorService.submit(admissionController::tryAcquire));
+        }
+        long admitted = 0;
+        for (Future<SseAdmissionController.Result> future : futures) {
+            if (future.get() == ADMITTED) {
+                admitted++;
+            }
+        }
+        executorService.shutdown();
+
+        //then
+        Assertions.assertThat(admitted).isEqualTo(maxConnections);
+        Assertions.assertThat(admissionController.getCurrentConnections()).isEqualTo(maxConnections);
+    }
+
+    @Test
+    @DisplayName("Retry-After 값은 기본값과 jitter 범위 안에서 결정된다")
+    void retryAfterSecondsTest() throws Exception {
+        //given
+        SseProperties sseProperties = new SseProperties();
+        sseProperties.getAdmission().setRetryAfterSeconds(5);
+        sseProperties.getAdmission().setRetryAfterJitterSeconds(3);
+        SseAdmissionController admissionController = new SseAdmissionController(sseProperties, () -> 1.0, () -> 0.0);
+
+        //when
+        int retryAfterSeconds = admissionController.retryAfterSeconds();
+
+        //then
+        Assertions.assertThat(retryAfterSeconds).isBetween(5, 8);
+    }
+}
@@ -0,0 +1,164 @@
+package world.trecord.event.sse;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import world.trecord.config.properties.SseProperties;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class SseEmitterDispatcherTest {
+
+    @Test
+    @DisplayName("큐에 넣은 이벤트를 writer가 emitter로 전송한다")
+    void dispatchTest() throws Exception {
+        //given
+        SseEmitterDispatcher dispatcher = new SseEmitterDispatcher(new SseProperties(), Runnable::run);
+        SseEmitter emitter = mock(SseEmitter.class);
+        dispatcher.register(emitter, ex -> {
+        });
+
+        //when
+        boolean queued = dispatcher.dispatch(emitter, SseEmitter.event().comment("ping"));
+
+        //then
+        Assertions.assertThat(queued).isTrue();
+        Assertions.assertThat(dispatcher.getQueuedEvents()).isZero();
+        verify(emitter).send(any(SseEmitter.SseEventBuilder.class));
+    }
+
+    @Test
+    @DisplayName("DROP_OLDEST 정책에서 큐가 가득 차면 가장 오래된 이벤트를 버린다")
+    void dispatchWhenQueueFullDropOldestTest() throws Exception {
+        //given
+        List<Runnable> pendingTasks = new ArrayList<>();
+        SseProperties sseProperties = new SseProperties();
+        sseProperties.getOutbound().setQueueCapacity(2);
+        SseEmitterDispatcher dispatcher = new SseEmitterDispatcher(sseProperties, pendingTasks::add);
+        SseEmitter emitter = mock(SseEmitter.class);
+        dispatcher.register(emitter, ex -> {
+        });
+
+        //when
+        dispatcher.dispatch(emitter, SseEmitter.event().id("1"));
+        dispatcher.dispatch(emitter, SseEmitter.event().id("2"));
+        dispatcher.dispatch(emitter, SseEmitter.event().id("3"));
+
+        //then
+        Assertions.assertThat(dispatcher.getQueuedEvents()).isEqualTo(2);
+        Assertions.assertThat(dispatcher.getDroppedEvents()).isEqualTo(1);
+        Assertions.assertThat(pendingTasks).hasSize(1);
+
+        pendingTasks.get(0).run();
+        verify(emitter, times(2)).send(any(SseEmitter.SseEventBuilder.class));
+        Assertions.assertThat(dispatcher.getQueuedEvents()).isZero();
+    }
+
+    @Test
+    @DisplayName("DISCONNECT 정책에서 큐가 가득 차면 연결을 끊는다")
+    void dispatchWhenQueueFullDisconnectTest() throws Exception {
+        //given
+        SseProperties sseProperties = new SseProperties();
+        sseProperties.getOutbound().setQueueCapacity(1);
+        sseProperties.getOutbound().setOverflowPolicy(SseOverflowPolicy.DISCONNECT);
+        SseEmitterDispatcher dispatcher = new SseEmitterDispatcher(sseProperties, task -> {
+        });
+        SseEmitter emitter = mock(SseEmitter.class);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        dispatcher.register(emitter, failure::set);
+
+        //when
+        dispatcher.dispatch(emitter, SseEmitter.event().id("1"));
+        boolean queued = dispatcher.dispatch(emitter, SseEmitter.event().id("2"));
+
+        //then
+        Assertions.assertThat(queued).isFalse();
+        Assertions.assertThat(failure.get()).isInstanceOf(IllegalStateException.class);
+        Assertions.assertThat(dispatcher.getOverflowDisconnects()).isEqualTo(1);
+        Assertions.assertThat(dispatcher.getQueuedEvents()).isZero();
+    }
+
+    @Test
+    @DisplayName("전송에 실패하면 실패 핸들러를 한 번만 호출한다")
+    void dispatchWhenWriteFailsTest() throws Exception {
+        //given
+        SseEmitterDispatcher dispatcher = new SseEmitterDispatcher(new SseProperties(), Runnable::run);
+        SseEmitter emitter = mock(SseEmitter.class);
+        doThrow(new IOException("Broken pipe")).when(emitter).send(any(SseEmitter.SseEventBuilder.class));
+        List<Throwable> failures = new ArrayList<>();
+        dispatcher.register(emitter, failures::add);
+
+        //when
+        dispatcher.dispatch(emitter, SseEmitter.event().id("1"));
+
+        //then
+        Assertions.assertThat(failures).hasSize(1).first().isInstanceOf(IOException.class);
+    }
+
+    @Test
+    @DisplayName("등록되지 않았거나 이미 실패한 emitter로의 전송은 건너뛰고 큐를 다시 만들지 않는다")
+    void dispatchToUnknownEmitterTest() throws Exception {
+        //given
+        SseEmitterDispatcher dispatcher = new SseEmitterDispatcher(new SseProperties(), Runnable::run);
+        SseEmitter failedEmitter = mock(SseEmitter.class);
+        doThrow(new IOException("Broken pipe")).when(failedEmitter).send(any(SseEmitter.SseEventBuilder.class));
+        dispatcher.register(failedEmitter, ex -> {
+        });
+        dispatcher.dispatch(failedEmitter, SseEmitter.event().id("1"));
+        SseEmitter unknownEmitter = mock(SseEmitter.class);
+
+        //when
+        boolean queuedToFailed = dispatcher.dispatch(failedEmitter, SseEmitter.event().comment("heartbeat"));
+        boolean queuedToUnknown = dispatcher.dispatch(unknownEmitter, SseEmitter.event().comment("heartbeat"));
+
+        //then
+        Assertions.assertThat(queuedToFailed).isFalse();
+        Assertions.assertThat(queuedToUnknown).isFalse();
+        verify(failedEmitter, times(1)).send(any(SseEmitter.SseEventBuilder.class));
+        verify(unknownEmitter, never()).send(any(SseEmitter.SseEventBuilder.class));
+    }
+
+    @Test
+    @DisplayName("쓰기가 write timeout보다 오래 막히면 해당 emitter를 실패 처리한다")
+    void expireStalledWritesTest() throws Exception {
+        //given
+        SseProperties sseProperties = new SseProperties();
+        sseProperties.getOutbound().setWriteTimeout(Duration.ofMillis(50));
+        ExecutorService writerExecutor = Executors.newSingleThreadExecutor();
+        SseEmitterDispatcher dispatcher = new SseEmitterDispatcher(sseProperties, writerExecutor);
+        CountDownLatch writeStarted = new CountDownLatch(1);
+        CountDownLatch releaseWrite = new CountDownLatch(1);
+        SseEmitter stalledEmitter = mock(SseEmitter.class);
+        doAnswer(invocation -> {
+            writeStarted.countDown();
+            releaseWrite.await();
+            return null;
+        }).when(stalledEmitter).send(any(SseEmitter.SseEventBuilder.class));
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        dispatcher.register(stalledEmitter, failure::set);
+        dispatcher.dispatch(stalledEmitter, SseEmitter.event().id("1"));
+        writeStarted.await(1, TimeUnit.SECONDS);
+        Thread.sleep(100);
+
+        //when
+        int expired = dispatcher.expireStalledWrites();
+
+        //then
+        Assertions.assertThat(expired).isEqualTo(1);
+        Assertions.assertThat(failure.get()).isInstanceOf(TimeoutException.class);
+        Assertions.assertThat(dispatcher.getWriteTimeouts()).isEqualTo(1);
+        Assertions.assertThat(dispatcher.dispatch(stalledEmitter, SseEmitter.event().id("2"))).isFalse();
+
+        releaseWrite.countDown();
+        writerExecutor.shutdown();
+    }
+}
@@ -4,38 +4,97 @@ import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import world.trecord.config.properties.SseProperties;
 import world.trecord.infra.test.AbstractIntegrationTest;
 
 class SseEmitterRepositoryTest extends AbstractIntegrationTest {
 
     @Test
-    @DisplayName("유저 아이디를 key로 emitter를 저장한다")
+    @DisplayName("유저 아이디와 emitter 아이디를 key로 emitter를 저장한다")
     void saveTest() throws Exception {
         //given
         Long userId = 1L;
         SseEmitter sseEmitter = new SseEmitter();
 
         //when
-        sseEmitterRepository.save(userId, sseEmitter);
+        sseEmitterRepository.save(userId, "emitter", sseEmitter);
 
         //then
-        Assertions.assertThat(sseEmitterRepository.findByUserId(userId)).isPresent();
+        Assertions.assertThat(sseEmitterRepository.findAllByUserId(userId)).containsEntry("emitter", sseEmitter);
+    }
+
+    @Test
+    @DisplayName("한 사용자가 여러 emitter를 저장하면 모두 유지된다")
+    void saveMultipleEmittersTest() throws Exception {
+        //given
+        Long userId = 2L;
+        SseEmitter firstEmitter = new SseEmitter();
+        SseEmitter secondEmitter = new SseEmitter();
+
+        //when
+        sseEmitterRepository.save(userId, "first", firstEmitter);
+        sseEmitterRepository.save(userId, "second", secondEmitter);
+
+        //then
+        Assertions.assertThat(sseEmitterRepository.findAllByUserId(userId))
+                .hasSize(2)
+                .containsEntry("first", firstEmitter)
+                .containsEntry("second", secondEmitter);
     }
 
     @Test
     @DisplayName("저장된 emitter를 삭제한다")
     void deleteTest() throws Exception {
         //given
-        Long userId = 1L;
+        Long userId = 3L;
         SseEmitter sseEmitter = new SseEmitter();
 
-        sseEmitterRepository.save(userId, sseEmitter);
+        sseEmitterRepository.save(userId, "emitter", sseEmitter);
 
         //when
-        sseEmitterRepository.delete(userId);
+        boolean removed = sseEmitterRepository.delete(userId, "emitter");
 
         //then
-        Assertions.assertThat(sseEmitterRepository.findByUserId(userId)).isEmpty();
+        Assertions.assertThat(removed).isTrue();
+        Assertions.assertThat(sseEmitterRepository.findAllByUserId(userId)).isEmpty();
+        Assertions.assertThat(sseEmitterRepository.delete(userId, "emitter")).isFalse();
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("마지막으로 받은 이벤트 이후의 이벤트만 조회한다")
+    void findEventsAfterTest() throws Exception {
+        //given
+        Long userId = 4L;
+        sseEmitterRepository.saveEvent(userId, 10L, new SseEmitterEvent());
+        sseEmitterRepository.saveEvent(userId, 11L, new SseEmitterEvent());
+        sseEmitterRepository.saveEvent(userId, 12L, new SseEmitterEvent());
+
+        //when
+        var events = sseEmitterRepository.findEventsAfter(userId, 10L);
+
+        //then
+        Assertions.assertThat(events)
+                .extracting("eventId")
+                .containsExactly(11L, 12L);
+    }
+
+    @Test
+    @DisplayName("버퍼 크기를 넘으면 가장 오래된 이벤트부터 제거한다")
+    void saveEventOverBufferSizeTest() throws Exception {
+        //given
+        SseProperties sseProperties = new SseProperties();
+        sseProperties.getReplay().setBufferSize(2);
+        SseEmitterRepository repository = new SseEmitterRepository(sseProperties);
+        Long userId = 1L;
+
+        //when
+        repository.saveEvent(userId, 1L, new SseEmitterEvent());
+        repository.saveEvent(userId, 2L, new SseEmitterEvent());
+        repository.saveEvent(userId, 3L, new SseEmitterEvent());
+
+        //then
+        Assertions.assertThat(repository.findEventsAfter(userId, 0L))
+                .extracting("eventId")
+                .containsExactly(2L, 3L);
+    }
+}
@@ -1,20 +1,21 @@
 package world.trecord.event.sse;
 
 import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
-import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import world.trecord.config.properties.SseProperties;
 import world.trecord.exception.CustomException;
 import world.trecord.infra.test.AbstractMockTest;
-import world.trecord.service.notification.NotificationService;
 
 import java.io.IOException;
-import java.lang.reflect.Field;
-import java.util.Optional;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import static org.mockito.Mockito.*;
 import static world.trecord.exception.CustomExceptionError.MAX_CONNECTIONS_EXCEEDED_ERROR;
@@ -25,12 +26,35 @@ class SseEmitterServiceMockTest extends AbstractMockTest {
     @Mock
     SseEmitterRepository sseEmitterRepository;
 
-    @Mock
-    NotificationService notificationService;
+    SseProperties sseProperties;
+
+    SseAdmissionController sseAdmissionController;
 
-    @InjectMocks
     SseEmitterService sseEmitterService;
 
+    Map<Long, Map<String, SseEmitter>> savedEmitters = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        sseProperties = new SseProperties();
+        SseEmitterDispatcher sseEmitterDispatcher = new SseEmitterDispatcher(sseProperties, Runnable::run);
+        sseAdmissionController = new SseAdmissionController(sseProperties, () -> 1.0, () -> 0.0);
+        sseEmitterService = new SseEmitterService(sseEmitterRepository, sseEmitterDispatcher, sseAdmissionController);
+
+        // The repository mock keeps connected emitters so that send and heartbeat reach emitters registered by connect
+        lenient().when(sseEmitterRepository.save(anyLong(), anyString(), any())).thenAnswer(invocation -> {
+            savedEmitters.computeIfAbsent(invocation.getArgument(0), key -> new HashMap<>()).put(invocation.getArgument(1), invocation.getArgument(2));
+            return invocation.getArgument(2);
+        });
+        lenient().when(sseEmitterRepository.findAllByUserId(anyLong()))
+                .thenAnswer(invocation -> Map.copyOf(savedEmitters.getOrDefault((Long) invocation.getArgument(0), Map.of())));
+        lenient().when(sseEmitterRepository.findAll()).thenAnswer(invocation -> Map.copyOf(savedEmitters));
+        lenient().when(sseEmitterRepository.delete(anyLong(), anyString())).thenAnswer(invocation -> {
+            Map<String, SseEmitter> emitters = savedEmitters.get((Long) invocation.getArgument(0));
+            return emitters != null && emitters.remove((String) invocation.getArgument(1)) != null;
+        });
+    }
+
     @Test
     @DisplayName("sse connection을 성공하면 이벤트를 전송한다")
     void connectNotificationTest() throws Exception {
@@ -42,55 +66,112 @@ class SseEmitterServiceMockTest extends AbstractMockTest {
         sseEmitterService.connect(userId, mockSseEmitter);
 
         //then
-        verify(sseEmitterRepository).save(userId, mockSseEmitter);
+        verify(sseEmitterRepository).save(eq(userId), anyString(), eq(mockSseEmitter));
         verify(mockSseEmitter).send(any(SseEmitter.SseEventBuilder.class));
     }
 
+    @Test
+    @DisplayName("Last-Event-ID 이후에 놓친 이벤트를 재전송한다")
+    void connectWithLastEventIdReplaysMissedEventsTest() throws Exception {
+        //given
+        Long userId = 1L;
+        SseEmitter mockSseEmitter = mock(SseEmitter.class);
+        when(sseEmitterRepository.findEventsAfter(userId, 10L)).thenReturn(List.of(
+                new SseEmitterRepository.BufferedEvent(11L, new SseEmitterEvent()),
+                new SseEmitterRepository.BufferedEvent(12L, new SseEmitterEvent())));
+
+        //when
+        sseEmitterService.connect(userId, "10", mockSseEmitter);
+
+        //then
+        verify(mockSseEmitter, times(3)).send(any(SseEmitter.SseEventBuilder.class));
+    }
+
+    @Test
+    @DisplayName("재전송 이벤트는 연결 이벤트 뒤에 outbound 큐를 거쳐 순서대로 전송된다")
+    void connectWithLastEventIdQueuesReplayTest() throws Exception {
+        //given
+        Long userId = 1L;
+        List<Runnable> pendingWrites = new ArrayList<>();
+        sseEmitterService = new SseEmitterService(sseEmitterRepository, new SseEmitterDispatcher(sseProperties, pendingWrites::add), sseAdmissionController);
+        SseEmitter mockSseEmitter = mock(SseEmitter.class);
+        when(sseEmitterRepository.findEventsAfter(userId, 10L)).thenReturn(List.of(
+                new SseEmitterRepository.BufferedEvent(11L, new SseEmitterEvent()),
+                new SseEmitterRepository.BufferedEvent(12L, new SseEmitterEvent())));
+
+        //when
+        sseEmitterService.connect(userId, "10", mockSseEmitter);
+
+        //then
+        verify(mockSseEmitter, never()).send(any(SseEmitter.SseEventBuilder.class));
+        Assertions.assertThat(pendingWrites).hasSize(1);
+
+        pendingWrites.get(0).run();
+        ArgumentCaptor<SseEmitter.SseEventBuilder> captor = ArgumentCaptor.forClass(SseEmitter.SseEventBuilder.class);
+        verify(mockSseEmitter, times(3)).send(captor.capture());
+        List<String> sentEvents = captor.getAllValues().stream()
+                .map(event -> String.valueOf(event.build().iterator().next().getData()))
+                .toList();
+        Assertions.assertThat(sentEvents.get(0)).doesNotContain("id:");
+        Assertions.assertThat(sentEvents.get(1)).startsWith("id:11\n");
+        Assertions.assertThat(sentEvents.get(2)).startsWith("id:12\n");
+    }
+
     @Test
     @DisplayName("사용자에게 연결된 emitter로 이벤트를 전송한다")
     void sendWhenUserNotSameTest() throws Exception {
         //given
         SseEmitter mockEmitter = mock(SseEmitter.class);
-        when(sseEmitterRepository.findByUserId(anyLong())).thenReturn(Optional.of(mockEmitter));
+        SseEmitter otherMockEmitter = mock(SseEmitter.class);
+        sseEmitterService.connect(0L, mockEmitter);
+        sseEmitterService.connect(0L, otherMockEmitter);
         SseEmitterEvent mockEvent = mock(SseEmitterEvent.class);
 
         //when
         sseEmitterService.send(0L, 1L, mockEvent);
 
         //then
-        verify(mockEmitter).send(any(SseEmitter.SseEventBuilder.class));
+        verify(sseEmitterRepository).saveEvent(0L, 1L, mockEvent);
+        verify(mockEmitter, times(2)).send(any(SseEmitter.SseEventBuilder.class));
+        verify(otherMockEmitter, times(2)).send(any(SseEmitter.SseEventBuilder.class));
     }
 
     @Test
-    @DisplayName("MAX_CONNECTIONS를 초과할 때 예외 발생가 발생한다")
+    @DisplayName("최대 연결 수를 초과할 때 예외 발생가 발생한다")
     void exceedMaxConnectionsTest() throws Exception {
         // given
-        ReflectionTestUtils.setField(sseEmitterService, "currentConnections", new AtomicInteger(SseEmitterService.MAX_CONNECTIONS));
+        sseProperties.getAdmission().setMaxConnections(1);
+        sseEmitterService.connect(1L, mock(SseEmitter.class));
 
         // when //then
-        Assertions.assertThatThrownBy(() -> sseEmitterService.connect((long) SseEmitterService.MAX_CONNECTIONS, new SseEmitter()))
-                .isInstanceOf(CustomException.class)
+        Assertions.assertThatThrownBy(() -> sseEmitterService.connect(2L, new SseEmitter()))
+                .isInstanceOf(SseAdmissionRejectedException.class)
                 .extracting("error")
                 .isEqualTo(MAX_CONNECTIONS_EXCEEDED_ERROR);
+        Assertions.assertThat(sseEmitterService.getCurrentConnections()).isEqualTo(1);
     }
 
     @Test
-    @DisplayName("SseEmitter 전송 중 IOException 발생 시 예외를 처리한다")
+    @DisplayName("SseEmitter 전송 중 IOException 발생 시 해당 emitter만 제거한다")
     void handleIOExceptionDuringEmitterSendTest() throws Exception {
         // given
         Long userToId = 1L;
-        Long userFromId = 2L;
+        Long eventId = 2L;
 
         SseEmitter mockEmitter = mock(SseEmitter.class);
         SseEmitterEvent mockSseEmitterEvent = mock(SseEmitterEvent.class);
 
-        when(sseEmitterRepository.findByUserId(userToId)).thenReturn(Optional.ofNullable(mockEmitter));
-        doNothing().when(sseEmitterRepository).delete(any());
+        sseEmitterService.connect(userToId, mockEmitter);
         doThrow(new IOException("Test exception")).when(mockEmitter).send(any());
 
+        // when
+        sseEmitterService.send(userToId, eventId, mockSseEmitterEvent);
+
         // then
-        Assertions.assertThatThrownBy(() -> sseEmitterService.send(userToId, userFromId, mockSseEmitterEvent))
-                .isInstanceOf(CustomException.class);
+        verify(sseEmitterRepository).delete(eq(userToId), anyString());
+        Assertions.assertThat(sseEmitterService.getReapedConnections()).isEqualTo(1);
+        Assertions.assertThat(sseEmitterService.getCurrentConnections()).isZero();
+        verify(mockEmitter).completeWithError(any(IOException.class));
     }
 
     @Test
@@ -100,12 +181,7 @@ class SseEmitterServiceMockTest extends AbstractMockTest {
         Long userId = 1L;
         SseEmitter mockSseEmitter = mock(SseEmitter.class);
 
-        AtomicInteger mockCurrentConnections = mock(AtomicInteger.class);
-        Field currentConnectionsField = SseEmitterService.class.getDeclaredField("currentConnections");
-        currentConnectionsField.setAccessible(true);
-        currentConnectionsField.set(sseEmitterService, mockCurrentConnections);
-
-        doThrow(new RuntimeException("Test exception")).when(sseEmitterRepository).save(anyLong(), any());
+        doThrow(new RuntimeException("Test exception")).when(sseEmitterRepository).save(anyLong(), anyString(), any());
 
         // when
         Assertions.assertThatThrownBy(() -> sseEmitterService.connect(userId, mockSseEmitter))
@@ -113,7 +189,27 @@ class SseEmitterServiceMockTest extends AbstractMockTest {
                 .extracting("error")
                 .isEqualTo(NOTIFICATION_CONNECT_ERROR);
 
-        verify(mockCurrentConnections, times(1)).incrementAndGet();
-        verify(mockCurrentConnections, times(1)).decrementAndGet();
+        Assertions.assertThat(sseEmitterService.getCurrentConnections()).isZero();
+    }
+
+    @Test
+    @DisplayName("heartbeat 전송에 실패한 emitter를 제거하고 연결 수를 감소시킨다")
+    void sendHeartbeatReapsDeadConnectionsTest() throws Exception {
+        // given
+        SseEmitter liveEmitter = mock(SseEmitter.class);
+        SseEmitter deadEmitter = mock(SseEmitter.class);
+        sseEmitterService.connect(1L, liveEmitter);
+        sseEmitterService.connect(1L, deadEmitter);
+        doThrow(new IOException("Broken pipe")).when(deadEmitter).send(any(SseEmitter.SseEventBuilder.class));
+
+        // when
+        int pinged = sseEmitterService.sendHeartbeat();
+
+        // then
+        Assertions.assertThat(pinged).isEqualTo(2);
+        Assertions.assertThat(sseEmitterService.getCurrentConnections()).isEqualTo(1);
+        Assertions.assertThat(sseEmitterService.getReapedConnections()).isEqualTo(1);
+        verify(liveEmitter, times(2)).send(any(SseEmitter.SseEventBuilder.class));
+        verify(deadEmitter).completeWithError(any(IOException.class));
     }
-}
\ No newline at end of file
+}
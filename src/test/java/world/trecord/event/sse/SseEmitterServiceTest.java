@@ -21,10 +21,24 @@ class SseEmitterServiceTest extends AbstractIntegrationTest {
         SseEmitter emitter = sseEmitterService.connect(userId, sseEmitter);
 
         //then
-        Assertions.assertThat(sseEmitterRepository.findByUserId(userId))
-                .isPresent()
-                .hasValueSatisfying(it -> {
-                    Assertions.assertThat(it).isEqualTo(emitter);
-                });
+        Assertions.assertThat(sseEmitterRepository.findAllByUserId(userId).values())
+                .contains(emitter);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("같은 사용자가 다시 연결해도 기존 SseEmitter를 유지한다")
+    void connectNotificationTwiceTest() throws Exception {
+        //given
+        Long userId = 100L;
+        SseEmitter firstEmitter = new SseEmitter(Duration.ofHours(3).toMillis());
+        SseEmitter secondEmitter = new SseEmitter(Duration.ofHours(3).toMillis());
+
+        //when
+        sseEmitterService.connect(userId, firstEmitter);
+        sseEmitterService.connect(userId, secondEmitter);
+
+        //then
+        Assertions.assertThat(sseEmitterRepository.findAllByUserId(userId).values())
+                .containsExactlyInAnyOrder(firstEmitter, secondEmitter);
+    }
+}
@@ -0,0 +1,104 @@
+package world.trecord.event.sse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import world.trecord.config.properties.SseProperties;
+import world.trecord.exception.CustomException;
+import world.trecord.infra.test.AbstractMockTest;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static world.trecord.domain.notification.enumeration.NotificationType.COMMENT;
+import static world.trecord.exception.CustomExceptionError.NOTIFICATION_CONNECT_ERROR;
+
+class SseEventBrokerTest extends AbstractMockTest {
+
+    @Mock
+    StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Mock
+    SseEmitterService sseEmitterService;
+
+    SseProperties sseProperties = new SseProperties();
+
+    ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    SseEventBroker sseEventBroker;
+
+    @BeforeEach
+    void setUp() {
+        sseEventBroker = new SseEventBroker(stringRedisTemplate, redisMessageListenerContainer, sseEmitterService, sseProperties, objectMapper);
+    }
+
+    @Test
+    @DisplayName("이벤트를 수신자의 샤드 채널로 발행한다")
+    void publishTest() throws Exception {
+        //given
+        Long userToId = 17L;
+        SseEmitterEvent event = new SseEmitterEvent();
+        event.setId(1L);
+        event.setType(COMMENT);
+
+        //when
+        sseEventBroker.publish(userToId, 1L, event);
+
+        //then
+        verify(stringRedisTemplate).convertAndSend(eq("sse:notification:1"), anyString());
+    }
+
+    @Test
+    @DisplayName("수신한 메시지를 로컬 emitter로 전달한다")
+    void onMessageTest() throws Exception {
+        //given
+        Long userToId = 17L;
+        SseEmitterEvent event = new SseEmitterEvent();
+        event.setId(1L);
+        event.setType(COMMENT);
+        String payload = objectMapper.writeValueAsString(new SseBrokerMessage(userToId, 1L, event));
+
+        //when
+        sseEventBroker.onMessage(new DefaultMessage("sse:notification:1".getBytes(UTF_8), payload.getBytes(UTF_8)), null);
+
+        //then
+        ArgumentCaptor<SseEmitterEvent> captor = ArgumentCaptor.forClass(SseEmitterEvent.class);
+        verify(sseEmitterService).send(eq(userToId), eq(1L), captor.capture());
+        assertThat(captor.getValue().getType()).isEqualTo(COMMENT);
+    }
+
+    @Test
+    @DisplayName("전달 중 예외가 발생해도 리스너 밖으로 전파하지 않는다")
+    void onMessageWhenSendFailsTest() throws Exception {
+        //given
+        String payload = objectMapper.writeValueAsString(new SseBrokerMessage(1L, 1L, new SseEmitterEvent()));
+        doThrow(new CustomException(NOTIFICATION_CONNECT_ERROR)).when(sseEmitterService).send(any(), any(), any());
+
+        //when
+        sseEventBroker.onMessage(new DefaultMessage("sse:notification:1".getBytes(UTF_8), payload.getBytes(UTF_8)), null);
+
+        //then
+        verify(sseEmitterService).send(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("잘못된 메시지는 무시한다")
+    void onMessageWhenMalformedTest() throws Exception {
+        //when
+        sseEventBroker.onMessage(new DefaultMessage("sse:notification:1".getBytes(UTF_8), "not json".getBytes(UTF_8)), null);
+
+        //then
+        verifyNoInteractions(sseEmitterService);
+    }
+}
@@ -0,0 +1,95 @@
+package world.trecord.infra.support;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Wraps a {@link DataSource} so that the SQL and bind parameters of every prepared statement are recorded
+ * while {@link #capture(Runnable)} runs. Used to EXPLAIN the exact statements that repositories issue.
+ */
+public class StatementCaptor {
+
+    private final List<CapturedStatement> statements = new CopyOnWriteArrayList<>();
+    private volatile boolean capturing;
+
+    public DataSource wrap(DataSource dataSource) {
+        return proxy(DataSource.class, dataSource, (method, result, args) ->
+                result instanceof Connection connection ? proxy(Connection.class, connection, this::onConnectionCall) : result);
+    }
+
+    public List<CapturedStatement> capture(Runnable action) {
+        statements.clear();
+        capturing = true;
+        try {
+            action.run();
+        } finally {
+            capturing = false;
+        }
+        return List.copyOf(statements);
+    }
+
+    private Object onConnectionCall(Method method, Object result, Object[] args) {
+        if (!capturing || !method.getName().equals("prepareStatement") || !(result instanceof PreparedStatement preparedStatement)) {
+            return result;
+        }
+
+        CapturedStatement statement = new CapturedStatement((String) args[0]);
+        statements.add(statement);
+        return proxy(PreparedStatement.class, preparedStatement, (statementMethod, statementResult, statementArgs) -> {
+            if (statementMethod.getName().startsWith("set") && Objects.nonNull(statementArgs) && statementArgs.length >= 2 && statementArgs[0] instanceof Integer index) {
+                statement.bind(index, statementMethod.getName().equals("setNull") ? null : statementArgs[1]);
+            }
+            return statementResult;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, ResultHandler resultHandler) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            try {
+                return resultHandler.handle(method, method.invoke(target, args), args);
+            } catch (InvocationTargetException ex) {
+                throw ex.getCause();
+            }
+        };
+        return (T) Proxy.newProxyInstance(StatementCaptor.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    @FunctionalInterface
+    private interface ResultHandler {
+        Object handle(Method method, Object result, Object[] args) throws Throwable;
+    }
+
+    public static class CapturedStatement {
+
+        private final String sql;
+        private final SortedMap<Integer, Object> parameters = new TreeMap<>();
+
+        private CapturedStatement(String sql) {
+            this.sql = sql;
+        }
+
+        private void bind(int index, Object value) {
+            parameters.put(index, value);
+        }
+
+        public String getSql() {
+            return sql;
+        }
+
+        public Object[] getParameters() {
+            return new ArrayList<>(parameters.values()).toArray();
+        }
+    }
+}
@@ -12,6 +12,9 @@ import world.trecord.domain.comment.CommentRepository;
 import world.trecord.domain.feed.FeedRepository;
 import world.trecord.domain.feedcontributor.FeedContributorRepository;
 import world.trecord.domain.notification.NotificationRepository;
+import world.trecord.domain.notification.archive.NotificationArchiveRepository;
+import world.trecord.domain.notification.outbox.NotificationOutboxRepository;
+import world.trecord.domain.purge.PurgeCheckpointRepository;
 import world.trecord.domain.record.RecordRepository;
 import world.trecord.domain.record.RecordSequenceRepository;
 import world.trecord.domain.userrecordlike.UserRecordLikeRepository;
@@ -22,9 +25,13 @@ import world.trecord.event.sse.SseEmitterRepository;
 import world.trecord.event.sse.SseEmitterService;
 import world.trecord.infra.support.IntegrationTestSupport;
 import world.trecord.service.comment.CommentService;
+import world.trecord.service.feed.FeedExportService;
 import world.trecord.service.feed.FeedService;
 import world.trecord.service.feedcontributor.FeedContributorService;
+import world.trecord.service.notification.NotificationOutboxService;
+import world.trecord.service.notification.NotificationRetentionService;
 import world.trecord.service.notification.NotificationService;
+import world.trecord.service.purge.PurgeChunkService;
 import world.trecord.service.record.RecordService;
 import world.trecord.service.userrecordlike.UserRecordLikeService;
 import world.trecord.service.users.UserService;
@@ -59,6 +66,24 @@ public abstract class AbstractIntegrationTest extends AbstractContainerBaseTest
     @Autowired
     protected NotificationService notificationService;
 
+    @Autowired
+    protected NotificationOutboxRepository notificationOutboxRepository;
+
+    @Autowired
+    protected NotificationOutboxService notificationOutboxService;
+
+    @Autowired
+    protected NotificationArchiveRepository notificationArchiveRepository;
+
+    @Autowired
+    protected NotificationRetentionService notificationRetentionService;
+
+    @Autowired
+    protected PurgeChunkService purgeChunkService;
+
+    @Autowired
+    protected PurgeCheckpointRepository purgeCheckpointRepository;
+
     @Autowired
     protected UserRecordLikeRepository userRecordLikeRepository;
 
@@ -89,6 +114,9 @@ public abstract class AbstractIntegrationTest extends AbstractContainerBaseTest
     @Autowired
     protected FeedService feedService;
 
+    @Autowired
+    protected FeedExportService feedExportService;
+
     @Autowired
     protected FeedContributorService feedContributorService;
 
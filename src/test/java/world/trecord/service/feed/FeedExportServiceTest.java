@@ -0,0 +1,184 @@
+package world.trecord.service.feed;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+import world.trecord.domain.comment.CommentEntity;
+import world.trecord.domain.feed.FeedEntity;
+import world.trecord.domain.record.RecordEntity;
+import world.trecord.domain.users.UserEntity;
+import world.trecord.exception.CustomException;
+import world.trecord.infra.fixture.*;
+import world.trecord.infra.test.AbstractIntegrationTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static world.trecord.exception.CustomExceptionError.FEED_EXPORT_LIMIT_EXCEEDED;
+import static world.trecord.exception.CustomExceptionError.FORBIDDEN;
+
+@Transactional
+class FeedExportServiceTest extends AbstractIntegrationTest {
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("피드 주인이 내보내기를 하면 삭제되지 않은 기록을 순서대로 댓글, 좋아요 수와 함께 한 줄씩 반환한다")
+    void exportFeedAsNdjsonTest() throws Exception {
+        //given
+        UserEntity owner = userRepository.save(UserEntityFixture.of("test@email.com"));
+        UserEntity commenter = userRepository.save(UserEntityFixture.of("test1@email.com"));
+        FeedEntity feedEntity = feedRepository.save(FeedEntityFixture.of(owner));
+        RecordEntity recordEntity1 = recordRepository.save(RecordEntityFixture.of(owner, feedEntity, 1));
+        RecordEntity recordEntity2 = recordRepository.save(RecordEntityFixture.of(owner, feedEntity, 2));
+        RecordEntity deletedRecord = recordRepository.save(RecordEntityFixture.of(owner, feedEntity, 3));
+
+        CommentEntity parentComment = commentRepository.save(CommentEntityFixture.of(commenter, recordEntity1));
+        commentRepository.save(CommentEntityFixture.of(owner, recordEntity1, parentComment));
+        userRecordLikeRepository.save(UserRecordLikeFixture.of(commenter, recordEntity1));
+        userRecordLikeRepository.save(UserRecordLikeFixture.of(owner, recordEntity1));
+        recordRepository.delete(deletedRecord);
+        entityManager.flush();
+
+        //when
+        List<JsonNode> lines = readLines(export(feedExportService.exportFeed(owner.getId(), feedEntity.getId(), FeedExportFormat.NDJSON)));
+
+        //then
+        Assertions.assertThat(lines).hasSize(2);
+        Assertions.assertThat(lines.get(0).get("recordId").asLong()).isEqualTo(recordEntity1.getId());
+        Assertions.assertThat(lines.get(0).get("content").asText()).isEqualTo("content");
+        Assertions.assertThat(lines.get(0).get("likeCount").asLong()).isEqualTo(2);
+        Assertions.assertThat(lines.get(0).get("comments")).hasSize(2);
+        Assertions.assertThat(lines.get(0).get("comments").get(1).get("parentId").asLong()).isEqualTo(parentComment.getId());
+        Assertions.assertThat(lines.get(1).get("recordId").asLong()).isEqualTo(recordEntity2.getId());
+        Assertions.assertThat(lines.get(1).get("likeCount").asLong()).isZero();
+        Assertions.assertThat(lines.get(1).get("comments")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("ZIP 형식으로 내보내면 NDJSON 파일 하나를 담은 압축 파일을 반환한다")
+    void exportFeedAsZipTest() throws Exception {
+        //given
+        UserEntity owner = userRepository.save(UserEntityFixture.of("test@email.com"));
+        FeedEntity feedEntity = feedRepository.save(FeedEntityFixture.of(owner));
+        recordRepository.save(RecordEntityFixture.of(owner, feedEntity, 1));
+        recordRepository.save(RecordEntityFixture.of(owner, feedEntity, 2));
+
+        //when
+        byte[] exported = export(feedExportService.exportFeed(owner.getId(), feedEntity.getId(), FeedExportFormat.ZIP));
+
+        //then
+        try (ZipInputStream zipInputStream = new ZipInputStream(new ByteArrayInputStream(exported))) {
+            ZipEntry entry = zipInputStream.getNextEntry();
+            Assertions.assertThat(entry.getName()).isEqualTo("feed-" + feedEntity.getId() + ".ndjson");
+            Assertions.assertThat(readLines(zipInputStream.readAllBytes())).hasSize(2);
+            Assertions.assertThat(zipInputStream.getNextEntry()).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("피드 컨트리뷰터는 피드를 내보낼 수 있다")
+    void exportFeedByContributorTest() throws Exception {
+        //given
+        UserEntity owner = userRepository.save(UserEntityFixture.of("test@email.com"));
+        UserEntity contributor = userRepository.save(UserEntityFixture.of("test1@email.com"));
+        FeedEntity feedEntity = feedRepository.save(FeedEntityFixture.of(owner));
+        feedContributorRepository.save(FeedContributorFixture.of(contributor, feedEntity));
+        recordRepository.save(RecordEntityFixture.of(owner, feedEntity, 1));
+
+        //when
+        List<JsonNode> lines = readLines(export(feedExportService.exportFeed(contributor.getId(), feedEntity.getId(), FeedExportFormat.NDJSON)));
+
+        //then
+        Assertions.assertThat(lines).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("피드 주인, 컨트리뷰터가 아닌 사용자가 내보내기를 하면 예외가 발생한다")
+    void exportFeedByNotMemberTest() throws Exception {
+        //given
+        UserEntity owner = userRepository.save(UserEntityFixture.of("test@email.com"));
+        UserEntity other = userRepository.save(UserEntityFixture.of("test1@email.com"));
+        FeedEntity feedEntity = feedRepository.save(FeedEntityFixture.of(owner));
+
+        //when //then
+        Assertions.assertThatThrownBy(() -> feedExportService.exportFeed(other.getId(), feedEntity.getId(), FeedExportFormat.NDJSON))
+                .isInstanceOf(CustomException.class)
+                .extracting("error")
+                .isEqualTo(FORBIDDEN);
+    }
+
+    @Test
+    @DisplayName("동시에 진행 중인 내보내기가 최대 개수에 도달하면 예외가 발생하고, 내보내기가 끝나면 다시 요청할 수 있다")
+    void exportFeedWhenLimitExceededTest() throws Exception {
+        //given
+        UserEntity owner = userRepository.save(UserEntityFixture.of("test@email.com"));
+        FeedEntity feedEntity = feedRepository.save(FeedEntityFixture.of(owner));
+        List<FeedExport> runningExports = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            runningExports.add(feedExportService.exportFeed(owner.getId(), feedEntity.getId(), FeedExportFormat.NDJSON));
+        }
+
+        //when //then
+        Assertions.assertThatThrownBy(() -> feedExportService.exportFeed(owner.getId(), feedEntity.getId(), FeedExportFormat.NDJSON))
+                .isInstanceOf(CustomException.class)
+                .extracting("error")
+                .isEqualTo(FEED_EXPORT_LIMIT_EXCEEDED);
+
+        for (FeedExport runningExport : runningExports) {
+            export(runningExport);
+        }
+        Assertions.assertThat(export(feedExportService.exportFeed(owner.getId(), feedEntity.getId(), FeedExportFormat.NDJSON))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("중단된 내보내기는 한 번만 자리를 반납한다")
+    void exportFeedReleasesAbandonedExportOnceTest() throws Exception {
+        //given
+        UserEntity owner = userRepository.save(UserEntityFixture.of("test@email.com"));
+        FeedEntity feedEntity = feedRepository.save(FeedEntityFixture.of(owner));
+        FeedExport abandonedExport = feedExportService.exportFeed(owner.getId(), feedEntity.getId(), FeedExportFormat.NDJSON);
+        FeedExport runningExport = feedExportService.exportFeed(owner.getId(), feedEntity.getId(), FeedExportFormat.NDJSON);
+
+        //when
+        abandonedExport.release();
+        abandonedExport.release();
+        export(abandonedExport);
+        FeedExport nextExport = feedExportService.exportFeed(owner.getId(), feedEntity.getId(), FeedExportFormat.NDJSON);
+
+        //then
+        Assertions.assertThatThrownBy(() -> feedExportService.exportFeed(owner.getId(), feedEntity.getId(), FeedExportFormat.NDJSON))
+                .isInstanceOf(CustomException.class)
+                .extracting("error")
+                .isEqualTo(FEED_EXPORT_LIMIT_EXCEEDED);
+
+        runningExport.release();
+        nextExport.release();
+    }
+
+    private byte[] export(FeedExport feedExport) throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        feedExport.writeTo(outputStream);
+        return outputStream.toByteArray();
+    }
+
+    private List<JsonNode> readLines(byte[] exported) throws Exception {
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : new String(exported, StandardCharsets.UTF_8).split("\n")) {
+            if (!line.isBlank()) {
+                lines.add(objectMapper.readTree(line));
+            }
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,66 @@
+package world.trecord.service.feed;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class FeedExportTest {
+
+    @Test
+    @DisplayName("내보내기를 쓰는 중에 중단되어도 쓰기가 끝난 뒤에 한 번만 자리를 반납한다")
+    void releaseWhileWritingTest() throws Exception {
+        //given
+        AtomicInteger releasedSlots = new AtomicInteger(0);
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch finishWriting = new CountDownLatch(1);
+        FeedExport feedExport = new FeedExport(1L, outputStream -> {
+            writing.countDown();
+            try {
+                finishWriting.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, Duration.ofSeconds(5), releasedSlots::incrementAndGet);
+        ExecutorService writer = Executors.newSingleThreadExecutor();
+        Future<?> written = writer.submit(() -> {
+            feedExport.writeTo(new ByteArrayOutputStream());
+            return null;
+        });
+        writing.await(5, TimeUnit.SECONDS);
+
+        //when
+        feedExport.release();
+        int releasedWhileWriting = releasedSlots.get();
+        finishWriting.countDown();
+        written.get(5, TimeUnit.SECONDS);
+        feedExport.release();
+        writer.shutdown();
+
+        //then
+        Assertions.assertThat(releasedWhileWriting).isZero();
+        Assertions.assertThat(releasedSlots.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("쓰기 전에 중단된 내보내기는 바로 자리를 반납하고 본문을 쓰지 않는다")
+    void releaseBeforeWritingTest() throws Exception {
+        //given
+        AtomicInteger releasedSlots = new AtomicInteger(0);
+        AtomicInteger writtenBodies = new AtomicInteger(0);
+        FeedExport feedExport = new FeedExport(1L, outputStream -> writtenBodies.incrementAndGet(),
+                Duration.ofSeconds(5), releasedSlots::incrementAndGet);
+
+        //when
+        feedExport.release();
+        feedExport.writeTo(new ByteArrayOutputStream());
+
+        //then
+        Assertions.assertThat(releasedSlots.get()).isEqualTo(1);
+        Assertions.assertThat(writtenBodies.get()).isZero();
+    }
+}
@@ -0,0 +1,197 @@
+package world.trecord.service.notification;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import world.trecord.config.properties.NotificationProperties;
+import world.trecord.domain.notification.NotificationEntity;
+import world.trecord.domain.notification.NotificationRepository;
+import world.trecord.domain.notification.args.NotificationArgs;
+import world.trecord.domain.notification.args.RecordArgs;
+import world.trecord.domain.notification.args.UserFromArgs;
+import world.trecord.domain.notification.outbox.NotificationOutboxRepository;
+import world.trecord.event.notification.NotificationEvent;
+import world.trecord.infra.test.AbstractMockTest;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static world.trecord.domain.notification.enumeration.NotificationStatus.UNREAD;
+import static world.trecord.domain.notification.enumeration.NotificationType.COMMENT;
+import static world.trecord.domain.notification.enumeration.NotificationType.RECORD_LIKE;
+
+class NotificationCoalescerTest extends AbstractMockTest {
+
+    @Mock
+    NotificationOutboxRepository notificationOutboxRepository;
+
+    @Mock
+    NotificationRepository notificationRepository;
+
+    @Mock
+    UnreadNotificationCounter unreadNotificationCounter;
+
+    NotificationProperties notificationProperties;
+
+    SimpleMeterRegistry meterRegistry;
+
+    NotificationCoalescer notificationCoalescer;
+
+    @BeforeEach
+    void setUp() {
+        notificationProperties = new NotificationProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        notificationCoalescer = new NotificationCoalescer(notificationOutboxRepository, notificationRepository, notificationProperties, unreadNotificationCounter, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("같은 키의 알림이 아웃박스에 대기 중이면 중복으로 판단한다")
+    void isDuplicateWhenPendingInOutboxTest() throws Exception {
+        //given
+        NotificationEvent notificationEvent = buildLikeEvent();
+        when(notificationOutboxRepository.existsByCoalesceKey(notificationEvent.coalesceKey())).thenReturn(true);
+
+        //when
+        boolean duplicate = notificationCoalescer.isDuplicate(notificationEvent);
+
+        //then
+        Assertions.assertThat(duplicate).isTrue();
+        Assertions.assertThat(meterRegistry.get("notification.coalesced").tag("reason", "duplicate").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("윈도우 안에 같은 알림이 생성되었으면 중복으로 판단한다")
+    void isDuplicateWhenRecentNotificationExistsTest() throws Exception {
+        //given
+        NotificationEvent notificationEvent = buildLikeEvent();
+        when(notificationOutboxRepository.existsByCoalesceKey(notificationEvent.coalesceKey())).thenReturn(false);
+        when(notificationRepository.countRecentByRecordAndUserFrom(eq(1L), eq(RECORD_LIKE.name()), eq(10L), eq(2L), any())).thenReturn(1L);
+
+        //when
+        boolean duplicate = notificationCoalescer.isDuplicate(notificationEvent);
+
+        //then
+        Assertions.assertThat(duplicate).isTrue();
+    }
+
+    @Test
+    @DisplayName("윈도우가 0이면 이미 생성된 알림은 확인하지 않는다")
+    void isDuplicateWithZeroWindowTest() throws Exception {
+        //given
+        notificationProperties.getCoalesce().setWindow(Duration.ZERO);
+        NotificationEvent notificationEvent = buildLikeEvent();
+        when(notificationOutboxRepository.existsByCoalesceKey(notificationEvent.coalesceKey())).thenReturn(false);
+
+        //when
+        boolean duplicate = notificationCoalescer.isDuplicate(notificationEvent);
+
+        //then
+        Assertions.assertThat(duplicate).isFalse();
+        verifyNoInteractions(notificationRepository);
+    }
+
+    @Test
+    @DisplayName("병합 대상 타입이 아니면 중복 여부를 확인하지 않는다")
+    void isDuplicateWithNotCoalescableTypeTest() throws Exception {
+        //given
+        NotificationEvent notificationEvent = new NotificationEvent(1L, 2L, COMMENT, new NotificationArgs());
+
+        //when
+        boolean duplicate = notificationCoalescer.isDuplicate(notificationEvent);
+
+        //then
+        Assertions.assertThat(duplicate).isFalse();
+        verifyNoInteractions(notificationOutboxRepository, notificationRepository);
+    }
+
+    @Test
+    @DisplayName("좋아요 취소 시 대기 중인 좋아요 알림을 삭제하고 취소 수를 기록한다")
+    void cancelTest() throws Exception {
+        //given
+        NotificationEvent notificationEvent = buildLikeEvent();
+        when(notificationOutboxRepository.deleteByCoalesceKey(notificationEvent.coalesceKey())).thenReturn(1);
+
+        //when
+        notificationCoalescer.cancel(notificationEvent);
+
+        //then
+        Assertions.assertThat(meterRegistry.get("notification.coalesced").tag("reason", "cancelled").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("좋아요 취소 시 윈도우 안에 이미 생성된 좋아요 알림을 삭제한다")
+    void cancelDeletesWrittenNotificationTest() throws Exception {
+        //given
+        NotificationEvent notificationEvent = buildLikeEvent();
+        NotificationEntity notificationEntity = buildLikeNotification(new UserFromArgs(2L, "liker"));
+        when(notificationRepository.findRecentByRecordAndUserFromForUpdate(eq(1L), eq(RECORD_LIKE.name()), eq(10L), eq(2L), any())).thenReturn(List.of(notificationEntity));
+
+        //when
+        notificationCoalescer.cancel(notificationEvent);
+
+        //then
+        verify(notificationRepository, times(1)).delete(notificationEntity);
+        verify(unreadNotificationCounter, times(1)).evictAfterCommit(1L);
+        Assertions.assertThat(meterRegistry.get("notification.coalesced").tag("reason", "cancelled").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("좋아요 취소 시 윈도우 안의 집계 알림에서 취소한 사용자를 뺀다")
+    void cancelRetractsActorFromAggregateTest() throws Exception {
+        //given
+        NotificationEvent notificationEvent = buildLikeEvent();
+        UserFromArgs otherLiker = new UserFromArgs(3L, "other");
+        NotificationEntity notificationEntity = buildLikeNotification(otherLiker);
+        notificationEntity.aggregate(buildLikeArgs(new UserFromArgs(2L, "liker")), 3);
+        when(notificationRepository.findRecentByRecordAndUserFromForUpdate(eq(1L), eq(RECORD_LIKE.name()), eq(10L), eq(2L), any())).thenReturn(List.of(notificationEntity));
+
+        //when
+        notificationCoalescer.cancel(notificationEvent);
+
+        //then
+        verify(notificationRepository, never()).delete(any());
+        Assertions.assertThat(notificationEntity.getAggregateCount()).isEqualTo(1);
+        Assertions.assertThat(notificationEntity.getUserFromArgs().getId()).isEqualTo(otherLiker.getId());
+        Assertions.assertThat(notificationEntity.getArgs().getActorIds()).containsExactly(otherLiker.getId());
+    }
+
+    @Test
+    @DisplayName("윈도우가 0이면 이미 생성된 알림은 취소하지 않는다")
+    void cancelWithZeroWindowTest() throws Exception {
+        //given
+        notificationProperties.getCoalesce().setWindow(Duration.ZERO);
+        NotificationEvent notificationEvent = buildLikeEvent();
+
+        //when
+        notificationCoalescer.cancel(notificationEvent);
+
+        //then
+        verifyNoInteractions(notificationRepository, unreadNotificationCounter);
+    }
+
+    private NotificationEntity buildLikeNotification(UserFromArgs userFrom) {
+        return NotificationEntity.builder()
+                .type(RECORD_LIKE)
+                .status(UNREAD)
+                .args(buildLikeArgs(userFrom))
+                .build();
+    }
+
+    private NotificationArgs buildLikeArgs(UserFromArgs userFrom) {
+        NotificationArgs args = new NotificationArgs();
+        args.setUserFrom(userFrom);
+        args.setRecord(new RecordArgs(10L, "title"));
+        return args;
+    }
+
+    private NotificationEvent buildLikeEvent() {
+        NotificationArgs args = new NotificationArgs();
+        args.setRecord(new RecordArgs(10L, "title"));
+        return new NotificationEvent(1L, 2L, RECORD_LIKE, args);
+    }
+}
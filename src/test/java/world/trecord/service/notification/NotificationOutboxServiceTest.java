@@ -0,0 +1,163 @@
+package world.trecord.service.notification;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.annotation.Transactional;
+import world.trecord.domain.feed.FeedEntity;
+import world.trecord.domain.notification.NotificationEntity;
+import world.trecord.domain.notification.args.NotificationArgs;
+import world.trecord.domain.record.RecordEntity;
+import world.trecord.domain.users.UserEntity;
+import world.trecord.event.notification.NotificationEvent;
+import world.trecord.infra.fixture.FeedEntityFixture;
+import world.trecord.infra.fixture.RecordEntityFixture;
+import world.trecord.infra.fixture.UserEntityFixture;
+import world.trecord.infra.test.AbstractIntegrationTest;
+
+import java.util.List;
+
+import static world.trecord.domain.notification.enumeration.NotificationStatus.UNREAD;
+import static world.trecord.domain.notification.enumeration.NotificationType.RECORD_LIKE;
+
+@Transactional
+class NotificationOutboxServiceTest extends AbstractIntegrationTest {
+
+    @Test
+    @DisplayName("알림 이벤트를 아웃박스에 저장한다")
+    void appendTest() throws Exception {
+        //given
+        UserEntity userTo = userRepository.save(UserEntityFixture.of());
+        UserEntity userFrom = userRepository.save(UserEntityFixture.of());
+        NotificationEvent notificationEvent = new NotificationEvent(userTo.getId(), userFrom.getId(), RECORD_LIKE, buildArgs(userFrom));
+
+        //when
+        notificationOutboxService.append(notificationEvent);
+
+        //then
+        Assertions.assertThat(notificationOutboxRepository.findAll())
+                .extracting("userToId", "userFromId", "type")
+                .containsExactly(Assertions.tuple(userTo.getId(), userFrom.getId(), RECORD_LIKE));
+    }
+
+    @Test
+    @DisplayName("아웃박스 배치를 처리하면 알림을 생성하고 처리한 아웃박스를 삭제한다")
+    void processBatchTest() throws Exception {
+        //given
+        UserEntity userTo = userRepository.save(UserEntityFixture.of());
+        UserEntity userFrom = userRepository.save(UserEntityFixture.of());
+        notificationOutboxService.append(new NotificationEvent(userTo.getId(), userFrom.getId(), RECORD_LIKE, buildArgs(userFrom)));
+        notificationOutboxService.append(new NotificationEvent(userTo.getId(), userFrom.getId(), RECORD_LIKE, buildArgs(userFrom)));
+        notificationOutboxService.append(new NotificationEvent(userTo.getId(), userFrom.getId(), RECORD_LIKE, buildArgs(userFrom)));
+
+        //when
+        List<NotificationEntity> notificationEntities = notificationOutboxService.processBatch(2);
+
+        //then
+        Assertions.assertThat(notificationEntities)
+                .hasSize(2)
+                .allSatisfy(notificationEntity -> {
+                    Assertions.assertThat(notificationEntity.getId()).isNotNull();
+                    Assertions.assertThat(notificationEntity.getStatus()).isEqualTo(UNREAD);
+                    Assertions.assertThat(notificationEntity.getUsersToEntity().getId()).isEqualTo(userTo.getId());
+                });
+        Assertions.assertThat(notificationOutboxRepository.findAll()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("받는 사용자가 존재하지 않는 아웃박스는 알림을 생성하지 않고 삭제한다")
+    void processBatchWithNotExistingUserTest() throws Exception {
+        //given
+        UserEntity userFrom = userRepository.save(UserEntityFixture.of());
+        Long notExistingUserId = 0L;
+        notificationOutboxService.append(new NotificationEvent(notExistingUserId, userFrom.getId(), RECORD_LIKE, buildArgs(userFrom)));
+
+        //when
+        List<NotificationEntity> notificationEntities = notificationOutboxService.processBatch(10);
+
+        //then
+        Assertions.assertThat(notificationEntities).isEmpty();
+        Assertions.assertThat(notificationOutboxRepository.findAll()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 기록에 대한 좋아요 알림은 하나의 집계 알림으로 합치고 이미 있는 집계 알림은 그 자리에서 갱신한다")
+    void processBatchAggregatesRecordLikeTest() throws Exception {
+        //given
+        UserEntity userTo = userRepository.save(UserEntityFixture.of());
+        UserEntity liker1 = userRepository.save(UserEntityFixture.of());
+        UserEntity liker2 = userRepository.save(UserEntityFixture.of());
+        UserEntity liker3 = userRepository.save(UserEntityFixture.of());
+        FeedEntity feedEntity = feedRepository.save(FeedEntityFixture.of(userTo));
+        RecordEntity recordEntity = recordRepository.save(RecordEntityFixture.of(feedEntity));
+
+        notificationOutboxService.append(new NotificationEvent(userTo.getId(), liker1.getId(), RECORD_LIKE, buildArgs(liker1, recordEntity)));
+        notificationOutboxService.append(new NotificationEvent(userTo.getId(), liker2.getId(), RECORD_LIKE, buildArgs(liker2, recordEntity)));
+        List<NotificationEntity> firstBatch = notificationOutboxService.processBatch(10);
+
+        notificationOutboxService.append(new NotificationEvent(userTo.getId(), liker3.getId(), RECORD_LIKE, buildArgs(liker3, recordEntity)));
+
+        //when
+        List<NotificationEntity> secondBatch = notificationOutboxService.processBatch(10);
+
+        //then
+        Assertions.assertThat(firstBatch).hasSize(1);
+        Assertions.assertThat(secondBatch).hasSize(1);
+        Assertions.assertThat(secondBatch.get(0).getId()).isEqualTo(firstBatch.get(0).getId());
+        Assertions.assertThat(secondBatch.get(0).getCreatedDateTime()).isAfterOrEqualTo(firstBatch.get(0).getCreatedDateTime());
+        Assertions.assertThat(countAllRowsByRecordId(recordEntity.getId())).isEqualTo(1);
+        Assertions.assertThat(secondBatch.get(0).getAggregateCount()).isEqualTo(3);
+        Assertions.assertThat(secondBatch.get(0).getUserFromArgs().getId()).isEqualTo(liker3.getId());
+        Assertions.assertThat(secondBatch.get(0).getAggregateActors())
+                .extracting("id")
+                .containsExactly(liker3.getId(), liker2.getId(), liker1.getId());
+    }
+
+    @Test
+    @DisplayName("같은 사용자가 다시 좋아요를 누르면 집계 알림의 사용자 수를 늘리지 않는다")
+    void processBatchCountsDistinctActorsTest() throws Exception {
+        //given
+        UserEntity userTo = userRepository.save(UserEntityFixture.of());
+        UserEntity liker1 = userRepository.save(UserEntityFixture.of());
+        UserEntity liker2 = userRepository.save(UserEntityFixture.of());
+        FeedEntity feedEntity = feedRepository.save(FeedEntityFixture.of(userTo));
+        RecordEntity recordEntity = recordRepository.save(RecordEntityFixture.of(feedEntity));
+
+        notificationOutboxService.append(new NotificationEvent(userTo.getId(), liker1.getId(), RECORD_LIKE, buildArgs(liker1, recordEntity)));
+        notificationOutboxService.append(new NotificationEvent(userTo.getId(), liker2.getId(), RECORD_LIKE, buildArgs(liker2, recordEntity)));
+        notificationOutboxService.processBatch(10);
+
+        notificationOutboxService.append(new NotificationEvent(userTo.getId(), liker1.getId(), RECORD_LIKE, buildArgs(liker1, recordEntity)));
+
+        //when
+        List<NotificationEntity> secondBatch = notificationOutboxService.processBatch(10);
+
+        //then
+        Assertions.assertThat(secondBatch).hasSize(1);
+        Assertions.assertThat(secondBatch.get(0).getAggregateCount()).isEqualTo(2);
+        Assertions.assertThat(secondBatch.get(0).getArgs().getActorIds()).containsExactly(liker1.getId(), liker2.getId());
+        Assertions.assertThat(secondBatch.get(0).getAggregateActors())
+                .extracting("id")
+                .containsExactly(liker1.getId(), liker2.getId());
+    }
+
+    // Counts soft deleted rows as well, which the entity mapping filters out
+    private long countAllRowsByRecordId(Long recordId) {
+        return ((Number) entityManager.createNativeQuery("SELECT COUNT(*) FROM notification WHERE record_id = :recordId")
+                .setParameter("recordId", recordId)
+                .getSingleResult()).longValue();
+    }
+
+    private NotificationArgs buildArgs(UserEntity userFromEntity) {
+        return NotificationArgs.builder()
+                .userFromEntity(userFromEntity)
+                .build();
+    }
+
+    private NotificationArgs buildArgs(UserEntity userFromEntity, RecordEntity recordEntity) {
+        return NotificationArgs.builder()
+                .userFromEntity(userFromEntity)
+                .recordEntity(recordEntity)
+                .build();
+    }
+}
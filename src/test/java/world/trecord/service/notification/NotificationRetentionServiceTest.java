@@ -0,0 +1,86 @@
+package world.trecord.service.notification;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.annotation.Transactional;
+import world.trecord.domain.notification.NotificationEntity;
+import world.trecord.domain.users.UserEntity;
+import world.trecord.infra.fixture.NotificationEntityFixture;
+import world.trecord.infra.fixture.UserEntityFixture;
+import world.trecord.infra.test.AbstractIntegrationTest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static world.trecord.domain.notification.enumeration.NotificationStatus.READ;
+import static world.trecord.domain.notification.enumeration.NotificationStatus.UNREAD;
+
+@Transactional
+class NotificationRetentionServiceTest extends AbstractIntegrationTest {
+
+    @Test
+    @DisplayName("기준 시간 이전에 삭제된 알림을 청크 크기만큼 물리 삭제한다")
+    void purgeDeletedChunkTest() throws Exception {
+        //given
+        UserEntity userEntity = userRepository.save(UserEntityFixture.of());
+        List<NotificationEntity> deleted = notificationRepository.saveAll(List.of(
+                NotificationEntityFixture.of(userEntity, READ),
+                NotificationEntityFixture.of(userEntity, READ),
+                NotificationEntityFixture.of(userEntity, READ)));
+        NotificationEntity alive = notificationRepository.save(NotificationEntityFixture.of(userEntity, READ));
+        notificationRepository.deleteAll(deleted);
+        entityManager.flush();
+        entityManager.clear();
+
+        //when
+        int purged = notificationRetentionService.purgeDeletedChunk(LocalDateTime.now().plusDays(1), 2);
+
+        //then
+        Assertions.assertThat(purged).isEqualTo(2);
+        Assertions.assertThat(countAllRows()).isEqualTo(2);
+        Assertions.assertThat(notificationRepository.findById(alive.getId())).isPresent();
+    }
+
+    @Test
+    @DisplayName("기준 시간 이전에 생성된 읽은 알림만 보관 테이블로 옮긴다")
+    void archiveReadChunkTest() throws Exception {
+        //given
+        UserEntity userEntity = userRepository.save(UserEntityFixture.of());
+        NotificationEntity read = notificationRepository.save(NotificationEntityFixture.of(userEntity, READ));
+        NotificationEntity unread = notificationRepository.save(NotificationEntityFixture.of(userEntity, UNREAD));
+        entityManager.flush();
+        entityManager.clear();
+
+        //when
+        int archived = notificationRetentionService.archiveReadChunk(LocalDateTime.now().plusDays(1), 10);
+
+        //then
+        Assertions.assertThat(archived).isEqualTo(1);
+        Assertions.assertThat(notificationRepository.findById(read.getId())).isEmpty();
+        Assertions.assertThat(notificationRepository.findById(unread.getId())).isPresent();
+        Assertions.assertThat(notificationArchiveRepository.findAll())
+                .extracting("id", "userToId", "status")
+                .containsExactly(Assertions.tuple(read.getId(), userEntity.getId(), READ));
+    }
+
+    @Test
+    @DisplayName("기준 시간 이후에 생성된 알림은 보관하지 않는다")
+    void archiveReadChunkWithRecentNotificationTest() throws Exception {
+        //given
+        UserEntity userEntity = userRepository.save(UserEntityFixture.of());
+        notificationRepository.save(NotificationEntityFixture.of(userEntity, READ));
+        entityManager.flush();
+
+        //when
+        int archived = notificationRetentionService.archiveReadChunk(LocalDateTime.now().minusDays(1), 10);
+
+        //then
+        Assertions.assertThat(archived).isZero();
+        Assertions.assertThat(notificationArchiveRepository.findAll()).isEmpty();
+    }
+
+    private long countAllRows() {
+        return ((Number) entityManager.createNativeQuery("SELECT COUNT(*) FROM notification").getSingleResult()).longValue();
+    }
+}
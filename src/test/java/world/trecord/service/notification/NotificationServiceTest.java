@@ -11,8 +11,10 @@ import world.trecord.domain.feed.FeedEntity;
 import world.trecord.domain.notification.NotificationEntity;
 import world.trecord.domain.record.RecordEntity;
 import world.trecord.domain.users.UserEntity;
+import world.trecord.dto.notification.request.NotificationCursorRequest;
 import world.trecord.dto.notification.response.CheckNewNotificationResponse;
 import world.trecord.dto.notification.response.NotificationResponse;
+import world.trecord.dto.notification.response.NotificationSliceResponse;
 import world.trecord.exception.CustomException;
 import world.trecord.exception.CustomExceptionError;
 import world.trecord.infra.fixture.*;
@@ -100,6 +102,79 @@ class NotificationServiceTest extends AbstractIntegrationTest {
                 .containsOnly(READ);
     }
 
+    @Test
+    @DisplayName("커서로 알림을 조회하면 최신순으로 다음 구간을 반환하고 반환한 알림만 읽음 처리한다")
+    void getNotificationSliceTest() throws Exception {
+        //given
+        UserEntity author = userRepository.save(UserEntityFixture.of("test@email.com"));
+        List<NotificationEntity> notificationEntities = notificationRepository.saveAll(List.of(
+                NotificationEntityFixture.of(author, UNREAD),
+                NotificationEntityFixture.of(author, UNREAD),
+                NotificationEntityFixture.of(author, UNREAD)));
+
+        NotificationCursorRequest firstRequest = NotificationCursorRequest.builder()
+                .size(2)
+                .build();
+
+        //when
+        NotificationSliceResponse firstSlice = notificationService.getNotificationSlice(author.getId(), firstRequest);
+        NotificationSliceResponse secondSlice = notificationService.getNotificationSlice(author.getId(), NotificationCursorRequest.builder()
+                .cursor(firstSlice.getNextCursor())
+                .size(2)
+                .build());
+
+        //then
+        Assertions.assertThat(firstSlice.isHasNext()).isTrue();
+        Assertions.assertThat(firstSlice.getContent())
+                .extracting("id")
+                .containsExactly(notificationEntities.get(2).getId(), notificationEntities.get(1).getId());
+        Assertions.assertThat(secondSlice.isHasNext()).isFalse();
+        Assertions.assertThat(secondSlice.getNextCursor()).isNull();
+        Assertions.assertThat(secondSlice.getContent())
+                .extracting("id")
+                .containsExactly(notificationEntities.get(0).getId());
+        Assertions.assertThat(notificationRepository.findAll())
+                .extracting("status")
+                .containsOnly(READ);
+    }
+
+    @Test
+    @DisplayName("커서로 알림을 조회하면 반환하지 않은 알림은 읽음 처리하지 않는다")
+    void getNotificationSliceMarksOnlyReturnedWindowTest() throws Exception {
+        //given
+        UserEntity author = userRepository.save(UserEntityFixture.of("test@email.com"));
+        List<NotificationEntity> notificationEntities = notificationRepository.saveAll(List.of(
+                NotificationEntityFixture.of(author, UNREAD),
+                NotificationEntityFixture.of(author, UNREAD)));
+
+        //when
+        notificationService.getNotificationSlice(author.getId(), NotificationCursorRequest.builder()
+                .size(1)
+                .build());
+
+        //then
+        Assertions.assertThat(notificationRepository.findById(notificationEntities.get(1).getId()))
+                .hasValueSatisfying(entity -> Assertions.assertThat(entity.getStatus()).isEqualTo(READ));
+        Assertions.assertThat(notificationRepository.findById(notificationEntities.get(0).getId()))
+                .hasValueSatisfying(entity -> Assertions.assertThat(entity.getStatus()).isEqualTo(UNREAD));
+    }
+
+    @Test
+    @DisplayName("올바르지 않은 커서로 알림을 조회하면 예외가 발생한다")
+    void getNotificationSliceWithInvalidCursorTest() throws Exception {
+        //given
+        NotificationCursorRequest request = NotificationCursorRequest.builder()
+                .cursor("invalid-cursor")
+                .size(2)
+                .build();
+
+        //when //then
+        Assertions.assertThatThrownBy(() -> notificationService.getNotificationSlice(0L, request))
+                .isInstanceOf(CustomException.class)
+                .extracting("error")
+                .isEqualTo(CustomExceptionError.INVALID_ARGUMENT);
+    }
+
     @Test
     @DisplayName("알림 엔티티를 저장한 후 반환한다")
     void createNotification() throws Exception {
@@ -147,6 +222,7 @@ class NotificationServiceTest extends AbstractIntegrationTest {
 
         //then
         Assertions.assertThat(response.isHasNewNotification()).isTrue();
+        Assertions.assertThat(response.getUnreadCount()).isEqualTo(1);
     }
 
     @Test
@@ -165,6 +241,7 @@ class NotificationServiceTest extends AbstractIntegrationTest {
 
         //then
         Assertions.assertThat(response.isHasNewNotification()).isFalse();
+        Assertions.assertThat(response.getUnreadCount()).isZero();
     }
 
 
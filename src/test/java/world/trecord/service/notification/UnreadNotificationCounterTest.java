@@ -0,0 +1,84 @@
+package world.trecord.service.notification;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import world.trecord.config.redis.UnreadNotificationCountRepository;
+import world.trecord.domain.notification.NotificationRepository;
+import world.trecord.infra.test.AbstractMockTest;
+
+import java.util.Map;
+import java.util.Optional;
+
+import static org.mockito.Mockito.*;
+import static world.trecord.domain.notification.enumeration.NotificationStatus.UNREAD;
+
+class UnreadNotificationCounterTest extends AbstractMockTest {
+
+    @InjectMocks
+    UnreadNotificationCounter unreadNotificationCounter;
+
+    @Mock
+    UnreadNotificationCountRepository unreadNotificationCountRepository;
+
+    @Mock
+    NotificationRepository notificationRepository;
+
+    @Test
+    @DisplayName("Redis에 카운터가 있으면 DB를 조회하지 않고 반환한다")
+    void getCountFromRedisTest() throws Exception {
+        //given
+        when(unreadNotificationCountRepository.getCount(1L)).thenReturn(Optional.of(3L));
+
+        //when
+        long count = unreadNotificationCounter.getCount(1L);
+
+        //then
+        Assertions.assertThat(count).isEqualTo(3);
+        verifyNoInteractions(notificationRepository);
+    }
+
+    @Test
+    @DisplayName("Redis에 카운터가 없으면 DB에서 읽어 카운터를 채운다")
+    void getCountLoadsFromDatabaseOnMissTest() throws Exception {
+        //given
+        when(unreadNotificationCountRepository.getCount(1L)).thenReturn(Optional.empty());
+        when(notificationRepository.countByUsersToEntityIdAndStatus(1L, UNREAD)).thenReturn(5L);
+
+        //when
+        long count = unreadNotificationCounter.getCount(1L);
+
+        //then
+        Assertions.assertThat(count).isEqualTo(5);
+        verify(unreadNotificationCountRepository).setCountIfAbsent(1L, 5L);
+    }
+
+    @Test
+    @DisplayName("카운터가 음수로 어긋나 있으면 DB에서 다시 읽어 덮어쓴다")
+    void getCountHealsDriftTest() throws Exception {
+        //given
+        when(unreadNotificationCountRepository.getCount(1L)).thenReturn(Optional.of(-2L));
+        when(notificationRepository.countByUsersToEntityIdAndStatus(1L, UNREAD)).thenReturn(0L);
+
+        //when
+        long count = unreadNotificationCounter.getCount(1L);
+
+        //then
+        Assertions.assertThat(count).isZero();
+        verify(unreadNotificationCountRepository).setCount(1L, 0L);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서는 카운터 변경과 삭제를 바로 적용한다")
+    void incrementAndEvictWithoutTransactionTest() throws Exception {
+        //when
+        unreadNotificationCounter.incrementAfterCommit(Map.of(1L, 2L));
+        unreadNotificationCounter.evictAfterCommit(2L);
+
+        //then
+        verify(unreadNotificationCountRepository).increment(1L, 2L);
+        verify(unreadNotificationCountRepository).evict(2L);
+    }
+}
@@ -0,0 +1,72 @@
+package world.trecord.service.purge;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import world.trecord.domain.feed.FeedEntity;
+import world.trecord.domain.record.RecordEntity;
+import world.trecord.domain.users.UserEntity;
+import world.trecord.infra.fixture.FeedEntityFixture;
+import world.trecord.infra.fixture.RecordEntityFixture;
+import world.trecord.infra.fixture.UserEntityFixture;
+import world.trecord.infra.test.AbstractConcurrencyTest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static world.trecord.domain.purge.PurgeTarget.RECORD;
+
+class PurgeChunkServiceConcurrencyTest extends AbstractConcurrencyTest {
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdown();
+        purgeCheckpointRepository.deleteAllInBatch();
+        recordRepository.physicallyDeleteAll();
+        feedRepository.physicallyDeleteAll();
+        userRepository.physicallyDeleteAll();
+    }
+
+    @Test
+    @DisplayName("여러 인스턴스가 동시에 정리해도 같은 청크를 두 번 정리하지 않고 체크포인트를 차례로 옮긴다")
+    void purgeChunkConcurrencyTest() throws Exception {
+        //given
+        final int CHUNK_SIZE = 2;
+        final int CHUNK_COUNT = 4;
+
+        UserEntity userEntity = userRepository.save(UserEntityFixture.of());
+        FeedEntity feedEntity = feedRepository.save(FeedEntityFixture.of(userEntity));
+        List<RecordEntity> recordEntities = recordRepository.saveAll(IntStream.rangeClosed(1, CHUNK_SIZE * CHUNK_COUNT + 1)
+                .mapToObj(sequence -> RecordEntityFixture.of(userEntity, feedEntity, sequence))
+                .toList());
+        recordRepository.deleteAll(recordEntities);
+
+        LocalDateTime threshold = LocalDateTime.now().plusDays(1);
+        List<Callable<PurgeChunkResult>> tasks = generateConcurrentTasks(CHUNK_COUNT, () -> purgeChunkService.purgeChunk(RECORD, threshold, CHUNK_SIZE));
+
+        //when
+        List<Future<PurgeChunkResult>> futures = executorService.invokeAll(tasks);
+
+        //then
+        List<PurgeChunkResult> results = futures.stream().map(this::getQuietly).toList();
+        Assertions.assertThat(results)
+                .extracting(PurgeChunkResult::deleted)
+                .containsOnly(CHUNK_SIZE);
+        Assertions.assertThat(results)
+                .extracting(PurgeChunkResult::checkpoint)
+                .doesNotHaveDuplicates();
+        Assertions.assertThat(purgeChunkService.findCheckpoint(RECORD)).isEqualTo(recordEntities.get(CHUNK_SIZE * CHUNK_COUNT - 1).getId());
+    }
+
+    private <T> T getQuietly(Future<T> future) {
+        try {
+            return future.get();
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
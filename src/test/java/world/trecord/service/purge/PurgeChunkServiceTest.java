@@ -0,0 +1,141 @@
+package world.trecord.service.purge;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.annotation.Transactional;
+import world.trecord.domain.comment.CommentEntity;
+import world.trecord.domain.feed.FeedEntity;
+import world.trecord.domain.record.RecordEntity;
+import world.trecord.domain.users.UserEntity;
+import world.trecord.infra.fixture.CommentEntityFixture;
+import world.trecord.infra.fixture.FeedEntityFixture;
+import world.trecord.infra.fixture.RecordEntityFixture;
+import world.trecord.infra.fixture.UserEntityFixture;
+import world.trecord.infra.test.AbstractIntegrationTest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static world.trecord.domain.purge.PurgeTarget.*;
+
+@Transactional
+class PurgeChunkServiceTest extends AbstractIntegrationTest {
+
+    @Test
+    @DisplayName("기준 시간 이전에 삭제된 행을 청크 크기만큼 PK 순서로 물리 삭제하고 체크포인트를 저장한다")
+    void purgeChunkTest() throws Exception {
+        //given
+        UserEntity userEntity = userRepository.save(UserEntityFixture.of());
+        FeedEntity feedEntity = feedRepository.save(FeedEntityFixture.of(userEntity));
+        List<RecordEntity> recordEntities = recordRepository.saveAll(List.of(
+                RecordEntityFixture.of(userEntity, feedEntity, 1),
+                RecordEntityFixture.of(userEntity, feedEntity, 2),
+                RecordEntityFixture.of(userEntity, feedEntity, 3)));
+        recordRepository.deleteAll(recordEntities);
+        entityManager.flush();
+        entityManager.clear();
+
+        //when
+        PurgeChunkResult result = purgeChunkService.purgeChunk(RECORD, LocalDateTime.now().plusDays(1), 2);
+
+        //then
+        Assertions.assertThat(result.deleted()).isEqualTo(2);
+        Assertions.assertThat(result.checkpoint()).isEqualTo(recordEntities.get(1).getId());
+        Assertions.assertThat(purgeChunkService.findCheckpoint(RECORD)).isEqualTo(recordEntities.get(1).getId());
+        Assertions.assertThat(countRows("record")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("체크포인트 이후부터 이어서 삭제하고 끝까지 정리하면 체크포인트를 초기화한다")
+    void purgeChunkResumeFromCheckpointTest() throws Exception {
+        //given
+        UserEntity userEntity = userRepository.save(UserEntityFixture.of());
+        FeedEntity feedEntity = feedRepository.save(FeedEntityFixture.of(userEntity));
+        List<RecordEntity> recordEntities = recordRepository.saveAll(List.of(
+                RecordEntityFixture.of(userEntity, feedEntity, 1),
+                RecordEntityFixture.of(userEntity, feedEntity, 2),
+                RecordEntityFixture.of(userEntity, feedEntity, 3)));
+        recordRepository.deleteAll(recordEntities);
+        entityManager.flush();
+        entityManager.clear();
+
+        purgeChunkService.purgeChunk(RECORD, LocalDateTime.now().plusDays(1), 2);
+
+        //when
+        PurgeChunkResult result = purgeChunkService.purgeChunk(RECORD, LocalDateTime.now().plusDays(1), 2);
+
+        //then
+        Assertions.assertThat(result.deleted()).isEqualTo(1);
+        Assertions.assertThat(result.isLastChunk(2)).isTrue();
+        Assertions.assertThat(purgeChunkService.findCheckpoint(RECORD)).isZero();
+        Assertions.assertThat(countRows("record")).isZero();
+    }
+
+    @Test
+    @DisplayName("자식 행이 남아 있는 부모 행은 삭제되었더라도 물리 삭제하지 않는다")
+    void purgeChunkWithReferencedParentTest() throws Exception {
+        //given
+        UserEntity userEntity = userRepository.save(UserEntityFixture.of());
+        FeedEntity feedEntity = feedRepository.save(FeedEntityFixture.of(userEntity));
+        RecordEntity recordEntity = recordRepository.save(RecordEntityFixture.of(userEntity, feedEntity, 1));
+        CommentEntity commentEntity = commentRepository.save(CommentEntityFixture.of(userEntity, recordEntity));
+        recordRepository.delete(recordEntity);
+        entityManager.flush();
+        entityManager.clear();
+
+        //when
+        PurgeChunkResult result = purgeChunkService.purgeChunk(RECORD, LocalDateTime.now().plusDays(1), 10);
+
+        //then
+        Assertions.assertThat(result.deleted()).isZero();
+        Assertions.assertThat(countRows("record")).isEqualTo(1);
+        Assertions.assertThat(commentRepository.findById(commentEntity.getId())).isPresent();
+    }
+
+    @Test
+    @DisplayName("자식 테이블부터 정리하면 부모 행까지 물리 삭제된다")
+    void purgeChunkInForeignKeyOrderTest() throws Exception {
+        //given
+        UserEntity userEntity = userRepository.save(UserEntityFixture.of());
+        FeedEntity feedEntity = feedRepository.save(FeedEntityFixture.of(userEntity));
+        RecordEntity recordEntity = recordRepository.save(RecordEntityFixture.of(userEntity, feedEntity, 1));
+        CommentEntity commentEntity = commentRepository.save(CommentEntityFixture.of(userEntity, recordEntity));
+        commentRepository.delete(commentEntity);
+        recordRepository.delete(recordEntity);
+        feedRepository.delete(feedEntity);
+        entityManager.flush();
+        entityManager.clear();
+
+        //when
+        for (var target : List.of(COMMENT, RECORD, FEED)) {
+            purgeChunkService.purgeChunk(target, LocalDateTime.now().plusDays(1), 10);
+        }
+
+        //then
+        Assertions.assertThat(countRows("comment")).isZero();
+        Assertions.assertThat(countRows("record")).isZero();
+        Assertions.assertThat(countRows("feed")).isZero();
+    }
+
+    @Test
+    @DisplayName("기준 시간 이후에 삭제된 행은 물리 삭제하지 않는다")
+    void purgeChunkWithRecentlyDeletedRowTest() throws Exception {
+        //given
+        UserEntity userEntity = userRepository.save(UserEntityFixture.of());
+        FeedEntity feedEntity = feedRepository.save(FeedEntityFixture.of(userEntity));
+        feedRepository.delete(feedEntity);
+        entityManager.flush();
+
+        //when
+        PurgeChunkResult result = purgeChunkService.purgeChunk(FEED, LocalDateTime.now().minusDays(1), 10);
+
+        //then
+        Assertions.assertThat(result.deleted()).isZero();
+        Assertions.assertThat(countRows("feed")).isEqualTo(1);
+    }
+
+    private long countRows(String tableName) {
+        return ((Number) entityManager.createNativeQuery("SELECT COUNT(*) FROM " + tableName).getSingleResult()).longValue();
+    }
+}
@@ -0,0 +1,172 @@
+package world.trecord.service.record;
+
+import lombok.extern.slf4j.Slf4j;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import world.trecord.domain.feed.FeedEntity;
+import world.trecord.domain.users.UserEntity;
+import world.trecord.dto.record.request.RecordBatchCreateRequest;
+import world.trecord.dto.record.request.RecordCreateRequest;
+import world.trecord.dto.record.response.RecordBatchCreateResponse;
+import world.trecord.infra.fixture.FeedEntityFixture;
+import world.trecord.infra.fixture.UserEntityFixture;
+import world.trecord.infra.test.AbstractConcurrencyTest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+@Slf4j
+class RecordSequenceAllocationConcurrencyTest extends AbstractConcurrencyTest {
+
+    private static final LocalDateTime DATE = LocalDateTime.of(2023, 1, 1, 0, 0);
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdown();
+        recordRepository.physicallyDeleteAll();
+        recordSequenceRepository.physicallyDeleteAll();
+        feedRepository.physicallyDeleteAll();
+        userRepository.physicallyDeleteAll();
+    }
+
+    @Test
+    @DisplayName("같은 피드와 날짜에 동시에 순서를 할당해도 1부터 빠짐없이 중복 없이 할당된다")
+    void allocateConcurrencyTest() throws Exception {
+        //given
+        final int TOTAL_REQUEST_COUNT = 200;
+
+        UserEntity userEntity = userRepository.save(UserEntityFixture.of());
+        FeedEntity feedEntity = feedRepository.save(FeedEntityFixture.of(userEntity));
+
+        List<Callable<Integer>> tasks = generateConcurrentTasks(TOTAL_REQUEST_COUNT, () -> recordSequenceRepository.allocate(feedEntity.getId(), DATE, 1));
+
+        //when
+        List<Future<Integer>> futures = executorService.invokeAll(tasks);
+
+        //then
+        List<Integer> sequences = futures.stream().map(this::getQuietly).toList();
+        Assertions.assertThat(sequences)
+                .doesNotHaveDuplicates()
+                .containsExactlyInAnyOrderElementsOf(IntStream.rangeClosed(1, TOTAL_REQUEST_COUNT).boxed().toList());
+    }
+
+    @Test
+    @DisplayName("여러 개의 순서를 한 번에 할당하면 할당된 구간의 마지막 순서를 반환한다")
+    void allocateBlockTest() throws Exception {
+        //given
+        UserEntity userEntity = userRepository.save(UserEntityFixture.of());
+        FeedEntity feedEntity = feedRepository.save(FeedEntityFixture.of(userEntity));
+
+        //when
+        int firstBlockEnd = recordSequenceRepository.allocate(feedEntity.getId(), DATE, 5);
+        int secondBlockEnd = recordSequenceRepository.allocate(feedEntity.getId(), DATE, 3);
+
+        //then
+        Assertions.assertThat(firstBlockEnd).isEqualTo(5);
+        Assertions.assertThat(secondBlockEnd).isEqualTo(8);
+    }
+
+    @ValueSource(ints = {1, 2, 4, 8})
+    @ParameterizedTest
+    @DisplayName("작성자 수를 늘려도 같은 날짜의 기록 순서는 중복되지 않는다")
+    void createRecordThroughputTest(int writers) throws Exception {
+        //given
+        final int RECORDS_PER_WRITER = 50;
+
+        UserEntity userEntity = userRepository.save(UserEntityFixture.of());
+        FeedEntity feedEntity = feedRepository.save(FeedEntityFixture.of(userEntity));
+        ExecutorService writerPool = Executors.newFixedThreadPool(writers);
+
+        List<Callable<Void>> tasks = IntStream.range(0, writers)
+                .<Callable<Void>>mapToObj(i -> () -> {
+                    for (int j = 0; j < RECORDS_PER_WRITER; j++) {
+                        recordService.createRecord(userEntity.getId(), buildCreateRequest(feedEntity));
+                    }
+                    return null;
+                })
+                .toList();
+
+        //when
+        long startedAt = System.nanoTime();
+        List<Future<Void>> futures = writerPool.invokeAll(tasks);
+        futures.forEach(this::getQuietly);
+        double elapsedSeconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+        writerPool.shutdown();
+
+        //then
+        int totalRecords = writers * RECORDS_PER_WRITER;
+        log.info("record creation with [{}] writers: [{}] records/s", writers, Math.round(totalRecords / elapsedSeconds));
+
+        Assertions.assertThat(recordRepository.findAll())
+                .extracting("sequence")
+                .hasSize(totalRecords)
+                .doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("기록 일괄 생성은 한 건씩 생성하는 것보다 처리량이 높다")
+    void createRecordsThroughputTest() throws Exception {
+        //given
+        final int RECORD_COUNT = 500;
+
+        UserEntity userEntity = userRepository.save(UserEntityFixture.of());
+        FeedEntity loopFeed = feedRepository.save(FeedEntityFixture.of(userEntity));
+        FeedEntity batchFeed = feedRepository.save(FeedEntityFixture.of(userEntity));
+        RecordBatchCreateRequest batchRequest = RecordBatchCreateRequest.builder()
+                .records(IntStream.range(0, RECORD_COUNT).mapToObj(i -> buildCreateRequest(batchFeed)).toList())
+                .build();
+
+        //when
+        long loopStartedAt = System.nanoTime();
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            recordService.createRecord(userEntity.getId(), buildCreateRequest(loopFeed));
+        }
+        double loopElapsedSeconds = (System.nanoTime() - loopStartedAt) / 1_000_000_000.0;
+
+        long batchStartedAt = System.nanoTime();
+        RecordBatchCreateResponse response = recordService.createRecords(userEntity.getId(), batchRequest);
+        double batchElapsedSeconds = (System.nanoTime() - batchStartedAt) / 1_000_000_000.0;
+
+        //then
+        double loopThroughput = RECORD_COUNT / loopElapsedSeconds;
+        double batchThroughput = RECORD_COUNT / batchElapsedSeconds;
+        log.info("creating [{}] records: createRecord loop [{}] records/s, createRecords [{}] records/s ({}x)",
+                RECORD_COUNT, Math.round(loopThroughput), Math.round(batchThroughput), Math.round(batchThroughput / loopThroughput));
+
+        Assertions.assertThat(response.getCreatedCount()).isEqualTo(RECORD_COUNT);
+        Assertions.assertThat(recordRepository.findAll()).hasSize(RECORD_COUNT * 2);
+        Assertions.assertThat(batchThroughput).isGreaterThan(loopThroughput);
+    }
+
+    private <T> T getQuietly(Future<T> future) {
+        try {
+            return future.get();
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private RecordCreateRequest buildCreateRequest(FeedEntity feedEntity) {
+        return RecordCreateRequest.builder()
+                .feedId(feedEntity.getId())
+                .title("title")
+                .date(DATE)
+                .place("jeju")
+                .latitude("latitude")
+                .longitude("longitude")
+                .feeling("feeling")
+                .weather("weather")
+                .transportation("best")
+                .content("content")
+                .build();
+    }
+}
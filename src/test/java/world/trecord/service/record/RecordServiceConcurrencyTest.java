@@ -1,15 +1,20 @@
 package world.trecord.service.record;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
 import world.trecord.domain.feed.FeedEntity;
 import world.trecord.domain.record.RecordEntity;
 import world.trecord.domain.users.UserEntity;
 import world.trecord.dto.record.request.RecordCreateRequest;
+import world.trecord.dto.record.request.RecordSequenceReorderRequest;
 import world.trecord.dto.record.request.RecordSequenceSwapRequest;
 import world.trecord.dto.record.response.RecordCreateResponse;
 import world.trecord.infra.fixture.FeedEntityFixture;
@@ -18,13 +23,22 @@ import world.trecord.infra.fixture.UserEntityFixture;
 import world.trecord.infra.test.AbstractConcurrencyTest;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
 
+@Slf4j
 class RecordServiceConcurrencyTest extends AbstractConcurrencyTest {
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @AfterEach
     void tearDown() {
         executorService.shutdown();
@@ -70,7 +84,7 @@ class RecordServiceConcurrencyTest extends AbstractConcurrencyTest {
 
         Assertions.assertThat(recordRepository.findMaxSequenceByFeedEntityIdAndDate(feedEntity.getId(), buildCreateRequest(feedEntity).getDate()))
                 .isPresent()
-                .hasValue(TOTAL_REQUEST_COUNT);
+                .hasValue(TOTAL_REQUEST_COUNT * RecordSequenceRebalancer.SEQUENCE_GAP);
     }
 
     @CsvSource({"10,1,2", "11,2,1"})
@@ -112,6 +126,73 @@ class RecordServiceConcurrencyTest extends AbstractConcurrencyTest {
         Assertions.assertThat(recordRepository.findById(recordEntity2.getId()).get().getSequence()).isEqualTo(expectedSecondRecordSequence);
     }
 
+    @Test
+    @DisplayName("하루 기록 전체를 뒤집을 때 일괄 순서 변경은 스왑 반복과 같은 순서를 만들고 지연 시간과 락 점유 시간을 비교한다")
+    void reorderComparedToSwapLoopTest() throws Exception {
+        //given
+        final int RECORD_COUNT = 40;
+
+        UserEntity userEntity = userRepository.save(UserEntityFixture.of());
+        FeedEntity swapFeed = feedRepository.save(FeedEntityFixture.of(userEntity));
+        FeedEntity reorderFeed = feedRepository.save(FeedEntityFixture.of(userEntity));
+        List<RecordEntity> swapRecords = recordRepository.saveAll(IntStream.rangeClosed(1, RECORD_COUNT)
+                .mapToObj(sequence -> RecordEntityFixture.of(userEntity, swapFeed, sequence))
+                .toList());
+        List<RecordEntity> reorderRecords = recordRepository.saveAll(IntStream.rangeClosed(1, RECORD_COUNT)
+                .mapToObj(sequence -> RecordEntityFixture.of(userEntity, reorderFeed, sequence))
+                .toList());
+
+        Timer swapLockHold = lockHoldTimer("swap");
+        Timer reorderLockHold = lockHoldTimer("reorder");
+        long swapHoldsBefore = swapLockHold.count();
+        double swapHoldMillisBefore = swapLockHold.totalTime(TimeUnit.MILLISECONDS);
+        double reorderHoldMillisBefore = reorderLockHold.totalTime(TimeUnit.MILLISECONDS);
+
+        //when
+        long swapStartedAt = System.nanoTime();
+        for (int i = 0; i < RECORD_COUNT / 2; i++) {
+            recordService.swapRecordSequence(userEntity.getId(), buildSwapRequest(swapRecords.get(i), swapRecords.get(RECORD_COUNT - 1 - i)));
+        }
+        long swapElapsedMillis = (System.nanoTime() - swapStartedAt) / 1_000_000;
+
+        List<Long> reversedRecordIds = new ArrayList<>(reorderRecords.stream().map(RecordEntity::getId).toList());
+        Collections.reverse(reversedRecordIds);
+
+        long reorderStartedAt = System.nanoTime();
+        recordService.reorderRecordSequences(userEntity.getId(), RecordSequenceReorderRequest.builder()
+                .feedId(reorderFeed.getId())
+                .date(reorderRecords.get(0).getDate())
+                .recordIds(reversedRecordIds)
+                .build());
+        long reorderElapsedMillis = (System.nanoTime() - reorderStartedAt) / 1_000_000;
+
+        //then
+        long swapHolds = swapLockHold.count() - swapHoldsBefore;
+        double swapHoldMillis = swapLockHold.totalTime(TimeUnit.MILLISECONDS) - swapHoldMillisBefore;
+        double reorderHoldMillis = reorderLockHold.totalTime(TimeUnit.MILLISECONDS) - reorderHoldMillisBefore;
+        log.info("reversing [{}] records: swap loop [{}] ms, locks held [{}] ms over [{}] transactions; reorder [{}] ms, locks held [{}] ms in 1 transaction",
+                RECORD_COUNT, swapElapsedMillis, Math.round(swapHoldMillis), swapHolds, reorderElapsedMillis, Math.round(reorderHoldMillis));
+
+        Assertions.assertThat(swapHolds).isEqualTo(RECORD_COUNT / 2);
+        Assertions.assertThat(reorderLockHold.count()).isPositive();
+
+        Assertions.assertThat(orderOf(swapRecords)).containsExactlyElementsOf(IntStream.range(0, RECORD_COUNT).map(i -> RECORD_COUNT - 1 - i).boxed().toList());
+        Assertions.assertThat(orderOf(reorderRecords)).containsExactlyElementsOf(orderOf(swapRecords));
+    }
+
+    private Timer lockHoldTimer(String operation) {
+        return meterRegistry.timer("record.sequence.lock.hold", "operation", operation);
+    }
+
+    // Original index of each record, listed in ascending sequence order
+    private List<Integer> orderOf(List<RecordEntity> recordEntities) {
+        List<Long> recordIds = recordEntities.stream().map(RecordEntity::getId).toList();
+        return recordRepository.findAllById(recordIds).stream()
+                .sorted(Comparator.comparingInt(RecordEntity::getSequence))
+                .map(recordEntity -> recordIds.indexOf(recordEntity.getId()))
+                .toList();
+    }
+
     private RecordSequenceSwapRequest buildSwapRequest(RecordEntity recordEntity1, RecordEntity recordEntity2) {
         return RecordSequenceSwapRequest.builder()
                 .originalRecordId(recordEntity1.getId())
@@ -11,9 +11,14 @@ import world.trecord.domain.feed.FeedEntity;
 import world.trecord.domain.feedcontributor.FeedContributorEntity;
 import world.trecord.domain.record.RecordEntity;
 import world.trecord.domain.users.UserEntity;
+import world.trecord.dto.record.request.RecordBatchCreateRequest;
 import world.trecord.dto.record.request.RecordCreateRequest;
+import world.trecord.dto.record.request.RecordSequenceMoveRequest;
+import world.trecord.dto.record.request.RecordSequenceReorderRequest;
 import world.trecord.dto.record.request.RecordSequenceSwapRequest;
 import world.trecord.dto.record.request.RecordUpdateRequest;
+import world.trecord.dto.record.response.RecordBatchCreateResponse;
+import world.trecord.dto.record.response.RecordBatchItemResponse;
 import world.trecord.dto.record.response.RecordCommentResponse;
 import world.trecord.dto.record.response.RecordCreateResponse;
 import world.trecord.dto.record.response.RecordInfoResponse;
@@ -301,7 +306,7 @@ class RecordServiceTest extends AbstractIntegrationTest {
         Assertions.assertThat(all)
                 .hasSize(2)
                 .extracting("sequence")
-                .containsExactly(sequence, sequence + 1);
+                .containsExactly(sequence, sequence + RecordSequenceRebalancer.SEQUENCE_GAP);
     }
 
     @Test
@@ -339,6 +344,80 @@ class RecordServiceTest extends AbstractIntegrationTest {
                 .isEqualTo(FORBIDDEN);
     }
 
+    @Test
+    @DisplayName("기록을 일괄 생성하면 날짜별로 마지막 순서 번호 다음부터 요청 순서대로 순서 번호를 가진다")
+    void createRecordsTest() throws Exception {
+        //given
+        UserEntity writer = userRepository.save(UserEntityFixture.of("test@email.com"));
+        FeedEntity feedEntity = feedRepository.save(FeedEntityFixture.of(writer));
+        LocalDateTime day1 = LocalDateTime.of(2022, 3, 2, 0, 0);
+        LocalDateTime day2 = LocalDateTime.of(2022, 3, 3, 0, 0);
+        recordService.createRecord(writer.getId(), buildBatchItem(feedEntity.getId(), day1));
+
+        RecordBatchCreateRequest request = RecordBatchCreateRequest.builder()
+                .records(List.of(
+                        buildBatchItem(feedEntity.getId(), day1),
+                        buildBatchItem(feedEntity.getId(), day2),
+                        buildBatchItem(feedEntity.getId(), day1)))
+                .build();
+
+        //when
+        RecordBatchCreateResponse response = recordService.createRecords(writer.getId(), request);
+
+        //then
+        Assertions.assertThat(response.getCreatedCount()).isEqualTo(3);
+        Assertions.assertThat(response.getFailedCount()).isZero();
+        Assertions.assertThat(response.getResults())
+                .extracting("index", "created", "sequence")
+                .containsExactly(
+                        tuple(0, true, RecordSequenceRebalancer.SEQUENCE_GAP * 2),
+                        tuple(1, true, RecordSequenceRebalancer.SEQUENCE_GAP),
+                        tuple(2, true, RecordSequenceRebalancer.SEQUENCE_GAP * 3));
+        Assertions.assertThat(recordRepository.findAllById(response.getResults().stream().map(RecordBatchItemResponse::getRecordId).toList()))
+                .extracting("title", "date", "sequence")
+                .containsExactlyInAnyOrder(
+                        tuple("title", day1, RecordSequenceRebalancer.SEQUENCE_GAP * 2),
+                        tuple("title", day2, RecordSequenceRebalancer.SEQUENCE_GAP),
+                        tuple("title", day1, RecordSequenceRebalancer.SEQUENCE_GAP * 3));
+    }
+
+    @Test
+    @DisplayName("기록을 일괄 생성할 때 실패한 항목은 에러 정보를 반환하고 나머지 항목은 생성된다")
+    void createRecordsWithPartialFailureTest() throws Exception {
+        //given
+        long notExistingFeedId = 0L;
+        UserEntity writer = userRepository.save(UserEntityFixture.of("test@email.com"));
+        UserEntity other = userRepository.save(UserEntityFixture.of("test1@email.com"));
+        FeedEntity feedEntity = feedRepository.save(FeedEntityFixture.of(writer));
+        FeedEntity otherFeedEntity = feedRepository.save(FeedEntityFixture.of(other));
+        LocalDateTime date = LocalDateTime.of(2022, 3, 2, 0, 0);
+
+        RecordBatchCreateRequest request = RecordBatchCreateRequest.builder()
+                .records(List.of(
+                        buildBatchItem(feedEntity.getId(), date),
+                        buildBatchItem(otherFeedEntity.getId(), date),
+                        buildBatchItem(notExistingFeedId, date),
+                        buildBatchItem(feedEntity.getId(), LocalDateTime.of(2023, 1, 1, 0, 0))))
+                .build();
+
+        //when
+        RecordBatchCreateResponse response = recordService.createRecords(writer.getId(), request);
+
+        //then
+        Assertions.assertThat(response.getCreatedCount()).isEqualTo(1);
+        Assertions.assertThat(response.getFailedCount()).isEqualTo(3);
+        Assertions.assertThat(response.getResults())
+                .extracting("index", "created", "errorCode")
+                .containsExactly(
+                        tuple(0, true, null),
+                        tuple(1, false, FORBIDDEN.code()),
+                        tuple(2, false, FEED_NOT_FOUND.code()),
+                        tuple(3, false, INVALID_ARGUMENT.code()));
+        Assertions.assertThat(recordRepository.findAll())
+                .extracting("sequence")
+                .containsExactly(RecordSequenceRebalancer.SEQUENCE_GAP);
+    }
+
     @Test
     @DisplayName("피드 작성자가 본인의 기록을 수정 요청하면 수정된 기록 정보를 반환한다")
     void updateRecordTest() throws Exception {
@@ -729,4 +808,224 @@ class RecordServiceTest extends AbstractIntegrationTest {
                 .extracting("error")
                 .isEqualTo(FORBIDDEN);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("기록을 원하는 위치로 옮길 때 앞뒤 기록 사이에 빈 순서가 있으면 옮기는 기록의 순서만 변경한다")
+    void moveRecordSequenceIntoGapTest() throws Exception {
+        //given
+        UserEntity writer = userRepository.save(UserEntityFixture.of("test@email.com"));
+        FeedEntity feedEntity = feedRepository.save(FeedEntityFixture.of(writer));
+        RecordEntity recordEntity1 = recordRepository.save(RecordEntityFixture.of(writer, feedEntity, 1024));
+        RecordEntity recordEntity2 = recordRepository.save(RecordEntityFixture.of(writer, feedEntity, 2048));
+        RecordEntity recordEntity3 = recordRepository.save(RecordEntityFixture.of(writer, feedEntity, 3072));
+
+        RecordSequenceMoveRequest request = RecordSequenceMoveRequest.builder()
+                .recordId(recordEntity3.getId())
+                .position(1)
+                .build();
+
+        //when
+        recordService.moveRecordSequence(writer.getId(), request);
+
+        //then
+        Assertions.assertThat(recordRepository.findAllById(List.of(recordEntity1.getId(), recordEntity2.getId(), recordEntity3.getId())))
+                .extracting("id", "sequence")
+                .containsExactlyInAnyOrder(
+                        tuple(recordEntity1.getId(), 1024),
+                        tuple(recordEntity2.getId(), 2048),
+                        tuple(recordEntity3.getId(), 512)
+                );
+    }
+
+    @Test
+    @DisplayName("기록을 옮길 위치에 빈 순서가 없으면 같은 날짜의 기록 순서를 간격을 두고 다시 매긴다")
+    void moveRecordSequenceWithoutGapTest() throws Exception {
+        //given
+        UserEntity writer = userRepository.save(UserEntityFixture.of("test@email.com"));
+        FeedEntity feedEntity = feedRepository.save(FeedEntityFixture.of(writer));
+        RecordEntity recordEntity1 = recordRepository.save(RecordEntityFixture.of(writer, feedEntity, 1));
+        RecordEntity recordEntity2 = recordRepository.save(RecordEntityFixture.of(writer, feedEntity, 2));
+        RecordEntity recordEntity3 = recordRepository.save(RecordEntityFixture.of(writer, feedEntity, 3));
+
+        RecordSequenceMoveRequest request = RecordSequenceMoveRequest.builder()
+                .recordId(recordEntity3.getId())
+                .position(2)
+                .build();
+
+        //when
+        recordService.moveRecordSequence(writer.getId(), request);
+
+        //then
+        Assertions.assertThat(recordRepository.findAllById(List.of(recordEntity1.getId(), recordEntity2.getId(), recordEntity3.getId())))
+                .extracting("id", "sequence")
+                .containsExactlyInAnyOrder(
+                        tuple(recordEntity1.getId(), RecordSequenceRebalancer.SEQUENCE_GAP),
+                        tuple(recordEntity3.getId(), RecordSequenceRebalancer.SEQUENCE_GAP * 2),
+                        tuple(recordEntity2.getId(), RecordSequenceRebalancer.SEQUENCE_GAP * 3)
+                );
+    }
+
+    @Test
+    @DisplayName("새로 생성한 기록 사이로 기록을 옮기면 다시 매기지 않고 옮긴 기록의 순서만 바꾼다")
+    void moveRecordSequenceBetweenCreatedRecordsTest() throws Exception {
+        //given
+        UserEntity writer = userRepository.save(UserEntityFixture.of("test@email.com"));
+        FeedEntity feedEntity = feedRepository.save(FeedEntityFixture.of(writer));
+        LocalDateTime date = LocalDateTime.of(2022, 3, 2, 0, 0);
+        Long recordId1 = recordService.createRecord(writer.getId(), buildBatchItem(feedEntity.getId(), date)).getRecordId();
+        Long recordId2 = recordService.createRecord(writer.getId(), buildBatchItem(feedEntity.getId(), date)).getRecordId();
+        Long recordId3 = recordService.createRecord(writer.getId(), buildBatchItem(feedEntity.getId(), date)).getRecordId();
+
+        RecordSequenceMoveRequest request = RecordSequenceMoveRequest.builder()
+                .recordId(recordId3)
+                .position(2)
+                .build();
+
+        //when
+        recordService.moveRecordSequence(writer.getId(), request);
+
+        //then
+        Assertions.assertThat(recordRepository.findAllById(List.of(recordId1, recordId2, recordId3)))
+                .extracting("id", "sequence")
+                .containsExactlyInAnyOrder(
+                        tuple(recordId1, RecordSequenceRebalancer.SEQUENCE_GAP),
+                        tuple(recordId2, RecordSequenceRebalancer.SEQUENCE_GAP * 2),
+                        tuple(recordId3, RecordSequenceRebalancer.SEQUENCE_GAP + RecordSequenceRebalancer.SEQUENCE_GAP / 2)
+                );
+    }
+
+    @Test
+    @DisplayName("기록을 마지막 위치로 옮기면 같은 날짜의 다음 순서 번호를 가진다")
+    void moveRecordSequenceToLastTest() throws Exception {
+        //given
+        UserEntity writer = userRepository.save(UserEntityFixture.of("test@email.com"));
+        FeedEntity feedEntity = feedRepository.save(FeedEntityFixture.of(writer));
+        RecordEntity recordEntity1 = recordRepository.save(RecordEntityFixture.of(writer, feedEntity, 1));
+        recordRepository.save(RecordEntityFixture.of(writer, feedEntity, 2));
+        recordRepository.save(RecordEntityFixture.of(writer, feedEntity, 3));
+
+        RecordSequenceMoveRequest request = RecordSequenceMoveRequest.builder()
+                .recordId(recordEntity1.getId())
+                .position(10)
+                .build();
+
+        //when
+        recordService.moveRecordSequence(writer.getId(), request);
+
+        //then
+        Assertions.assertThat(recordRepository.findById(recordEntity1.getId()))
+                .isPresent()
+                .hasValueSatisfying(recordEntity -> {
+                    Assertions.assertThat(recordEntity.getSequence()).isEqualTo(3 + RecordSequenceRebalancer.SEQUENCE_GAP);
+                });
+    }
+
+    @Test
+    @DisplayName("피드 수정 권한이 없는 사용자가 기록 순서 이동 요청하면 FORBIDDEN 예외가 발생한다")
+    void moveRecordSequenceWhenUserForbiddenTest() throws Exception {
+        //given
+        UserEntity writer = userRepository.save(UserEntityFixture.of("test@email.com"));
+        UserEntity other = userRepository.save(UserEntityFixture.of("test1@email.com"));
+        FeedEntity feedEntity = feedRepository.save(FeedEntityFixture.of(writer));
+        RecordEntity recordEntity = recordRepository.save(RecordEntityFixture.of(writer, feedEntity, 1));
+
+        RecordSequenceMoveRequest request = RecordSequenceMoveRequest.builder()
+                .recordId(recordEntity.getId())
+                .position(1)
+                .build();
+
+        //when //then
+        Assertions.assertThatThrownBy(() -> recordService.moveRecordSequence(other.getId(), request))
+                .isInstanceOf(CustomException.class)
+                .extracting("error")
+                .isEqualTo(FORBIDDEN);
+    }
+
+    @Test
+    @DisplayName("같은 날짜의 기록 전체 순서를 한 번에 요청한 순서대로 변경한다")
+    void reorderRecordSequencesTest() throws Exception {
+        //given
+        UserEntity writer = userRepository.save(UserEntityFixture.of("test@email.com"));
+        FeedEntity feedEntity = feedRepository.save(FeedEntityFixture.of(writer));
+        RecordEntity recordEntity1 = recordRepository.save(RecordEntityFixture.of(writer, feedEntity, 1));
+        RecordEntity recordEntity2 = recordRepository.save(RecordEntityFixture.of(writer, feedEntity, 2));
+        RecordEntity recordEntity3 = recordRepository.save(RecordEntityFixture.of(writer, feedEntity, 3));
+
+        RecordSequenceReorderRequest request = RecordSequenceReorderRequest.builder()
+                .feedId(feedEntity.getId())
+                .date(recordEntity1.getDate())
+                .recordIds(List.of(recordEntity3.getId(), recordEntity1.getId(), recordEntity2.getId()))
+                .build();
+
+        //when
+        recordService.reorderRecordSequences(writer.getId(), request);
+
+        //then
+        Assertions.assertThat(recordRepository.findAllById(List.of(recordEntity1.getId(), recordEntity2.getId(), recordEntity3.getId())))
+                .extracting("id", "sequence")
+                .containsExactlyInAnyOrder(
+                        tuple(recordEntity3.getId(), RecordSequenceRebalancer.SEQUENCE_GAP),
+                        tuple(recordEntity1.getId(), RecordSequenceRebalancer.SEQUENCE_GAP * 2),
+                        tuple(recordEntity2.getId(), RecordSequenceRebalancer.SEQUENCE_GAP * 3)
+                );
+    }
+
+    @Test
+    @DisplayName("같은 날짜의 기록 전체를 포함하지 않은 순서 변경 요청은 INVALID_ARGUMENT 예외가 발생한다")
+    void reorderRecordSequencesWithPartialRecordsTest() throws Exception {
+        //given
+        UserEntity writer = userRepository.save(UserEntityFixture.of("test@email.com"));
+        FeedEntity feedEntity = feedRepository.save(FeedEntityFixture.of(writer));
+        RecordEntity recordEntity1 = recordRepository.save(RecordEntityFixture.of(writer, feedEntity, 1));
+        recordRepository.save(RecordEntityFixture.of(writer, feedEntity, 2));
+
+        RecordSequenceReorderRequest request = RecordSequenceReorderRequest.builder()
+                .feedId(feedEntity.getId())
+                .date(recordEntity1.getDate())
+                .recordIds(List.of(recordEntity1.getId()))
+                .build();
+
+        //when //then
+        Assertions.assertThatThrownBy(() -> recordService.reorderRecordSequences(writer.getId(), request))
+                .isInstanceOf(CustomException.class)
+                .extracting("error")
+                .isEqualTo(INVALID_ARGUMENT);
+    }
+
+    @Test
+    @DisplayName("피드 수정 권한이 없는 사용자가 기록 순서 일괄 변경 요청하면 FORBIDDEN 예외가 발생한다")
+    void reorderRecordSequencesWhenUserForbiddenTest() throws Exception {
+        //given
+        UserEntity writer = userRepository.save(UserEntityFixture.of("test@email.com"));
+        UserEntity other = userRepository.save(UserEntityFixture.of("test1@email.com"));
+        FeedEntity feedEntity = feedRepository.save(FeedEntityFixture.of(writer));
+        RecordEntity recordEntity = recordRepository.save(RecordEntityFixture.of(writer, feedEntity, 1));
+
+        RecordSequenceReorderRequest request = RecordSequenceReorderRequest.builder()
+                .feedId(feedEntity.getId())
+                .date(recordEntity.getDate())
+                .recordIds(List.of(recordEntity.getId()))
+                .build();
+
+        //when //then
+        Assertions.assertThatThrownBy(() -> recordService.reorderRecordSequences(other.getId(), request))
+                .isInstanceOf(CustomException.class)
+                .extracting("error")
+                .isEqualTo(FORBIDDEN);
+    }
+
+    private RecordCreateRequest buildBatchItem(Long feedId, LocalDateTime date) {
+        return RecordCreateRequest.builder()
+                .feedId(feedId)
+                .title("title")
+                .date(date)
+                .place("place")
+                .latitude("latitude")
+                .longitude("longitude")
+                .feeling("feeling")
+                .weather("weather")
+                .transportation("satisfaction")
+                .content("content")
+                .build();
+    }
+}
@@ -85,6 +85,24 @@ class UserRecordLikeServiceTest extends AbstractIntegrationTest {
                 .untilAsserted(() -> Mockito.verify(mockEventListener, Mockito.times(1)).handleNotificationEventListener(Mockito.any()));
     }
 
+    @Test
+    @DisplayName("좋아요를 취소하면 대기 중인 좋아요 알림을 취소하는 이벤트를 발행한다")
+    void publishNotificationCancelEventWhenUnlikeTest() throws Exception {
+        //given
+        UserEntity writer = userRepository.save(UserEntityFixture.of("test@email.com"));
+        UserEntity viewer = userRepository.save(UserEntityFixture.of("test1@email.com"));
+        FeedEntity feedEntity = feedRepository.save(FeedEntityFixture.of(writer));
+        RecordEntity recordEntity = recordRepository.save(RecordEntityFixture.of(feedEntity));
+        userRecordLikeRepository.save(UserRecordLikeFixture.of(viewer, recordEntity));
+
+        //when
+        userRecordLikeService.toggleLike(viewer.getId(), recordEntity.getId());
+
+        //then
+        Mockito.verify(mockEventListener, Mockito.times(1)).handleNotificationCancelEventListener(Mockito.any());
+        Mockito.verify(mockEventListener, Mockito.never()).handleNotificationEventListener(Mockito.any());
+    }
+
     @Test
     @DisplayName("기록 작성자가 본인이 작성하였고 좋아요하지 않은 기록에 좋아요를 하면 기록 작성자를 향한 좋아요 알림을 생성하지 않는다")
     void createNotificationTestWhenWriterLikeOnRecordTest() throws Exception {
@@ -151,6 +151,26 @@ class UserServiceTest extends AbstractIntegrationTest {
         Assertions.assertThat(userContext.getId()).isEqualTo(userEntity.getId());
     }
 
+    @Test
+    @DisplayName("사용자 정보를 업데이트하면 캐시된 UserContext도 갱신된다")
+    void updateUserEvictsUserContextTest() throws Exception {
+        //given
+        UserEntity userEntity = userRepository.save(UserEntityFixture.of("test@email.com", "nickname"));
+        userService.getUserContextOrException(userEntity.getId());
+
+        String changedNickname = "changed nickname";
+        UserUpdateRequest updateRequest = UserUpdateRequest.builder()
+                .nickname(changedNickname)
+                .build();
+
+        //when
+        userService.updateUser(userEntity.getId(), updateRequest);
+
+        //then
+        Assertions.assertThat(userService.getUserContextOrException(userEntity.getId()).getNickname())
+                .isEqualTo(changedNickname);
+    }
+
     @Test
     @DisplayName("사용자가 존재하지 않으면 CustomException 예외가 발생한다")
     void loadUserContextByUserIdWhenUserNotFoundTest() throws Exception {